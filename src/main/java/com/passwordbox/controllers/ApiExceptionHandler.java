@@ -0,0 +1,92 @@
+package com.passwordbox.controllers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.passwordbox.dataTransferObjects.responses.ApiResponse;
+import com.passwordbox.exceptions.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    private static final String INTERNAL_ERROR_MESSAGE = "Something went wrong. Please try again later.";
+
+    private static final Map<Class<? extends Exception>, HttpStatus> STATUSES = Map.ofEntries(
+            Map.entry(UserNotFoundException.class, HttpStatus.UNAUTHORIZED),
+            Map.entry(InvalidPasswordException.class, HttpStatus.UNAUTHORIZED),
+            Map.entry(ProfileLockStateException.class, HttpStatus.FORBIDDEN),
+            Map.entry(LoginInfoNotFoundException.class, HttpStatus.NOT_FOUND),
+            Map.entry(NoteNotFoundException.class, HttpStatus.NOT_FOUND),
+            Map.entry(CreditCardNotFoundException.class, HttpStatus.NOT_FOUND),
+            Map.entry(WordlistNotFoundException.class, HttpStatus.NOT_FOUND),
+            Map.entry(WordlistUnavailableException.class, HttpStatus.SERVICE_UNAVAILABLE),
+            Map.entry(PreconditionFailedException.class, HttpStatus.PRECONDITION_FAILED),
+            Map.entry(UsernameExistsException.class, HttpStatus.CONFLICT),
+            Map.entry(DuplicateKeyException.class, HttpStatus.CONFLICT),
+            Map.entry(InvalidPasscodeLengthException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(InvalidInputException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(HttpMessageNotReadableException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(TypeMismatchException.class, HttpStatus.BAD_REQUEST),
+            Map.entry(BindException.class, HttpStatus.BAD_REQUEST)
+    );
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<byte[]> handleException(Exception exception) throws JsonProcessingException {
+        if (exception instanceof ErrorResponse errorResponse) {
+            String message = errorResponse.getBody().getDetail();
+            return response(errorResponse.getStatusCode(), serialize(message == null ? errorResponse.getStatusCode().toString() : message));
+        }
+        HttpStatus status = statusOf(exception);
+        if (status == null) {
+            LOGGER.error("Unhandled exception", exception);
+            return response(HttpStatus.INTERNAL_SERVER_ERROR, serialize(INTERNAL_ERROR_MESSAGE));
+        }
+        return response(status, payloadOf(exception));
+    }
+
+    private static ResponseEntity<byte[]> response(HttpStatusCode status, byte[] payload) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(payload);
+    }
+
+    private byte[] payloadOf(Exception exception) throws JsonProcessingException {
+        if (!(exception instanceof PasswordBoxException passwordBoxException)) return serialize(exception.getMessage());
+        byte[] payload = passwordBoxException.getSerializedPayload();
+        if (payload == null) {
+            payload = serialize(exception.getMessage());
+            passwordBoxException.setSerializedPayload(payload);
+        }
+        return payload;
+    }
+
+    private byte[] serialize(String message) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new ApiResponse(false, message));
+    }
+
+    private static HttpStatus statusOf(Exception exception) {
+        for (Class<?> type = exception.getClass(); type != Object.class; type = type.getSuperclass()) {
+            HttpStatus status = STATUSES.get(type);
+            if (status != null) return status;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,72 @@
+package com.passwordbox.controllers;
+
+import com.passwordbox.dataTransferObjects.requests.*;
+import com.passwordbox.dataTransferObjects.responses.ApiResponse;
+import com.passwordbox.dataTransferObjects.responses.ConditionalResponse;
+import com.passwordbox.services.ReactiveUserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserController {
+
+    @Autowired
+    private ReactiveUserService reactiveUserService;
+
+    @PatchMapping("/Logout")
+    public Mono<ResponseEntity<?>> logout(@RequestBody LogoutRequest logoutRequest) {
+        return reactiveUserService.logout(logoutRequest).map(logoutResponse -> new ResponseEntity<>(new ApiResponse(true, logoutResponse), HttpStatus.OK));
+    }
+
+    @PatchMapping("/Login")
+    public Mono<ResponseEntity<?>> login(@RequestBody LoginRequest loginRequest) {
+        return reactiveUserService.login(loginRequest).map(loginResponse -> new ResponseEntity<>(new ApiResponse(true, loginResponse), HttpStatus.OK));
+    }
+
+    @PostMapping("/SaveLoginInfo")
+    public Mono<ResponseEntity<?>> saveNewLoginInfo(@RequestBody SaveNewLoginInfoRequest saveNewLoginInfoRequest) {
+        return reactiveUserService.saveNewLoginInfo(saveNewLoginInfoRequest).map(saveNewLoginInfoResponse -> new ResponseEntity<>(new ApiResponse(true, saveNewLoginInfoResponse), HttpStatus.CREATED));
+    }
+
+    @GetMapping("/Users/{username}/LoginInfos/{title}")
+    public Mono<ResponseEntity<?>> viewLoginInfo(@PathVariable String username, @PathVariable String title, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ViewLoginInfoRequest viewLoginInfoRequest = new ViewLoginInfoRequest();
+        viewLoginInfoRequest.setUsername(username);
+        viewLoginInfoRequest.setTitle(title);
+        return reactiveUserService.viewLoginInfo(viewLoginInfoRequest, ifNoneMatch).map(ReactiveUserController::conditionalResponseEntity);
+    }
+
+    @PostMapping("/CreateNote")
+    public Mono<ResponseEntity<?>> createNote(@RequestBody CreateNoteRequest createNoteRequest) {
+        return reactiveUserService.createNote(createNoteRequest).map(createNoteResponse -> new ResponseEntity<>(new ApiResponse(true, createNoteResponse), HttpStatus.CREATED));
+    }
+
+    @GetMapping("/Users/{username}/Notes/{title}")
+    public Mono<ResponseEntity<?>> viewNote(@PathVariable String username, @PathVariable String title, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ViewNoteRequest viewNoteRequest = new ViewNoteRequest();
+        viewNoteRequest.setUsername(username);
+        viewNoteRequest.setTitle(title);
+        return reactiveUserService.viewNote(viewNoteRequest, ifNoneMatch).map(ReactiveUserController::conditionalResponseEntity);
+    }
+
+    @GetMapping("/Users/{username}/CreditCards/{title}")
+    public Mono<ResponseEntity<?>> viewCreditCard(@PathVariable String username, @PathVariable String title, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ViewCreditCardRequest viewCreditCardRequest = new ViewCreditCardRequest();
+        viewCreditCardRequest.setUsername(username);
+        viewCreditCardRequest.setTitle(title);
+        return reactiveUserService.viewCreditCard(viewCreditCardRequest, ifNoneMatch).map(ReactiveUserController::conditionalResponseEntity);
+    }
+
+    private static ResponseEntity<?> conditionalResponseEntity(ConditionalResponse<?> conditionalResponse) {
+        if (conditionalResponse.isNotModified()) return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(conditionalResponse.getETag()).build();
+        return ResponseEntity.ok().eTag(conditionalResponse.getETag()).cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new ApiResponse(true, conditionalResponse.getResponse()));
+    }
+}
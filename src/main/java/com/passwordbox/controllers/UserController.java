@@ -2,14 +2,18 @@ package com.passwordbox.controllers;
 
 import com.passwordbox.dataTransferObjects.requests.*;
 import com.passwordbox.dataTransferObjects.responses.ApiResponse;
-import com.passwordbox.dataTransferObjects.responses.ViewCreditCardResponse;
+import com.passwordbox.dataTransferObjects.responses.ConditionalResponse;
 import com.passwordbox.services.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UserController {
 
     @Autowired
@@ -17,170 +21,206 @@ public class UserController {
 
     @PostMapping("/Signup")
     public ResponseEntity<?> signUp(@RequestBody RegisterRequest registerRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.signUp(registerRequest)), HttpStatus.OK);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+        return new ResponseEntity<>(new ApiResponse(true, userService.signUp(registerRequest)), HttpStatus.OK);
     }
 
     @PatchMapping("/Logout")
     public ResponseEntity<?> logout(@RequestBody LogoutRequest logoutRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.logout(logoutRequest)), HttpStatus.OK);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+        return new ResponseEntity<>(new ApiResponse(true, userService.logout(logoutRequest)), HttpStatus.OK);
     }
 
     @PatchMapping("/Login")
     public ResponseEntity<?> login(@RequestBody LoginRequest loginRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.login(loginRequest)), HttpStatus.OK);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+        return new ResponseEntity<>(new ApiResponse(true, userService.login(loginRequest)), HttpStatus.OK);
     }
 
     @PostMapping("/SaveLoginInfo")
-    public ResponseEntity<?> saveNewLoginInfo(@RequestBody SaveNewLoginInfoRequest saveNewLoginInfoRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.saveNewLoginInfo(saveNewLoginInfoRequest)), HttpStatus.CREATED);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+    public ResponseEntity<?> saveNewLoginInfo(@RequestBody SaveNewLoginInfoRequest saveNewLoginInfoRequest) throws Exception {
+        return new ResponseEntity<>(new ApiResponse(true, userService.saveNewLoginInfo(saveNewLoginInfoRequest)), HttpStatus.CREATED);
     }
 
     @PatchMapping("/EditLoginInfo")
-    public ResponseEntity<?> editLoginInfo(@RequestBody EditLoginInfoRequest editLoginInfoRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.editLoginInfo(editLoginInfoRequest)), HttpStatus.OK);
-        } catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+    public ResponseEntity<?> editLoginInfo(@RequestBody EditLoginInfoRequest editLoginInfoRequest, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws Exception {
+        return conditionalResponseEntity(userService.editLoginInfo(editLoginInfoRequest, ifMatch));
+    }
+
+    @GetMapping("/Users/{username}/LoginInfos/{title}")
+    public ResponseEntity<?> viewLoginInfo(@PathVariable String username, @PathVariable String title, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
+        ViewLoginInfoRequest viewLoginInfoRequest = new ViewLoginInfoRequest();
+        viewLoginInfoRequest.setUsername(username);
+        viewLoginInfoRequest.setTitle(title);
+        return conditionalResponseEntity(userService.viewLoginInfo(viewLoginInfoRequest, ifNoneMatch));
     }
 
     @GetMapping("/ViewLoginInfo")
-    public ResponseEntity<?> viewLoginInfo(@RequestBody ViewLoginInfoRequest viewLoginInfoRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.viewLoginInfo(viewLoginInfoRequest)), HttpStatus.OK);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+    public ResponseEntity<?> viewLoginInfo(@RequestBody ViewLoginInfoRequest viewLoginInfoRequest) throws Exception {
+        return new ResponseEntity<>(new ApiResponse(true, userService.viewLoginInfo(viewLoginInfoRequest)), HttpStatus.OK);
     }
 
     @DeleteMapping("/DeleteLoginInfo")
     public ResponseEntity<?> deleteLoginInfo(@RequestBody DeleteLoginInfoRequest deleteLoginInfoRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.deleteLoginInfo(deleteLoginInfoRequest)), HttpStatus.OK);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+        return new ResponseEntity<>(new ApiResponse(true, userService.deleteLoginInfo(deleteLoginInfoRequest)), HttpStatus.OK);
+    }
+
+    @GetMapping("/Users/{username}/BreachedPasswords")
+    public ResponseEntity<?> checkBreachedPasswords(@PathVariable String username) throws Exception {
+        CheckBreachedPasswordsRequest checkBreachedPasswordsRequest = new CheckBreachedPasswordsRequest();
+        checkBreachedPasswordsRequest.setUsername(username);
+        return new ResponseEntity<>(new ApiResponse(true, userService.checkBreachedPasswords(checkBreachedPasswordsRequest)), HttpStatus.OK);
+    }
+
+    @GetMapping("/Users/{username}/VaultHealth")
+    public ResponseEntity<?> checkVaultHealth(@PathVariable String username) throws Exception {
+        VaultHealthRequest vaultHealthRequest = new VaultHealthRequest();
+        vaultHealthRequest.setUsername(username);
+        return new ResponseEntity<>(new ApiResponse(true, userService.checkVaultHealth(vaultHealthRequest)), HttpStatus.OK);
+    }
+
+    @GetMapping("/Users/{username}/Sync")
+    public ResponseEntity<?> sync(@PathVariable String username, @RequestParam(defaultValue = "0") long since) {
+        SyncRequest syncRequest = new SyncRequest();
+        syncRequest.setUsername(username);
+        syncRequest.setSince(since);
+        return new ResponseEntity<>(new ApiResponse(true, userService.sync(syncRequest)), HttpStatus.OK);
+    }
+
+    @GetMapping("/Users/{username}/LoginInfos")
+    public ResponseEntity<?> listLoginInfos(@PathVariable String username, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int limit) {
+        return new ResponseEntity<>(new ApiResponse(true, userService.listLoginInfos(listVaultItemsRequest(username, cursor, limit))), HttpStatus.OK);
+    }
+
+    @GetMapping("/Users/{username}/Notes")
+    public ResponseEntity<?> listNotes(@PathVariable String username, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int limit) {
+        return new ResponseEntity<>(new ApiResponse(true, userService.listNotes(listVaultItemsRequest(username, cursor, limit))), HttpStatus.OK);
+    }
+
+    @GetMapping("/Users/{username}/CreditCards")
+    public ResponseEntity<?> listCreditCards(@PathVariable String username, @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "50") int limit) {
+        return new ResponseEntity<>(new ApiResponse(true, userService.listCreditCards(listVaultItemsRequest(username, cursor, limit))), HttpStatus.OK);
+    }
+
+    @GetMapping("/Users/{username}/Search")
+    public ResponseEntity<?> search(@PathVariable String username, @RequestParam String query, @RequestParam(defaultValue = "20") int limit) {
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.setUsername(username);
+        searchRequest.setQuery(query);
+        searchRequest.setLimit(limit);
+        return new ResponseEntity<>(new ApiResponse(true, userService.search(searchRequest)), HttpStatus.OK);
+    }
+
+    @GetMapping("/Users/{username}/SearchNotes")
+    public ResponseEntity<?> searchNotes(@PathVariable String username, @RequestParam String query) throws Exception {
+        SearchNotesRequest searchNotesRequest = new SearchNotesRequest();
+        searchNotesRequest.setUsername(username);
+        searchNotesRequest.setQuery(query);
+        return new ResponseEntity<>(new ApiResponse(true, userService.searchNotes(searchNotesRequest)), HttpStatus.OK);
+    }
+
+    @GetMapping("/Users/{username}/MatchLogins")
+    public ResponseEntity<?> matchLogins(@PathVariable String username, @RequestParam String url) {
+        MatchLoginsRequest matchLoginsRequest = new MatchLoginsRequest();
+        matchLoginsRequest.setUsername(username);
+        matchLoginsRequest.setUrl(url);
+        return new ResponseEntity<>(new ApiResponse(true, userService.matchLogins(matchLoginsRequest)), HttpStatus.OK);
     }
 
     @PostMapping("/CreateNote")
-    public ResponseEntity<?> createNote(@RequestBody CreateNoteRequest createNoteRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.createNote(createNoteRequest)), HttpStatus.CREATED);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+    public ResponseEntity<?> createNote(@RequestBody CreateNoteRequest createNoteRequest) throws Exception {
+        return new ResponseEntity<>(new ApiResponse(true, userService.createNote(createNoteRequest)), HttpStatus.CREATED);
     }
 
     @PatchMapping("/EditNote")
-    public ResponseEntity<?> editNote(@RequestBody EditNoteRequest editNoteRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.editNote(editNoteRequest)), HttpStatus.OK);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+    public ResponseEntity<?> editNote(@RequestBody EditNoteRequest editNoteRequest, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws Exception {
+        return conditionalResponseEntity(userService.editNote(editNoteRequest, ifMatch));
+    }
+
+    @GetMapping("/Users/{username}/Notes/{title}")
+    public ResponseEntity<?> viewNote(@PathVariable String username, @PathVariable String title, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
+        ViewNoteRequest viewNoteRequest = new ViewNoteRequest();
+        viewNoteRequest.setUsername(username);
+        viewNoteRequest.setTitle(title);
+        return conditionalResponseEntity(userService.viewNote(viewNoteRequest, ifNoneMatch));
     }
 
     @GetMapping("/ViewNote")
-    public ResponseEntity<?> viewNote(@RequestBody ViewNoteRequest viewNoteRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.viewNote(viewNoteRequest)), HttpStatus.OK);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+    public ResponseEntity<?> viewNote(@RequestBody ViewNoteRequest viewNoteRequest) throws Exception {
+        return new ResponseEntity<>(new ApiResponse(true, userService.viewNote(viewNoteRequest)), HttpStatus.OK);
     }
 
     @GetMapping("/DeleteNote")
     public ResponseEntity<?> deleteNote(@RequestBody DeleteNoteRequest deleteNoteRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.deleteNote(deleteNoteRequest)), HttpStatus.OK);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+        return new ResponseEntity<>(new ApiResponse(true, userService.deleteNote(deleteNoteRequest)), HttpStatus.OK);
     }
 
     @PostMapping("/GeneratePassword")
     public ResponseEntity<?> generatePassword(@RequestBody GeneratePasswordRequest generatePasswordRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.generatePassword(generatePasswordRequest)), HttpStatus.CREATED);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+        return new ResponseEntity<>(new ApiResponse(true, userService.generatePassword(generatePasswordRequest)), HttpStatus.CREATED);
+    }
+
+    @PostMapping("/GeneratePassphrase")
+    public ResponseEntity<?> generatePassphrase(@RequestBody GeneratePassphraseRequest generatePassphraseRequest) {
+        return new ResponseEntity<>(new ApiResponse(true, userService.generatePassphrase(generatePassphraseRequest)), HttpStatus.CREATED);
     }
 
     @PostMapping("/GeneratePin")
     public ResponseEntity<?> generatePin(@RequestBody GeneratePinRequest generatePinRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.generatePin(generatePinRequest)), HttpStatus.CREATED);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+        return new ResponseEntity<>(new ApiResponse(true, userService.generatePin(generatePinRequest)), HttpStatus.CREATED);
+    }
+
+    @PostMapping("/GeneratePasswords")
+    public ResponseEntity<?> generatePasswords(@RequestBody GeneratePasswordsRequest generatePasswordsRequest) {
+        return new ResponseEntity<>(new ApiResponse(true, userService.generatePasswords(generatePasswordsRequest)), HttpStatus.CREATED);
+    }
+
+    @PostMapping("/GeneratePins")
+    public ResponseEntity<?> generatePins(@RequestBody GeneratePinsRequest generatePinsRequest) {
+        return new ResponseEntity<>(new ApiResponse(true, userService.generatePins(generatePinsRequest)), HttpStatus.CREATED);
     }
 
     @PostMapping("/SaveCreditCard")
-    public ResponseEntity<?> saveCreditCard(@RequestBody SaveCreditCardRequest saveCreditCardRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.saveCreditCard(saveCreditCardRequest)), HttpStatus.CREATED);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+    public ResponseEntity<?> saveCreditCard(@RequestBody SaveCreditCardRequest saveCreditCardRequest) throws Exception {
+        return new ResponseEntity<>(new ApiResponse(true, userService.saveCreditCard(saveCreditCardRequest)), HttpStatus.CREATED);
     }
 
     @PatchMapping("/EditCreditCard")
-    public ResponseEntity<?> editCreditCard(@RequestBody EditCreditCardRequest editCreditCardRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.editCreditCard(editCreditCardRequest)), HttpStatus.OK);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+    public ResponseEntity<?> editCreditCard(@RequestBody EditCreditCardRequest editCreditCardRequest, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) throws Exception {
+        return conditionalResponseEntity(userService.editCreditCard(editCreditCardRequest, ifMatch));
+    }
+
+    @GetMapping("/Users/{username}/CreditCards/{title}")
+    public ResponseEntity<?> viewCreditCard(@PathVariable String username, @PathVariable String title, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) throws Exception {
+        ViewCreditCardRequest viewCreditCardRequest = new ViewCreditCardRequest();
+        viewCreditCardRequest.setUsername(username);
+        viewCreditCardRequest.setTitle(title);
+        return conditionalResponseEntity(userService.viewCreditCard(viewCreditCardRequest, ifNoneMatch));
     }
 
     @GetMapping("/ViewCreditCard")
-    public ResponseEntity<?> viewCreditCard(@RequestBody ViewCreditCardRequest viewCreditCardRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.viewCreditCard(viewCreditCardRequest)), HttpStatus.OK);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+    public ResponseEntity<?> viewCreditCard(@RequestBody ViewCreditCardRequest viewCreditCardRequest) throws Exception {
+        return new ResponseEntity<>(new ApiResponse(true, userService.viewCreditCard(viewCreditCardRequest)), HttpStatus.OK);
     }
 
     @DeleteMapping("/DeleteCreditCard")
     public ResponseEntity<?> deleteCreditCard(@RequestBody DeleteCreditCardRequest deleteCreditCardRequest) {
-        try {
-            return new ResponseEntity<>(new ApiResponse(true, userService.deleteCreditCard(deleteCreditCardRequest)), HttpStatus.OK);
-        }
-        catch (Exception error) {
-            return new ResponseEntity<>(new ApiResponse(false, error.getMessage()), HttpStatus.BAD_REQUEST);
-        }
+        return new ResponseEntity<>(new ApiResponse(true, userService.deleteCreditCard(deleteCreditCardRequest)), HttpStatus.OK);
+    }
+
+    @PostMapping("/ClassifyCreditCards")
+    public ResponseEntity<?> classifyCreditCards(@RequestBody ClassifyCreditCardsRequest classifyCreditCardsRequest) {
+        return new ResponseEntity<>(new ApiResponse(true, userService.classifyCreditCards(classifyCreditCardsRequest)), HttpStatus.OK);
+    }
+
+    private static ResponseEntity<?> conditionalResponseEntity(ConditionalResponse<?> conditionalResponse) {
+        if (conditionalResponse.isNotModified()) return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(conditionalResponse.getETag()).build();
+        return ResponseEntity.ok().eTag(conditionalResponse.getETag()).cacheControl(CacheControl.noCache().cachePrivate())
+                .body(new ApiResponse(true, conditionalResponse.getResponse()));
+    }
+
+    private static ListVaultItemsRequest listVaultItemsRequest(String username, String cursor, int limit) {
+        ListVaultItemsRequest listVaultItemsRequest = new ListVaultItemsRequest();
+        listVaultItemsRequest.setUsername(username);
+        listVaultItemsRequest.setCursor(cursor);
+        listVaultItemsRequest.setLimit(limit);
+        return listVaultItemsRequest;
     }
 }
@@ -0,0 +1,5 @@
+package com.passwordbox.data.models;
+
+public enum ChangeOperation {
+    CREATED, UPDATED, DELETED
+}
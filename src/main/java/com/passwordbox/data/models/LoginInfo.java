@@ -2,15 +2,21 @@ package com.passwordbox.data.models;
 
 import lombok.Data;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
 
 @Data
-@Document("LoginInfos")
 public class LoginInfo {
     @Id
     private String id;
     private String title;
     private String website;
+    private String domain;
     private String loginId;
     private String password;
+    private boolean breached;
+    private int strengthScore;
+    private String passwordFingerprint;
+    private LocalDate passwordChangedAt;
+    private long version;
 }
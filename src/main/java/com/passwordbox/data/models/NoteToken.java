@@ -0,0 +1,15 @@
+package com.passwordbox.data.models;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Document("NoteTokens")
+public class NoteToken {
+    @Id
+    private String id;
+    private String vaultId;
+    private String noteId;
+    private String token;
+}
@@ -0,0 +1,20 @@
+package com.passwordbox.data.models;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+public record PasswordHealth(String fingerprint, int strengthScore, String changedMonth) {
+
+    public static final String UNKNOWN_MONTH = "unknown";
+
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    public static PasswordHealth of(LoginInfo loginInfo) {
+        if (loginInfo.getPasswordFingerprint() == null) return null;
+        return new PasswordHealth(loginInfo.getPasswordFingerprint(), loginInfo.getStrengthScore(), monthOf(loginInfo.getPasswordChangedAt()));
+    }
+
+    public static String monthOf(LocalDate date) {
+        return date == null ? UNKNOWN_MONTH : date.format(MONTH);
+    }
+}
@@ -18,7 +18,7 @@ public class User {
     private String email;
     private String masterPassword;
     private boolean isLocked;
-    @DBRef
+    @DBRef(lazy = true)
     private Vault vault;
     private LocalDate dateOfRegistration = LocalDate.now();
 
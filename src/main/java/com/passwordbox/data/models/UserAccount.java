@@ -0,0 +1,22 @@
+package com.passwordbox.data.models;
+
+import com.mongodb.DBRef;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@Document("Users")
+public class UserAccount {
+    @Id
+    private String id;
+    private String username;
+    private String masterPassword;
+    private boolean isLocked;
+    private DBRef vault;
+
+    public String getVaultId() {
+        if (vault == null) return null;
+        return vault.getId().toString();
+    }
+}
@@ -1,22 +1,209 @@
 package com.passwordbox.data.models;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 @Data
 @Document("Vaults")
 public class Vault {
     @Id
     private String id;
-    @DBRef
     private List<LoginInfo> loginInfos = new ArrayList<>();
-    @DBRef
     private List<Note> notes = new ArrayList<>();
-    @DBRef
     private List<CreditCard> creditCards = new ArrayList<>();
- }
\ No newline at end of file
+    private long version;
+    private String wrappedDataKey;
+    private VaultHealth health = new VaultHealth();
+    private long changeSequence;
+    private List<VaultChange> changes = new ArrayList<>();
+
+    @Transient @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient volatile Map<String, LoginInfo> loginInfosByTitle;
+    @Transient @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient volatile Map<String, Note> notesByTitle;
+    @Transient @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient volatile Map<String, CreditCard> creditCardsByTitle;
+    @Transient @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient volatile List<LoginInfo> loginInfosInTitleOrder;
+    @Transient @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient volatile Map<String, List<LoginInfo>> loginInfosByDomain;
+    @Transient @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient volatile List<Note> notesInTitleOrder;
+    @Transient @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE) @ToString.Exclude
+    private transient volatile List<CreditCard> creditCardsInTitleOrder;
+
+    public void setLoginInfos(List<LoginInfo> loginInfos) {
+        this.loginInfos = loginInfos;
+        loginInfosByTitle = null;
+        loginInfosInTitleOrder = null;
+        loginInfosByDomain = null;
+    }
+
+    public void setNotes(List<Note> notes) {
+        this.notes = notes;
+        notesByTitle = null;
+        notesInTitleOrder = null;
+    }
+
+    public void setCreditCards(List<CreditCard> creditCards) {
+        this.creditCards = creditCards;
+        creditCardsByTitle = null;
+        creditCardsInTitleOrder = null;
+    }
+
+    public void recordChange(VaultChange change, int retainedChanges) {
+        changes.add(change);
+        if (changes.size() > retainedChanges) changes.subList(0, changes.size() - retainedChanges).clear();
+        changeSequence++;
+    }
+
+    public LoginInfo findLoginInfo(String title) {
+        if (loginInfosByTitle == null) loginInfosByTitle = indexByTitle(loginInfos, LoginInfo::getTitle);
+        return loginInfosByTitle.get(title);
+    }
+
+    public List<LoginInfo> findLoginInfosAfter(String title, int limit) {
+        if (loginInfosInTitleOrder == null) loginInfosInTitleOrder = sortByTitle(loginInfos, LoginInfo::getTitle);
+        return pageAfter(loginInfosInTitleOrder, LoginInfo::getTitle, title, limit);
+    }
+
+    public List<LoginInfo> findLoginInfosByDomain(String domain, Function<String, String> registrableDomainOf) {
+        if (loginInfosByDomain == null) loginInfosByDomain = indexByDomain(loginInfos, registrableDomainOf);
+        return loginInfosByDomain.getOrDefault(domain, List.of());
+    }
+
+    public void addLoginInfo(LoginInfo loginInfo) {
+        loginInfos.add(loginInfo);
+        loginInfosInTitleOrder = null;
+        loginInfosByDomain = null;
+        if (loginInfosByTitle != null) loginInfosByTitle.putIfAbsent(loginInfo.getTitle(), loginInfo);
+    }
+
+    public void removeLoginInfo(String title) {
+        LoginInfo loginInfo = findLoginInfo(title);
+        if (loginInfo == null) return;
+        loginInfosByTitle.remove(title);
+        removeByIdentity(loginInfos, loginInfo);
+        loginInfosInTitleOrder = null;
+        loginInfosByDomain = null;
+    }
+
+    public void reindexLoginInfos() {
+        loginInfosByTitle = null;
+        loginInfosInTitleOrder = null;
+        loginInfosByDomain = null;
+    }
+
+    public Note findNote(String title) {
+        if (notesByTitle == null) notesByTitle = indexByTitle(notes, Note::getTitle);
+        return notesByTitle.get(title);
+    }
+
+    public List<Note> findNotesAfter(String title, int limit) {
+        if (notesInTitleOrder == null) notesInTitleOrder = sortByTitle(notes, Note::getTitle);
+        return pageAfter(notesInTitleOrder, Note::getTitle, title, limit);
+    }
+
+    public void addNote(Note note) {
+        notes.add(note);
+        notesInTitleOrder = null;
+        if (notesByTitle != null) notesByTitle.putIfAbsent(note.getTitle(), note);
+    }
+
+    public void removeNote(String title) {
+        Note note = findNote(title);
+        if (note == null) return;
+        notesByTitle.remove(title);
+        removeByIdentity(notes, note);
+        notesInTitleOrder = null;
+    }
+
+    public void reindexNotes() {
+        notesByTitle = null;
+        notesInTitleOrder = null;
+    }
+
+    public CreditCard findCreditCard(String title) {
+        if (creditCardsByTitle == null) creditCardsByTitle = indexByTitle(creditCards, CreditCard::getTitle);
+        return creditCardsByTitle.get(title);
+    }
+
+    public List<CreditCard> findCreditCardsAfter(String title, int limit) {
+        if (creditCardsInTitleOrder == null) creditCardsInTitleOrder = sortByTitle(creditCards, CreditCard::getTitle);
+        return pageAfter(creditCardsInTitleOrder, CreditCard::getTitle, title, limit);
+    }
+
+    public void addCreditCard(CreditCard creditCard) {
+        creditCards.add(creditCard);
+        creditCardsInTitleOrder = null;
+        if (creditCardsByTitle != null) creditCardsByTitle.putIfAbsent(creditCard.getTitle(), creditCard);
+    }
+
+    public void removeCreditCard(String title) {
+        CreditCard creditCard = findCreditCard(title);
+        if (creditCard == null) return;
+        creditCardsByTitle.remove(title);
+        removeByIdentity(creditCards, creditCard);
+        creditCardsInTitleOrder = null;
+    }
+
+    public void reindexCreditCards() {
+        creditCardsByTitle = null;
+        creditCardsInTitleOrder = null;
+    }
+
+    private static <T> Map<String, T> indexByTitle(List<T> items, Function<T, String> titleOf) {
+        Map<String, T> index = new HashMap<>(Math.max(16, items.size() * 2));
+        for (T item : items) index.putIfAbsent(titleOf.apply(item), item);
+        return index;
+    }
+
+    private static Map<String, List<LoginInfo>> indexByDomain(List<LoginInfo> loginInfos, Function<String, String> registrableDomainOf) {
+        Map<String, List<LoginInfo>> index = new HashMap<>(Math.max(16, loginInfos.size() * 2));
+        for (LoginInfo loginInfo : loginInfos) {
+            String domain = loginInfo.getDomain() != null ? loginInfo.getDomain() : registrableDomainOf.apply(loginInfo.getWebsite());
+            if (domain != null) index.computeIfAbsent(domain, key -> new ArrayList<>(1)).add(loginInfo);
+        }
+        return index;
+    }
+
+    private static <T> List<T> sortByTitle(List<T> items, Function<T, String> titleOf) {
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparing(titleOf, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return sorted;
+    }
+
+    private static <T> List<T> pageAfter(List<T> sorted, Function<T, String> titleOf, String title, int limit) {
+        int low = 0;
+        int high = sorted.size();
+        while (title != null && low < high) {
+            int middle = (low + high) >>> 1;
+            String middleTitle = titleOf.apply(sorted.get(middle));
+            if (middleTitle == null || middleTitle.compareTo(title) <= 0) low = middle + 1;
+            else high = middle;
+        }
+        return List.copyOf(sorted.subList(low, Math.min(sorted.size(), low + limit)));
+    }
+
+    private static <T> void removeByIdentity(List<T> items, T item) {
+        for (int count = 0; count < items.size(); count++) {
+            if (items.get(count) == item) {
+                items.remove(count);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.passwordbox.data.models;
+
+public record VaultChange(VaultItemType itemType, String itemId, String title, ChangeOperation operation) {
+}
@@ -0,0 +1,31 @@
+package com.passwordbox.data.models;
+
+import lombok.Data;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+public class VaultHealth {
+    private int loginInfos;
+    private Map<String, Integer> fingerprints = new HashMap<>();
+    private Map<String, Integer> strengthScores = new HashMap<>();
+    private Map<String, Integer> passwordMonths = new HashMap<>();
+
+    public void record(PasswordHealth removed, PasswordHealth added) {
+        if (removed != null) apply(removed, -1);
+        if (added != null) apply(added, 1);
+    }
+
+    private void apply(PasswordHealth passwordHealth, int delta) {
+        loginInfos += delta;
+        fingerprints.merge(passwordHealth.fingerprint(), delta, VaultHealth::sum);
+        strengthScores.merge(String.valueOf(passwordHealth.strengthScore()), delta, VaultHealth::sum);
+        passwordMonths.merge(passwordHealth.changedMonth(), delta, VaultHealth::sum);
+    }
+
+    private static Integer sum(Integer count, Integer delta) {
+        int sum = count + delta;
+        return sum == 0 ? null : sum;
+    }
+}
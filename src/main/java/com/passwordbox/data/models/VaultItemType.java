@@ -0,0 +1,5 @@
+package com.passwordbox.data.models;
+
+public enum VaultItemType {
+    LOGIN_INFO, NOTE, CREDIT_CARD
+}
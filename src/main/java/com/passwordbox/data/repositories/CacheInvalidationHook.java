@@ -0,0 +1,9 @@
+package com.passwordbox.data.repositories;
+
+public interface CacheInvalidationHook {
+
+    void vaultChanged(String vaultId);
+
+    void userChanged(String username);
+
+}
@@ -0,0 +1,30 @@
+package com.passwordbox.data.repositories;
+
+import com.passwordbox.data.models.NoteToken;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NoteTokenIndexes {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void createIndexes() {
+        Index tokenIndex = new Index().on("vaultId", Sort.Direction.ASC)
+                .on("token", Sort.Direction.ASC)
+                .on("noteId", Sort.Direction.ASC)
+                .unique()
+                .named("vault_token_note");
+        Index noteIndex = new Index().on("vaultId", Sort.Direction.ASC)
+                .on("noteId", Sort.Direction.ASC)
+                .named("vault_note");
+        mongoTemplate.indexOps(NoteToken.class).ensureIndex(tokenIndex);
+        mongoTemplate.indexOps(NoteToken.class).ensureIndex(noteIndex);
+    }
+}
@@ -0,0 +1,13 @@
+package com.passwordbox.data.repositories;
+
+import com.passwordbox.data.models.NoteToken;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NoteTokenRepository extends MongoRepository<NoteToken, String> {
+
+    List<NoteToken> findByVaultIdAndTokenIn(String vaultId, Collection<String> tokens);
+
+}
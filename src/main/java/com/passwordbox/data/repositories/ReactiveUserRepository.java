@@ -0,0 +1,20 @@
+package com.passwordbox.data.repositories;
+
+import com.passwordbox.data.models.UserAccount;
+import org.springframework.data.mongodb.core.annotation.Collation;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
+import reactor.core.publisher.Mono;
+
+import static com.passwordbox.data.repositories.UserRepository.USERNAME_COLLATION;
+
+public interface ReactiveUserRepository extends ReactiveMongoRepository<UserAccount, String> {
+
+    @Collation(USERNAME_COLLATION)
+    Mono<UserAccount> findByUsername(String username);
+
+    @Query("{ '_id' : ?0 }")
+    @Update("{ '$set' : { 'isLocked' : ?1 } }")
+    Mono<Long> updateLockedById(String id, boolean isLocked);
+}
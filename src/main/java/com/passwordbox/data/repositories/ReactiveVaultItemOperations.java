@@ -0,0 +1,25 @@
+package com.passwordbox.data.repositories;
+
+import com.passwordbox.data.models.CreditCard;
+import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.Note;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveVaultItemOperations {
+
+    Mono<String> findWrappedDataKey(String vaultId);
+
+    Mono<LoginInfo> findLoginInfo(String vaultId, String title);
+
+    Mono<Boolean> existsLoginInfoTitle(String vaultId, String title);
+
+    Mono<Void> pushLoginInfo(String vaultId, LoginInfo loginInfo, int retainedChanges);
+
+    Mono<Note> findNote(String vaultId, String title);
+
+    Mono<Boolean> existsNoteTitle(String vaultId, String title);
+
+    Mono<Void> pushNote(String vaultId, Note note, int retainedChanges);
+
+    Mono<CreditCard> findCreditCard(String vaultId, String title);
+}
@@ -0,0 +1,102 @@
+package com.passwordbox.data.repositories;
+
+import com.passwordbox.data.models.ChangeOperation;
+import com.passwordbox.data.models.CreditCard;
+import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.Note;
+import com.passwordbox.data.models.PasswordHealth;
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.data.models.VaultChange;
+import com.passwordbox.data.models.VaultItemType;
+import com.passwordbox.exceptions.InvalidInputException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.passwordbox.data.repositories.VaultItemOperationsImpl.changeUpdate;
+import static com.passwordbox.data.repositories.VaultItemOperationsImpl.healthDeltas;
+import static com.passwordbox.data.repositories.VaultItemOperationsImpl.titleQuery;
+import static com.passwordbox.data.repositories.VaultItemOperationsImpl.untitledQuery;
+import static com.passwordbox.data.repositories.VaultItemOperationsImpl.VAULT_FULL_MESSAGE;
+import static com.passwordbox.data.repositories.VaultItemOperationsImpl.vaultQuery;
+import static com.passwordbox.data.repositories.VaultItemOperationsImpl.withinSizeLimit;
+
+public class ReactiveVaultItemOperationsImpl implements ReactiveVaultItemOperations {
+
+    private static final String LOGIN_INFOS = "loginInfos";
+    private static final String NOTES = "notes";
+    private static final String CREDIT_CARDS = "creditCards";
+    private static final String VERSION = "version";
+    private static final String WRAPPED_DATA_KEY = "wrappedDataKey";
+
+    @Autowired
+    private ReactiveMongoTemplate reactiveMongoTemplate;
+
+    @Override
+    public Mono<String> findWrappedDataKey(String vaultId) {
+        Query query = vaultQuery(vaultId);
+        query.fields().include(WRAPPED_DATA_KEY);
+        return reactiveMongoTemplate.findOne(query, Vault.class).mapNotNull(Vault::getWrappedDataKey);
+    }
+
+    @Override
+    public Mono<LoginInfo> findLoginInfo(String vaultId, String title) {
+        return find(vaultId, LOGIN_INFOS, title, Vault::getLoginInfos);
+    }
+
+    @Override
+    public Mono<Boolean> existsLoginInfoTitle(String vaultId, String title) {
+        return exists(vaultId, LOGIN_INFOS, title);
+    }
+
+    @Override
+    public Mono<Void> pushLoginInfo(String vaultId, LoginInfo loginInfo, int retainedChanges) {
+        Update update = new Update().push(LOGIN_INFOS, loginInfo).inc(VERSION, 1);
+        healthDeltas(null, PasswordHealth.of(loginInfo)).forEach(update::inc);
+        changeUpdate(update, new VaultChange(VaultItemType.LOGIN_INFO, loginInfo.getId(), loginInfo.getTitle(), ChangeOperation.CREATED), retainedChanges);
+        return push(untitledQuery(vaultId, LOGIN_INFOS, loginInfo.getTitle()), update, "Title already exists. Please enter a different title");
+    }
+
+    @Override
+    public Mono<Note> findNote(String vaultId, String title) {
+        return find(vaultId, NOTES, title, Vault::getNotes);
+    }
+
+    @Override
+    public Mono<Boolean> existsNoteTitle(String vaultId, String title) {
+        return exists(vaultId, NOTES, title);
+    }
+
+    @Override
+    public Mono<Void> pushNote(String vaultId, Note note, int retainedChanges) {
+        Update update = new Update().push(NOTES, note).inc(VERSION, 1);
+        changeUpdate(update, new VaultChange(VaultItemType.NOTE, note.getId(), note.getTitle(), ChangeOperation.CREATED), retainedChanges);
+        return push(untitledQuery(vaultId, NOTES, note.getTitle()), update, "Title Already Exists. Please enter a different title");
+    }
+
+    @Override
+    public Mono<CreditCard> findCreditCard(String vaultId, String title) {
+        return find(vaultId, CREDIT_CARDS, title, Vault::getCreditCards);
+    }
+
+    private Mono<Void> push(Query query, Update update, String titleExistsMessage) {
+        return reactiveMongoTemplate.updateFirst(Query.of(query).addCriteria(withinSizeLimit()), update, Vault.class)
+                .flatMap(result -> result.getMatchedCount() > 0 ? Mono.<Void>empty() : reactiveMongoTemplate.exists(query, Vault.class)
+                        .flatMap(untitled -> Mono.error(new InvalidInputException(untitled ? VAULT_FULL_MESSAGE : titleExistsMessage))));
+    }
+
+    private <T> Mono<T> find(String vaultId, String items, String title, Function<Vault, List<T>> itemsOf) {
+        Query query = titleQuery(vaultId, items, title);
+        query.fields().position(items, 1);
+        return reactiveMongoTemplate.findOne(query, Vault.class).mapNotNull(vault -> itemsOf.apply(vault).stream().findFirst().orElse(null));
+    }
+
+    private Mono<Boolean> exists(String vaultId, String items, String title) {
+        return reactiveMongoTemplate.exists(titleQuery(vaultId, items, title), Vault.class);
+    }
+}
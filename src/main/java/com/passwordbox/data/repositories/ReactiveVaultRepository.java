@@ -0,0 +1,7 @@
+package com.passwordbox.data.repositories;
+
+import com.passwordbox.data.models.Vault;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ReactiveVaultRepository extends ReactiveMongoRepository<Vault, String>, ReactiveVaultItemOperations {
+}
@@ -0,0 +1,234 @@
+package com.passwordbox.data.repositories;
+
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Component
+public class UnitOfWork {
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final String ID = "_id";
+    private static final String INC = "$inc";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private final ThreadLocal<PendingWrites> pendingWrites = new ThreadLocal<>();
+
+    public <T, E extends Exception> T execute(Work<T, E> work) throws E {
+        if (pendingWrites.get() != null) return work.execute();
+        pendingWrites.set(new PendingWrites());
+        try {
+            T result = work.execute();
+            flush();
+            pendingWrites.get().afterCommit.forEach(Runnable::run);
+            return result;
+        } finally {
+            pendingWrites.remove();
+        }
+    }
+
+    public void registerNew(Object entity) {
+        PendingWrites writes = pendingWrites.get();
+        if (writes != null) writes.newEntities.add(entity);
+        register(entity.getClass(), bulkOperations -> bulkOperations.insert(entity));
+    }
+
+    public void registerDirty(Object entity) {
+        PendingWrites writes = pendingWrites.get();
+        if (writes != null && !writes.dirtyEntities.add(entity)) return;
+        Object id = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(entity.getClass())
+                .getIdentifierAccessor(entity).getRequiredIdentifier();
+        register(entity.getClass(), bulkOperations ->
+                bulkOperations.replaceOne(new Query(where("_id").is(id)), entity, FindAndReplaceOptions.options().upsert()));
+    }
+
+    public void afterCommit(Runnable action) {
+        PendingWrites writes = pendingWrites.get();
+        if (writes == null) action.run();
+        else writes.afterCommit.add(action);
+    }
+
+    public void registerUpdate(Class<?> entityClass, Query query, Update update) {
+        PendingWrites writes = pendingWrites.get();
+        if (writes == null || !query.getQueryObject().keySet().equals(Set.of(ID))) {
+            register(entityClass, bulkOperations -> bulkOperations.updateOne(query, update));
+            return;
+        }
+        DocumentWrite documentWrite = new DocumentWrite(entityClass, query.getQueryObject(), update, null);
+        for (DocumentWrite guardedWrite : writes.guardedWrites) if (guardedWrite.absorb(documentWrite)) return;
+        for (DocumentWrite pendingWrite : writes.documentWrites) if (pendingWrite.absorb(documentWrite)) return;
+        documentWrite.bulkWrite = bulkOperations -> bulkOperations.updateOne(new BasicQuery(documentWrite.query), documentWrite.update);
+        writes.documentWrites.add(documentWrite);
+        register(entityClass, documentWrite.bulkWrite);
+    }
+
+    public void registerDelete(Class<?> entityClass, Query query) {
+        register(entityClass, bulkOperations -> bulkOperations.remove(query));
+    }
+
+    public void registerGuardedUpdate(Class<?> entityClass, Query query, Update update, Supplier<? extends RuntimeException> onMismatch) {
+        DocumentWrite guardedWrite = new DocumentWrite(entityClass, query.getQueryObject(), update, onMismatch);
+        PendingWrites writes = pendingWrites.get();
+        if (writes == null) {
+            apply(guardedWrite);
+            return;
+        }
+        Iterator<DocumentWrite> documentWrites = writes.documentWrites.iterator();
+        while (documentWrites.hasNext()) {
+            DocumentWrite pendingWrite = documentWrites.next();
+            if (!guardedWrite.absorb(pendingWrite)) continue;
+            documentWrites.remove();
+            writes.unregister(pendingWrite.entityClass, pendingWrite.bulkWrite);
+        }
+        writes.guardedWrites.add(guardedWrite);
+    }
+
+    private void register(Class<?> entityClass, Consumer<BulkOperations> write) {
+        PendingWrites writes = pendingWrites.get();
+        if (writes == null) {
+            BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.ORDERED, entityClass);
+            write.accept(bulkOperations);
+            execute(bulkOperations);
+            return;
+        }
+        writes.writesByEntity.computeIfAbsent(entityClass, key -> new ArrayList<>()).add(write);
+    }
+
+    private void flush() {
+        PendingWrites writes = pendingWrites.get();
+        writes.guardedWrites.forEach(this::apply);
+        try {
+            writes.writesByEntity.forEach((entityClass, entityWrites) -> {
+                BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkMode.ORDERED, entityClass);
+                entityWrites.forEach(write -> write.accept(bulkOperations));
+                execute(bulkOperations);
+            });
+        } catch (RuntimeException exception) {
+            removeNewEntities(writes.newEntities, exception);
+            throw exception;
+        }
+    }
+
+    private void removeNewEntities(List<Object> newEntities, RuntimeException cause) {
+        for (Object entity : newEntities) {
+            try {
+                mongoTemplate.remove(entity);
+            } catch (RuntimeException exception) {
+                cause.addSuppressed(exception);
+            }
+        }
+    }
+
+    private void apply(DocumentWrite guardedWrite) {
+        UpdateResult result = mongoTemplate.updateFirst(new BasicQuery(guardedWrite.query), guardedWrite.update, guardedWrite.entityClass);
+        if (result.getMatchedCount() == 0) throw guardedWrite.onMismatch.get();
+    }
+
+    private static void execute(BulkOperations bulkOperations) {
+        try {
+            bulkOperations.execute();
+        } catch (BulkOperationException exception) {
+            if (exception.getErrors().stream().anyMatch(error -> error.getCode() == DUPLICATE_KEY))
+                throw new DuplicateKeyException(exception.getMessage(), exception);
+            throw exception;
+        }
+    }
+
+    @FunctionalInterface
+    public interface Work<T, E extends Exception> {
+        T execute() throws E;
+    }
+
+    private static final class DocumentWrite {
+        private final Class<?> entityClass;
+        private final Supplier<? extends RuntimeException> onMismatch;
+        private final Document query;
+        private Update update;
+        private Consumer<BulkOperations> bulkWrite;
+
+        private DocumentWrite(Class<?> entityClass, Document query, Update update, Supplier<? extends RuntimeException> onMismatch) {
+            this.entityClass = entityClass;
+            this.query = query;
+            this.update = update;
+            this.onMismatch = onMismatch;
+        }
+
+        private boolean absorb(DocumentWrite other) {
+            if (entityClass != other.entityClass || other.onMismatch != null) return false;
+            if (!Objects.equals(query.get(ID), other.query.get(ID))) return false;
+            Update mergedUpdate = mergeUpdates(update, other.update);
+            if (mergedUpdate == null) return false;
+            update = mergedUpdate;
+            return true;
+        }
+    }
+
+    static Update mergeUpdates(Update first, Update second) {
+        Document merged = new Document();
+        first.getUpdateObject().forEach((operator, fields) -> merged.put(operator, new Document((Document) fields)));
+        for (Map.Entry<String, Object> operation : second.getUpdateObject().entrySet()) {
+            for (Map.Entry<String, Object> field : ((Document) operation.getValue()).entrySet()) {
+                Document fields = (Document) merged.get(operation.getKey());
+                if (INC.equals(operation.getKey()) && fields != null && fields.get(field.getKey()) instanceof Number current) {
+                    Number total = sum(current, (Number) field.getValue());
+                    if (total.longValue() == 0) fields.remove(field.getKey());
+                    else fields.put(field.getKey(), total);
+                    continue;
+                }
+                if (touches(merged, field.getKey())) return null;
+                if (fields == null) merged.put(operation.getKey(), fields = new Document());
+                fields.put(field.getKey(), field.getValue());
+            }
+        }
+        merged.values().removeIf(fields -> ((Document) fields).isEmpty());
+        return Update.fromDocument(merged);
+    }
+
+    private static boolean touches(Document update, String path) {
+        for (Object fields : update.values()) {
+            for (String key : ((Document) fields).keySet()) {
+                if (key.equals(path) || key.startsWith(path + ".") || path.startsWith(key + ".")) return true;
+            }
+        }
+        return false;
+    }
+
+    private static Number sum(Number first, Number second) {
+        if (first instanceof Integer && second instanceof Integer) return first.intValue() + second.intValue();
+        return first.longValue() + second.longValue();
+    }
+
+    private static class PendingWrites {
+        private final List<DocumentWrite> guardedWrites = new ArrayList<>();
+        private final List<DocumentWrite> documentWrites = new ArrayList<>();
+        private final List<Object> newEntities = new ArrayList<>();
+        private final Map<Class<?>, List<Consumer<BulkOperations>>> writesByEntity = new LinkedHashMap<>();
+        private final Set<Object> dirtyEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final List<Runnable> afterCommit = new ArrayList<>();
+
+        private void unregister(Class<?> entityClass, Consumer<BulkOperations> write) {
+            List<Consumer<BulkOperations>> entityWrites = writesByEntity.get(entityClass);
+            entityWrites.remove(write);
+            if (entityWrites.isEmpty()) writesByEntity.remove(entityClass);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.passwordbox.data.repositories;
+
+import com.passwordbox.data.models.User;
+import com.passwordbox.data.models.Vault;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.convert.LazyLoadingProxy;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@ManagedResource(objectName = "com.passwordbox:type=Cache,name=userCache")
+public class UserCache {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VaultRepository vaultRepository;
+
+    @Autowired(required = false)
+    private List<CacheInvalidationHook> invalidationHooks = List.of();
+
+    @Value("${passwordbox.cache.maximum-size:10000}")
+    private int maximumSize;
+
+    @Value("${passwordbox.cache.time-to-live:PT5M}")
+    private Duration timeToLive;
+
+    @Value("${passwordbox.cache.verify-version:false}")
+    private boolean verifyVersion;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() <= maximumSize) return false;
+            evictions.increment();
+            return true;
+        }
+    };
+
+    public User findByUsername(String username) {
+        if (username == null) return null;
+        String key = username.toLowerCase(Locale.ROOT);
+        Entry entry = get(key);
+        if (entry != null && (!verifyVersion || Objects.equals(entry.version, vaultRepository.findVersion(entry.vaultId)))) {
+            hits.increment();
+            return entry.user;
+        }
+        if (entry != null) evict(key, entry);
+        misses.increment();
+        User user = userRepository.findByUsername(username);
+        if (user == null) return null;
+        if (user.getVault() instanceof LazyLoadingProxy lazyVault) user.setVault((Vault) lazyVault.getTarget());
+        if (user.getVault() == null) return user;
+        put(key, new Entry(user, user.getVault().getId(), user.getVault().getVersion(), System.nanoTime() + timeToLive.toNanos()));
+        return user;
+    }
+
+    public void invalidateVault(String vaultId) {
+        evictVault(vaultId);
+        invalidationHooks.forEach(hook -> hook.vaultChanged(vaultId));
+    }
+
+    public void invalidateUser(String username) {
+        evictUser(username);
+        invalidationHooks.forEach(hook -> hook.userChanged(username));
+    }
+
+    public synchronized void evictUser(String username) {
+        if (entries.remove(username.toLowerCase(Locale.ROOT)) != null) evictions.increment();
+    }
+
+    public synchronized void evictVault(String vaultId) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().vaultId.equals(vaultId)) continue;
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    @ManagedAttribute
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @ManagedAttribute
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @ManagedAttribute
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @ManagedAttribute
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    private synchronized Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.expiresAt - System.nanoTime() > 0) return entry;
+        entries.remove(key);
+        evictions.increment();
+        return null;
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    private synchronized void evict(String key, Entry entry) {
+        if (entries.remove(key, entry)) evictions.increment();
+    }
+
+    private record Entry(User user, String vaultId, Long version, long expiresAt) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.passwordbox.data.repositories;
+
+import com.passwordbox.data.models.User;
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Collation;
+import org.springframework.stereotype.Component;
+
+import static com.passwordbox.data.repositories.UserRepository.USERNAME_COLLATION;
+
+@Component
+public class UserIndexes {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void createIndexes() {
+        Index usernameIndex = new Index().on("username", Sort.Direction.ASC)
+                .unique()
+                .named("username_case_insensitive")
+                .collation(Collation.from(Document.parse(USERNAME_COLLATION)));
+        mongoTemplate.indexOps(User.class).ensureIndex(usernameIndex);
+    }
+}
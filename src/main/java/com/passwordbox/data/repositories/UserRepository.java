@@ -1,10 +1,12 @@
 package com.passwordbox.data.repositories;
 
 import com.passwordbox.data.models.User;
+import org.springframework.data.mongodb.core.annotation.Collation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-import java.util.Optional;
-
 public interface UserRepository extends MongoRepository<User, String> {
+    String USERNAME_COLLATION = "{ 'locale' : 'en', 'strength' : 2 }";
+
+    @Collation(USERNAME_COLLATION)
     User findByUsername(String username);
 }
@@ -0,0 +1,60 @@
+package com.passwordbox.data.repositories;
+
+import com.passwordbox.data.models.CreditCard;
+import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.Note;
+import com.passwordbox.data.models.PasswordHealth;
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.data.models.VaultChange;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface VaultItemOperations {
+
+    Long findVersion(String vaultId);
+
+    String findWrappedDataKey(String vaultId);
+
+    void setWrappedDataKeyIfAbsent(String vaultId, String wrappedDataKey);
+
+    List<Vault> findWrappedDataKeysWithoutPrefix(String prefix);
+
+    void replaceWrappedDataKey(String vaultId, String expectedWrappedDataKey, String wrappedDataKey);
+
+    Vault findChangeLog(String vaultId);
+
+    void appendChange(String vaultId, VaultChange change, int retainedChanges);
+
+    Optional<LoginInfo> findLoginInfo(String vaultId, String title);
+
+    boolean existsLoginInfoTitle(String vaultId, String title);
+
+    void pushLoginInfo(String vaultId, LoginInfo loginInfo);
+
+    void setLoginInfo(String vaultId, LoginInfo loginInfo, long expectedVersion);
+
+    void pullLoginInfo(String vaultId, String loginInfoId);
+
+    void recordPasswordHealth(String vaultId, PasswordHealth removed, PasswordHealth added);
+
+    Optional<Note> findNote(String vaultId, String title);
+
+    boolean existsNoteTitle(String vaultId, String title);
+
+    void pushNote(String vaultId, Note note);
+
+    void setNote(String vaultId, Note note, long expectedVersion);
+
+    void pullNote(String vaultId, String noteId);
+
+    Optional<CreditCard> findCreditCard(String vaultId, String title);
+
+    boolean existsCreditCardTitle(String vaultId, String title);
+
+    void pushCreditCard(String vaultId, CreditCard creditCard);
+
+    void setCreditCard(String vaultId, CreditCard creditCard, long expectedVersion);
+
+    void pullCreditCard(String vaultId, String creditCardId);
+}
@@ -0,0 +1,255 @@
+package com.passwordbox.data.repositories;
+
+import com.passwordbox.data.models.CreditCard;
+import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.Note;
+import com.passwordbox.data.models.PasswordHealth;
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.data.models.VaultChange;
+import com.passwordbox.exceptions.InvalidInputException;
+import com.passwordbox.exceptions.PreconditionFailedException;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+public class VaultItemOperationsImpl implements VaultItemOperations {
+
+    private static final String LOGIN_INFOS = "loginInfos";
+    private static final String NOTES = "notes";
+    private static final String CREDIT_CARDS = "creditCards";
+    private static final String VERSION = "version";
+    private static final String WRAPPED_DATA_KEY = "wrappedDataKey";
+    private static final String HEALTH = "health";
+    private static final String CHANGE_SEQUENCE = "changeSequence";
+    private static final String CHANGES = "changes";
+    private static final int MAX_VAULT_BYTES = 15 * 1024 * 1024;
+    static final String VAULT_FULL_MESSAGE = "This vault is full. Please remove some items before adding or enlarging others";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private UnitOfWork unitOfWork;
+
+    @Override
+    public Long findVersion(String vaultId) {
+        Query query = vaultQuery(vaultId);
+        query.fields().include(VERSION);
+        Vault vault = mongoTemplate.findOne(query, Vault.class);
+        if (vault == null) return null;
+        return vault.getVersion();
+    }
+
+    @Override
+    public String findWrappedDataKey(String vaultId) {
+        Query query = vaultQuery(vaultId);
+        query.fields().include(WRAPPED_DATA_KEY);
+        Vault vault = mongoTemplate.findOne(query, Vault.class);
+        if (vault == null) return null;
+        return vault.getWrappedDataKey();
+    }
+
+    @Override
+    public void setWrappedDataKeyIfAbsent(String vaultId, String wrappedDataKey) {
+        Query query = vaultQuery(vaultId).addCriteria(where(WRAPPED_DATA_KEY).is(null));
+        mongoTemplate.updateFirst(query, new Update().set(WRAPPED_DATA_KEY, wrappedDataKey), Vault.class);
+    }
+
+    @Override
+    public List<Vault> findWrappedDataKeysWithoutPrefix(String prefix) {
+        Query query = new Query(where(WRAPPED_DATA_KEY).ne(null).not().regex("^" + Pattern.quote(prefix)));
+        query.fields().include(WRAPPED_DATA_KEY);
+        return mongoTemplate.find(query, Vault.class);
+    }
+
+    @Override
+    public void replaceWrappedDataKey(String vaultId, String expectedWrappedDataKey, String wrappedDataKey) {
+        Query query = vaultQuery(vaultId).addCriteria(where(WRAPPED_DATA_KEY).is(expectedWrappedDataKey));
+        mongoTemplate.updateFirst(query, new Update().set(WRAPPED_DATA_KEY, wrappedDataKey), Vault.class);
+    }
+
+    @Override
+    public Vault findChangeLog(String vaultId) {
+        Query query = vaultQuery(vaultId);
+        query.fields().include(CHANGE_SEQUENCE, CHANGES);
+        return mongoTemplate.findOne(query, Vault.class);
+    }
+
+    @Override
+    public void appendChange(String vaultId, VaultChange change, int retainedChanges) {
+        unitOfWork.registerUpdate(Vault.class, vaultQuery(vaultId), changeUpdate(new Update(), change, retainedChanges));
+    }
+
+    @Override
+    public Optional<LoginInfo> findLoginInfo(String vaultId, String title) {
+        return find(vaultId, LOGIN_INFOS, title, Vault::getLoginInfos);
+    }
+
+    @Override
+    public boolean existsLoginInfoTitle(String vaultId, String title) {
+        return exists(vaultId, LOGIN_INFOS, title);
+    }
+
+    @Override
+    public void pushLoginInfo(String vaultId, LoginInfo loginInfo) {
+        push(vaultId, LOGIN_INFOS, loginInfo.getTitle(), loginInfo, "Title already exists. Please enter a different title");
+    }
+
+    @Override
+    public void setLoginInfo(String vaultId, LoginInfo loginInfo, long expectedVersion) {
+        set(vaultId, LOGIN_INFOS, loginInfo.getId(), expectedVersion, loginInfo);
+    }
+
+    @Override
+    public void pullLoginInfo(String vaultId, String loginInfoId) {
+        pull(vaultId, LOGIN_INFOS, loginInfoId);
+    }
+
+    @Override
+    public void recordPasswordHealth(String vaultId, PasswordHealth removed, PasswordHealth added) {
+        Map<String, Integer> deltas = healthDeltas(removed, added);
+        if (deltas.isEmpty()) return;
+        Update update = new Update();
+        deltas.forEach(update::inc);
+        unitOfWork.registerUpdate(Vault.class, vaultQuery(vaultId), update);
+        deltas.forEach((path, delta) -> {
+            if (delta < 0 && !path.equals(HEALTH + ".loginInfos"))
+                unitOfWork.registerUpdate(Vault.class, vaultQuery(vaultId).addCriteria(where(path).lte(0)), new Update().unset(path));
+        });
+    }
+
+    @Override
+    public Optional<Note> findNote(String vaultId, String title) {
+        return find(vaultId, NOTES, title, Vault::getNotes);
+    }
+
+    @Override
+    public boolean existsNoteTitle(String vaultId, String title) {
+        return exists(vaultId, NOTES, title);
+    }
+
+    @Override
+    public void pushNote(String vaultId, Note note) {
+        push(vaultId, NOTES, note.getTitle(), note, "Title Already Exists. Please enter a different title");
+    }
+
+    @Override
+    public void setNote(String vaultId, Note note, long expectedVersion) {
+        set(vaultId, NOTES, note.getId(), expectedVersion, note);
+    }
+
+    @Override
+    public void pullNote(String vaultId, String noteId) {
+        pull(vaultId, NOTES, noteId);
+    }
+
+    @Override
+    public Optional<CreditCard> findCreditCard(String vaultId, String title) {
+        return find(vaultId, CREDIT_CARDS, title, Vault::getCreditCards);
+    }
+
+    @Override
+    public boolean existsCreditCardTitle(String vaultId, String title) {
+        return exists(vaultId, CREDIT_CARDS, title);
+    }
+
+    @Override
+    public void pushCreditCard(String vaultId, CreditCard creditCard) {
+        push(vaultId, CREDIT_CARDS, creditCard.getTitle(), creditCard, "Title Already Exists. Please enter a different title");
+    }
+
+    @Override
+    public void setCreditCard(String vaultId, CreditCard creditCard, long expectedVersion) {
+        set(vaultId, CREDIT_CARDS, creditCard.getId(), expectedVersion, creditCard);
+    }
+
+    @Override
+    public void pullCreditCard(String vaultId, String creditCardId) {
+        pull(vaultId, CREDIT_CARDS, creditCardId);
+    }
+
+    private <T> Optional<T> find(String vaultId, String items, String title, Function<Vault, List<T>> itemsOf) {
+        Query query = titleQuery(vaultId, items, title);
+        query.fields().position(items, 1);
+        Vault vault = mongoTemplate.findOne(query, Vault.class);
+        if (vault == null) return Optional.empty();
+        return itemsOf.apply(vault).stream().findFirst();
+    }
+
+    private boolean exists(String vaultId, String items, String title) {
+        return mongoTemplate.exists(titleQuery(vaultId, items, title), Vault.class);
+    }
+
+    private void push(String vaultId, String items, String title, Object item, String titleExistsMessage) {
+        Query query = untitledQuery(vaultId, items, title).addCriteria(withinSizeLimit());
+        unitOfWork.registerGuardedUpdate(Vault.class, query, new Update().push(items, item).inc(VERSION, 1),
+                mismatch(untitledQuery(vaultId, items, title), () -> new InvalidInputException(titleExistsMessage)));
+    }
+
+    private void set(String vaultId, String items, String itemId, long expectedVersion, Object item) {
+        Query query = vaultQuery(vaultId).addCriteria(where(items).elemMatch(where("_id").is(new ObjectId(itemId)).and(VERSION).is(expectedVersion)));
+        Query guardedQuery = Query.of(query).addCriteria(withinSizeLimit());
+        unitOfWork.registerGuardedUpdate(Vault.class, guardedQuery, new Update().set(items + ".$", item).inc(VERSION, 1),
+                mismatch(query, () -> new PreconditionFailedException("This item has changed since it was last viewed. Please reload it and try again")));
+    }
+
+    private Supplier<RuntimeException> mismatch(Query queryWithoutSizeLimit, Supplier<RuntimeException> onMismatch) {
+        return () -> mongoTemplate.exists(queryWithoutSizeLimit, Vault.class) ? new InvalidInputException(VAULT_FULL_MESSAGE) : onMismatch.get();
+    }
+
+    private void pull(String vaultId, String items, String itemId) {
+        Update update = new Update().pull(items, new Document("_id", new ObjectId(itemId))).inc(VERSION, 1);
+        unitOfWork.registerUpdate(Vault.class, vaultQuery(vaultId), update);
+    }
+
+    static Map<String, Integer> healthDeltas(PasswordHealth removed, PasswordHealth added) {
+        Map<String, Integer> deltas = new HashMap<>();
+        if (removed != null) addHealthDeltas(deltas, removed, -1);
+        if (added != null) addHealthDeltas(deltas, added, 1);
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    private static void addHealthDeltas(Map<String, Integer> deltas, PasswordHealth passwordHealth, int delta) {
+        deltas.merge(HEALTH + ".loginInfos", delta, Integer::sum);
+        deltas.merge(HEALTH + ".fingerprints." + passwordHealth.fingerprint(), delta, Integer::sum);
+        deltas.merge(HEALTH + ".strengthScores." + passwordHealth.strengthScore(), delta, Integer::sum);
+        deltas.merge(HEALTH + ".passwordMonths." + passwordHealth.changedMonth(), delta, Integer::sum);
+    }
+
+    static Update changeUpdate(Update update, VaultChange change, int retainedChanges) {
+        update.push(CHANGES).slice(-retainedChanges).each(change);
+        return update.inc(CHANGE_SEQUENCE, 1);
+    }
+
+    static Query titleQuery(String vaultId, String items, String title) {
+        return vaultQuery(vaultId).addCriteria(where(items + ".title").is(title));
+    }
+
+    static Query untitledQuery(String vaultId, String items, String title) {
+        return vaultQuery(vaultId).addCriteria(where(items + ".title").ne(title));
+    }
+
+    static Criteria withinSizeLimit() {
+        return Criteria.expr(MongoExpression.create("{ $lt: [ { $bsonSize: '$$ROOT' }, " + MAX_VAULT_BYTES + " ] }"));
+    }
+
+    static Query vaultQuery(String vaultId) {
+        return new Query(where("_id").is(new ObjectId(vaultId)));
+    }
+}
@@ -0,0 +1,75 @@
+package com.passwordbox.data.repositories;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.passwordbox.data.models.Vault;
+import jakarta.annotation.PostConstruct;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+public class VaultLayoutMigration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VaultLayoutMigration.class);
+    private static final Map<String, String> LEGACY_COLLECTIONS = new LinkedHashMap<>();
+
+    static {
+        LEGACY_COLLECTIONS.put("loginInfos", "LoginInfos");
+        LEGACY_COLLECTIONS.put("notes", "Notes");
+        LEGACY_COLLECTIONS.put("creditCards", "CreditCards");
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        MongoCollection<Document> vaults = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Vault.class));
+        Bson referencesItems = Filters.or(LEGACY_COLLECTIONS.keySet().stream().map(items -> Filters.exists(items + ".$id")).toList());
+        int migrated = 0;
+        for (Document vault : vaults.find(referencesItems)) {
+            Document embeddedItems = new Document();
+            LEGACY_COLLECTIONS.forEach((items, legacyCollection) ->
+                    embeddedItems.put(items, embed(vault.getList(items, Object.class, List.of()), legacyCollection)));
+            vaults.updateOne(Filters.and(Filters.eq("_id", vault.get("_id")), referencesItems), new Document("$set", embeddedItems));
+            migrated++;
+        }
+        if (migrated > 0) LOGGER.info("Embedded the referenced items of {} vaults", migrated);
+    }
+
+    List<Object> embed(List<Object> items, String legacyCollection) {
+        List<Object> ids = items.stream().map(VaultLayoutMigration::referencedId).filter(Objects::nonNull).toList();
+        if (ids.isEmpty()) return items;
+        Map<Object, Document> legacyItems = new HashMap<>();
+        for (Document legacyItem : mongoTemplate.getCollection(legacyCollection).find(Filters.in("_id", ids))) {
+            legacyItem.remove("_class");
+            legacyItems.put(legacyItem.get("_id"), legacyItem);
+        }
+        List<Object> embeddedItems = new ArrayList<>(items.size());
+        for (Object item : items) {
+            Object id = referencedId(item);
+            if (id == null) embeddedItems.add(item);
+            else if (legacyItems.containsKey(id)) embeddedItems.add(legacyItems.get(id));
+        }
+        return embeddedItems;
+    }
+
+    private static Object referencedId(Object item) {
+        if (item instanceof DBRef reference) return reference.getId();
+        if (item instanceof Document document && document.containsKey("$ref")) return document.get("$id");
+        return null;
+    }
+}
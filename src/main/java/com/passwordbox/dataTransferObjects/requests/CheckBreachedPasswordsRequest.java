@@ -0,0 +1,8 @@
+package com.passwordbox.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class CheckBreachedPasswordsRequest {
+    private String username;
+}
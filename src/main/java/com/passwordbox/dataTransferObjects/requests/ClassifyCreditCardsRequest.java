@@ -0,0 +1,10 @@
+package com.passwordbox.dataTransferObjects.requests;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ClassifyCreditCardsRequest {
+    private List<String> cardNumbers;
+}
@@ -7,4 +7,5 @@ public class CreateNoteRequest {
     private String username;
     private String title;
     private String content;
+    private boolean searchable;
 }
@@ -8,4 +8,5 @@ public class EditNoteRequest {
     private String title;
     private String editedTitle;
     private String editedContent;
+    private Boolean searchable;
 }
@@ -0,0 +1,10 @@
+package com.passwordbox.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class GeneratePassphraseRequest {
+    private String wordCount;
+    private String separator;
+    private String wordlist;
+}
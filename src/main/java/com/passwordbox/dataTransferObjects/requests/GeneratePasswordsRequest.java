@@ -0,0 +1,12 @@
+package com.passwordbox.dataTransferObjects.requests;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class GeneratePasswordsRequest {
+    private String length;
+    private String count;
+    private List<String> characterClasses;
+}
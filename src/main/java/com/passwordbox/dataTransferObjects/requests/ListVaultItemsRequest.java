@@ -0,0 +1,10 @@
+package com.passwordbox.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class ListVaultItemsRequest {
+    private String username;
+    private String cursor;
+    private int limit;
+}
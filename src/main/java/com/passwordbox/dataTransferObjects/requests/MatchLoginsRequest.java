@@ -0,0 +1,9 @@
+package com.passwordbox.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class MatchLoginsRequest {
+    private String username;
+    private String url;
+}
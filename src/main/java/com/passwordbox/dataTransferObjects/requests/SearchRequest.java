@@ -0,0 +1,10 @@
+package com.passwordbox.dataTransferObjects.requests;
+
+import lombok.Data;
+
+@Data
+public class SearchRequest {
+    private String username;
+    private String query;
+    private int limit;
+}
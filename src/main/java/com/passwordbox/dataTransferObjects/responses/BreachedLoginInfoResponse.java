@@ -0,0 +1,11 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+@Data
+public class BreachedLoginInfoResponse {
+    private String id;
+    private String title;
+    private String website;
+    private int breachCount;
+}
@@ -0,0 +1,11 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+@Data
+public class ClassifiedCreditCardResponse {
+    private String maskedCardNumber;
+    private String cardType;
+    private String cardIssuer;
+    private boolean valid;
+}
@@ -0,0 +1,11 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ClassifyCreditCardsResponse {
+    private int classified;
+    private List<ClassifiedCreditCardResponse> classifiedCreditCards;
+}
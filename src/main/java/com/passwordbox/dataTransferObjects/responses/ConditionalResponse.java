@@ -0,0 +1,10 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+@Data
+public class ConditionalResponse<T> {
+    private String eTag;
+    private boolean notModified;
+    private T response;
+}
@@ -0,0 +1,10 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+@Data
+public class CreditCardSummaryResponse {
+    private String id;
+    private String title;
+    private String maskedCardNumber;
+}
@@ -7,4 +7,6 @@ public class EditLoginInfoResponse {
     private String id;
     private String title;
     private String website;
+    private boolean breached;
+    private int strengthScore;
 }
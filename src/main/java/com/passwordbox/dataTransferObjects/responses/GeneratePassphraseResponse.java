@@ -0,0 +1,12 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+@Data
+public class GeneratePassphraseResponse {
+    private String passphrase;
+    private int wordCount;
+    private String wordlist;
+    private double entropyBits;
+    private int strengthScore;
+}
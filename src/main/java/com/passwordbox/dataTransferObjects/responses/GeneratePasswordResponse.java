@@ -6,4 +6,5 @@ import lombok.Data;
 public class GeneratePasswordResponse {
     private String password;
     private int length;
+    private int strengthScore;
 }
@@ -0,0 +1,13 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class GeneratePasswordsResponse {
+    private List<String> passwords;
+    private int length;
+    private int count;
+    private List<Integer> strengthScores;
+}
@@ -0,0 +1,12 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class GeneratePinsResponse {
+    private List<String> pins;
+    private int length;
+    private int count;
+}
@@ -0,0 +1,11 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MatchLoginsResponse {
+    private String domain;
+    private List<LoginInfoSummaryResponse> loginInfos;
+}
@@ -0,0 +1,9 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+@Data
+public class NoteSummaryResponse {
+    private String id;
+    private String title;
+}
@@ -7,5 +7,6 @@ public class RegisterResponse {
     private String id;
     private String dateOfRegistration;
     private String username;
+    private int strengthScore;
 
 }
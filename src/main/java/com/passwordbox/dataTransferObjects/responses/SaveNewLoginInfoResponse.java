@@ -9,4 +9,6 @@ public class SaveNewLoginInfoResponse {
     private String website;
     private String loginId;
     private String password;
+    private boolean breached;
+    private int strengthScore;
 }
@@ -0,0 +1,10 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SearchResponse {
+    private List<SearchResultResponse> results;
+}
@@ -0,0 +1,10 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+@Data
+public class SearchResultResponse {
+    private String itemType;
+    private String itemId;
+    private String title;
+}
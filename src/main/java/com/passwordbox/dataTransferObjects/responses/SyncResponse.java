@@ -0,0 +1,12 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SyncResponse {
+    private long sequence;
+    private boolean resyncRequired;
+    private List<VaultChangeResponse> changes;
+}
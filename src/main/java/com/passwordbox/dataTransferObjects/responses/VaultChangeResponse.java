@@ -0,0 +1,12 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+@Data
+public class VaultChangeResponse {
+    private long sequence;
+    private String itemType;
+    private String itemId;
+    private String title;
+    private String operation;
+}
@@ -0,0 +1,12 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+@Data
+public class VaultHealthResponse {
+    private int loginInfos;
+    private int reusedLoginInfos;
+    private int weakLoginInfos;
+    private int staleLoginInfos;
+    private int refreshedLoginInfos;
+}
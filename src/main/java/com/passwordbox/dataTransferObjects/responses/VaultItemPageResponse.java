@@ -0,0 +1,11 @@
+package com.passwordbox.dataTransferObjects.responses;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class VaultItemPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+}
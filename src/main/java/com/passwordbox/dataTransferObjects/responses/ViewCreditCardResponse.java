@@ -10,4 +10,6 @@ public class ViewCreditCardResponse {
     private String creditCardNumber;
     private String Pin;
     private String cVV;
+    private String cardType;
+    private String cardIssuer;
 }
@@ -1,6 +1,6 @@
 package com.passwordbox.exceptions;
 
-public class CreditCardNotFoundException extends RuntimeException {
+public class CreditCardNotFoundException extends PasswordBoxException {
     public CreditCardNotFoundException(String message) {
         super(message);
     }
@@ -0,0 +1,12 @@
+package com.passwordbox.exceptions;
+
+public class InvalidInputException extends IllegalArgumentException {
+    public InvalidInputException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
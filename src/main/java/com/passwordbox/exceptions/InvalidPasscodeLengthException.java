@@ -1,6 +1,6 @@
 package com.passwordbox.exceptions;
 
-public class InvalidPasscodeLengthException extends RuntimeException{
+public class InvalidPasscodeLengthException extends PasswordBoxException {
     public InvalidPasscodeLengthException(String message) {
         super(message);
     }
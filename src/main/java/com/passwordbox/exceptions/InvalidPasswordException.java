@@ -1,6 +1,6 @@
 package com.passwordbox.exceptions;
 
-public class InvalidPasswordException extends RuntimeException{
+public class InvalidPasswordException extends PasswordBoxException {
     public InvalidPasswordException(String message){
         super(message);
     }
@@ -1,6 +1,6 @@
 package com.passwordbox.exceptions;
 
-public class LoginInfoNotFoundException extends RuntimeException {
+public class LoginInfoNotFoundException extends PasswordBoxException {
     public LoginInfoNotFoundException(String message) {
         super(message);
     }
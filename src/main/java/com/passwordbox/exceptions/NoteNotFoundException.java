@@ -1,6 +1,6 @@
 package com.passwordbox.exceptions;
 
-public class NoteNotFoundException extends RuntimeException {
+public class NoteNotFoundException extends PasswordBoxException {
     public NoteNotFoundException(String message) {
         super(message);
     }
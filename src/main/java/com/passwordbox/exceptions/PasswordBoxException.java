@@ -0,0 +1,18 @@
+package com.passwordbox.exceptions;
+
+public class PasswordBoxException extends RuntimeException {
+
+    private volatile byte[] serializedPayload;
+
+    public PasswordBoxException(String message) {
+        super(message, null, false, false);
+    }
+
+    public byte[] getSerializedPayload() {
+        return serializedPayload;
+    }
+
+    public void setSerializedPayload(byte[] serializedPayload) {
+        this.serializedPayload = serializedPayload;
+    }
+}
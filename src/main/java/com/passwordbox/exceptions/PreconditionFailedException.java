@@ -0,0 +1,7 @@
+package com.passwordbox.exceptions;
+
+public class PreconditionFailedException extends PasswordBoxException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package com.passwordbox.exceptions;
 
-public class ProfileLockStateException extends RuntimeException {
+public class ProfileLockStateException extends PasswordBoxException {
     public ProfileLockStateException(String message) {
         super(message);
     }
@@ -1,6 +1,6 @@
 package com.passwordbox.exceptions;
 
-public class UserNotFoundException extends RuntimeException {
+public class UserNotFoundException extends PasswordBoxException {
     public UserNotFoundException(String message) {
         super(message);
     }
@@ -1,6 +1,6 @@
 package com.passwordbox.exceptions;
 
-public class UsernameExistsException extends RuntimeException {
+public class UsernameExistsException extends PasswordBoxException {
     public UsernameExistsException(String message) {
         super(message);
     }
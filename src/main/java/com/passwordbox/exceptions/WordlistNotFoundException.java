@@ -0,0 +1,7 @@
+package com.passwordbox.exceptions;
+
+public class WordlistNotFoundException extends PasswordBoxException {
+    public WordlistNotFoundException(String message) {
+        super(message);
+    }
+}
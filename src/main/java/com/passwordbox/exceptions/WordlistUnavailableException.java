@@ -0,0 +1,7 @@
+package com.passwordbox.exceptions;
+
+public class WordlistUnavailableException extends PasswordBoxException {
+    public WordlistUnavailableException(String message) {
+        super(message);
+    }
+}
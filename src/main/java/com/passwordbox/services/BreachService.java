@@ -0,0 +1,9 @@
+package com.passwordbox.services;
+
+import com.passwordbox.utilities.BreachCorpus;
+
+public interface BreachService {
+
+    BreachCorpus getCorpus();
+
+}
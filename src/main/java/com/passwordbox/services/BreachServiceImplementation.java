@@ -0,0 +1,29 @@
+package com.passwordbox.services;
+
+import com.passwordbox.utilities.BreachCorpus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Service
+public class BreachServiceImplementation implements BreachService {
+
+    @Value("${passwordbox.breach.corpus-path:breach-corpus.bin}")
+    private Path corpusPath;
+
+    private BreachCorpus corpus = BreachCorpus.empty();
+
+    @PostConstruct
+    public void loadCorpus() throws IOException {
+        if (Files.exists(corpusPath)) corpus = BreachCorpus.map(corpusPath);
+    }
+
+    @Override
+    public BreachCorpus getCorpus() {
+        return corpus;
+    }
+}
@@ -0,0 +1,9 @@
+package com.passwordbox.services;
+
+import com.passwordbox.utilities.IinRangeTable;
+
+public interface CardBrandService {
+
+    IinRangeTable getTable();
+
+}
@@ -0,0 +1,47 @@
+package com.passwordbox.services;
+
+import com.passwordbox.utilities.IinRangeTable;
+import com.passwordbox.utilities.IinRangeTable.IinRange;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class CardBrandServiceImplementation implements CardBrandService {
+
+    private static final String BUNDLED_TABLE = "iin/iin-ranges.csv";
+
+    @Value("${passwordbox.iin.table-path:iin-ranges.csv}")
+    private Path tablePath;
+
+    private IinRangeTable table = IinRangeTable.empty();
+
+    @PostConstruct
+    public void loadTable() throws IOException {
+        List<IinRange> ranges = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(new ClassPathResource(BUNDLED_TABLE).getInputStream(), StandardCharsets.UTF_8)) {
+            ranges.addAll(IinRangeTable.parse(reader));
+        }
+        if (Files.exists(tablePath)) {
+            try (Reader reader = Files.newBufferedReader(tablePath)) {
+                ranges.addAll(IinRangeTable.parse(reader));
+            }
+        }
+        table = IinRangeTable.of(ranges);
+    }
+
+    @Override
+    public IinRangeTable getTable() {
+        return table;
+    }
+}
@@ -2,11 +2,14 @@ package com.passwordbox.services;
 
 import com.passwordbox.data.models.CreditCard;
 import com.passwordbox.data.models.Vault;
-import com.passwordbox.data.repositories.CreditCardRepository;
+import com.passwordbox.data.repositories.VaultRepository;
 import com.passwordbox.dataTransferObjects.requests.DeleteCreditCardRequest;
 import com.passwordbox.dataTransferObjects.requests.EditCreditCardRequest;
 import com.passwordbox.dataTransferObjects.requests.SaveCreditCardRequest;
 import com.passwordbox.dataTransferObjects.responses.DeleteCreditCardResponse;
+import com.passwordbox.utilities.CryptoEngine;
+import com.passwordbox.utilities.CryptoPool;
+import com.passwordbox.utilities.SearchEntry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -18,16 +21,29 @@ import static com.passwordbox.utilities.ValidateInputs.*;
 public class CreditCardServiceImplementation implements CreditCardService{
 
     @Autowired
-    private CreditCardRepository creditCardRepository;
+    private VaultRepository vaultRepository;
+
+    @Autowired
+    private VaultKeyService vaultKeyService;
+
+    @Autowired
+    private CardBrandService cardBrandService;
+
+    @Autowired
+    private CryptoPool cryptoPool;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
 
     @Override
     public CreditCard saveCreditCard(SaveCreditCardRequest saveCreditCardRequest, Vault vault) throws Exception {
-        validateCreditCardTitle(saveCreditCardRequest.getTitle(), vault);
+        validateCreditCardTitle(saveCreditCardRequest.getTitle(), vault, vaultRepository);
         validateCreditCardNumber(saveCreditCardRequest.getCardNumber());
         validateCreditCardCVV(saveCreditCardRequest.getCVV());
         validateCreditCardPin(saveCreditCardRequest.getPin());
-        CreditCard creditCard = saveCreditCardRequestMap(saveCreditCardRequest);
-        creditCardRepository.save(creditCard);
+        CryptoEngine cryptoEngine = vaultKeyService.cryptoEngineFor(vault);
+        CreditCard creditCard = cryptoPool.call(() -> saveCreditCardRequestMap(saveCreditCardRequest, cryptoEngine, cardBrandService.getTable()));
+        searchIndexService.itemChanged(vault, null, searchEntryMap(creditCard));
         return creditCard;
     }
 
@@ -38,17 +54,19 @@ public class CreditCardServiceImplementation implements CreditCardService{
 //        validateCreditCardNumber(editCreditCardRequest.getUpdatedCardNumber());
 //        validateCreditCardCVV(editCreditCardRequest.getUpdatedCVV());
 //        validateCreditCardPin(editCreditCardRequest.getUpdatedPin());
-        CreditCard creditCard = findCreditCardInVault(editCreditCardRequest.getTitle().toLowerCase(), vault);
-        CreditCard updatedCreditCard = editCreditCardRequestMap(editCreditCardRequest, creditCard);
-        creditCardRepository.save(updatedCreditCard);
+        CreditCard creditCard = findCreditCardInVault(editCreditCardRequest.getTitle().toLowerCase(), vault, vaultRepository);
+        CryptoEngine cryptoEngine = vaultKeyService.cryptoEngineFor(vault);
+        SearchEntry previousSearchEntry = searchEntryMap(creditCard);
+        CreditCard updatedCreditCard = cryptoPool.call(() -> editCreditCardRequestMap(editCreditCardRequest, creditCard, cryptoEngine, cardBrandService.getTable()));
+        searchIndexService.itemChanged(vault, previousSearchEntry, searchEntryMap(updatedCreditCard));
         return updatedCreditCard;
     }
 
     @Override
     public DeleteCreditCardResponse deleteCreditCard(DeleteCreditCardRequest deleteCreditCardRequest, Vault vault) {
-        CreditCard creditCard = findCreditCardInVault(deleteCreditCardRequest.getTitle(), vault);
+        CreditCard creditCard = findCreditCardInVault(deleteCreditCardRequest.getTitle(), vault, vaultRepository);
         DeleteCreditCardResponse deleteCreditCardResponse = deleteCreditCardResponseMap(creditCard);
-        creditCardRepository.delete(creditCard);
+        searchIndexService.itemChanged(vault, searchEntryMap(creditCard), null);
         return deleteCreditCardResponse;
     }
 
@@ -7,10 +7,14 @@ import com.passwordbox.dataTransferObjects.requests.EditLoginInfoRequest;
 import com.passwordbox.dataTransferObjects.requests.SaveNewLoginInfoRequest;
 import com.passwordbox.dataTransferObjects.responses.DeleteLoginInfoResponse;
 
+import java.util.List;
+
 public interface LoginInfoService {
     LoginInfo saveNewLoginInfo(SaveNewLoginInfoRequest saveNewLoginInfoRequest, Vault vault) throws Exception;
 
     LoginInfo editLoginInfo(EditLoginInfoRequest editLoginInfoRequest, Vault vault) throws Exception;
 
     DeleteLoginInfoResponse deleteLoginInfo(DeleteLoginInfoRequest deleteLoginInfoRequest, Vault vault);
+
+    List<LoginInfo> refreshPasswordHealth(Vault vault) throws Exception;
 }
@@ -1,16 +1,24 @@
 package com.passwordbox.services;
 
 import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.PasswordHealth;
 import com.passwordbox.data.models.Vault;
-import com.passwordbox.data.repositories.LoginInfoRepository;
+import com.passwordbox.data.repositories.VaultRepository;
 import com.passwordbox.dataTransferObjects.requests.DeleteLoginInfoRequest;
 import com.passwordbox.dataTransferObjects.requests.EditLoginInfoRequest;
 import com.passwordbox.dataTransferObjects.requests.SaveNewLoginInfoRequest;
 import com.passwordbox.dataTransferObjects.responses.DeleteLoginInfoResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import com.passwordbox.utilities.CryptoEngine;
+import com.passwordbox.utilities.CryptoPool;
+import com.passwordbox.utilities.PasswordStrengthEstimator;
+import com.passwordbox.utilities.SearchEntry;
 import org.springframework.stereotype.Service;
 
-import static com.passwordbox.utilities.FindDetails.findLoginInfoInVault;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.passwordbox.utilities.FindDetails.*;
 import static com.passwordbox.utilities.Mappers.*;
 import static com.passwordbox.utilities.ValidateInputs.validateLoginInfoTitle;
 
@@ -18,30 +26,76 @@ import static com.passwordbox.utilities.ValidateInputs.validateLoginInfoTitle;
 public class LoginInfoServiceImplementation implements LoginInfoService {
 
     @Autowired
-    private LoginInfoRepository loginInfoRepository;
+    private VaultRepository vaultRepository;
+
+    @Autowired
+    private VaultKeyService vaultKeyService;
+
+    @Autowired
+    private BreachService breachService;
+
+    @Autowired
+    private PasswordStrengthService passwordStrengthService;
+
+    @Autowired
+    private CryptoPool cryptoPool;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private PublicSuffixService publicSuffixService;
+
     @Override
     public LoginInfo saveNewLoginInfo(SaveNewLoginInfoRequest saveNewLoginInfoRequest, Vault vault) throws Exception {
-        validateLoginInfoTitle(saveNewLoginInfoRequest.getTitle(), vault);
-        LoginInfo loginInfo = saveNewLoginInfoRequestMap(saveNewLoginInfoRequest);
-        loginInfoRepository.save(loginInfo);
+        validateLoginInfoTitle(saveNewLoginInfoRequest.getTitle(), vault, vaultRepository);
+        CryptoEngine cryptoEngine = vaultKeyService.cryptoEngineFor(vault);
+        LoginInfo loginInfo = cryptoPool.call(() -> saveNewLoginInfoRequestMap(saveNewLoginInfoRequest, cryptoEngine, breachService.getCorpus(), passwordStrengthService.getEstimator(), publicSuffixService.getTrie()));
+        recordPasswordHealth(vault, null, PasswordHealth.of(loginInfo));
+        searchIndexService.itemChanged(vault, null, searchEntryMap(loginInfo));
         return loginInfo;
     }
 
     @Override
     public LoginInfo editLoginInfo(EditLoginInfoRequest editLoginInfoRequest, Vault vault) throws Exception {
-        LoginInfo loginInfo = findLoginInfoInVault(editLoginInfoRequest.getTitle().toLowerCase(), vault);
-        validateLoginInfoTitle(editLoginInfoRequest.getEditedTitle(), vault);
-        LoginInfo updatedLoginInfo = editLoginInfoRequestMap(editLoginInfoRequest, loginInfo);
-        loginInfoRepository.save(updatedLoginInfo);
+        LoginInfo loginInfo = findLoginInfoInVault(editLoginInfoRequest.getTitle().toLowerCase(), vault, vaultRepository);
+        validateLoginInfoTitle(editLoginInfoRequest.getEditedTitle(), vault, vaultRepository);
+        PasswordHealth previousPasswordHealth = PasswordHealth.of(loginInfo);
+        SearchEntry previousSearchEntry = searchEntryMap(loginInfo);
+        CryptoEngine cryptoEngine = vaultKeyService.cryptoEngineFor(vault);
+        LoginInfo updatedLoginInfo = cryptoPool.call(() -> editLoginInfoRequestMap(editLoginInfoRequest, loginInfo, cryptoEngine, breachService.getCorpus(), passwordStrengthService.getEstimator(), publicSuffixService.getTrie()));
+        if (editLoginInfoRequest.getEditedPassword() != null) recordPasswordHealth(vault, previousPasswordHealth, PasswordHealth.of(updatedLoginInfo));
+        searchIndexService.itemChanged(vault, previousSearchEntry, searchEntryMap(updatedLoginInfo));
         return updatedLoginInfo;
     }
 
     @Override
     public DeleteLoginInfoResponse deleteLoginInfo(DeleteLoginInfoRequest deleteLoginInfoRequest, Vault vault) {
-        LoginInfo loginInfo = findLoginInfoInVault(deleteLoginInfoRequest.getTitle().toLowerCase(), vault);
+        LoginInfo loginInfo = findLoginInfoInVault(deleteLoginInfoRequest.getTitle().toLowerCase(), vault, vaultRepository);
         DeleteLoginInfoResponse deleteLoginInfoResponse = deleteLoginInfoResponseMap(loginInfo);
-        loginInfoRepository.delete(loginInfo);
+        recordPasswordHealth(vault, PasswordHealth.of(loginInfo), null);
+        searchIndexService.itemChanged(vault, searchEntryMap(loginInfo), null);
         return deleteLoginInfoResponse;
     }
 
+    @Override
+    public List<LoginInfo> refreshPasswordHealth(Vault vault) throws Exception {
+        CryptoEngine cryptoEngine = vaultKeyService.cryptoEngineFor(vault);
+        PasswordStrengthEstimator strengthEstimator = passwordStrengthService.getEstimator();
+        List<LoginInfo> refreshedLoginInfos = new ArrayList<>();
+        for (LoginInfo loginInfo : vault.getLoginInfos()) {
+            if (loginInfo.getPasswordFingerprint() != null) continue;
+            cryptoPool.call(() -> refreshPasswordHealthRequestMap(loginInfo, cryptoEngine, strengthEstimator));
+            vault.getHealth().record(null, PasswordHealth.of(loginInfo));
+            vaultRepository.recordPasswordHealth(vaultIdOf(vault), null, PasswordHealth.of(loginInfo));
+            refreshedLoginInfos.add(loginInfo);
+        }
+        return refreshedLoginInfos;
+    }
+
+    private void recordPasswordHealth(Vault vault, PasswordHealth removed, PasswordHealth added) {
+        if (isVaultLoaded(vault)) vault.getHealth().record(removed, added);
+        vaultRepository.recordPasswordHealth(vaultIdOf(vault), removed, added);
+    }
+
 }
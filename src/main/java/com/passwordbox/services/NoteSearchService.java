@@ -0,0 +1,15 @@
+package com.passwordbox.services;
+
+import com.passwordbox.data.models.Vault;
+
+import java.util.Set;
+
+public interface NoteSearchService {
+
+    void noteChanged(Vault vault, String noteId, String previousContent, String content);
+
+    void noteDeleted(Vault vault, String noteId);
+
+    Set<String> findNoteIds(Vault vault, String query);
+
+}
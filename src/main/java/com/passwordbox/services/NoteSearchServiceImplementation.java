@@ -0,0 +1,87 @@
+package com.passwordbox.services;
+
+import com.passwordbox.data.models.NoteToken;
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.data.repositories.NoteTokenRepository;
+import com.passwordbox.data.repositories.UnitOfWork;
+import com.passwordbox.utilities.CryptoEngine;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.security.GeneralSecurityException;
+import java.util.*;
+
+import static com.passwordbox.utilities.FindDetails.vaultIdOf;
+import static com.passwordbox.utilities.NoteTokenizer.tokensOf;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Service
+public class NoteSearchServiceImplementation implements NoteSearchService {
+
+    @Autowired
+    private NoteTokenRepository noteTokenRepository;
+
+    @Autowired
+    private VaultKeyService vaultKeyService;
+
+    @Autowired
+    private UnitOfWork unitOfWork;
+
+    @Override
+    public void noteChanged(Vault vault, String noteId, String previousContent, String content) {
+        CryptoEngine cryptoEngine = vaultKeyService.cryptoEngineFor(vault);
+        Set<String> removedTokens = blindIndexTokens(tokensOf(previousContent), cryptoEngine);
+        Set<String> addedTokens = blindIndexTokens(tokensOf(content), cryptoEngine);
+        Set<String> unchangedTokens = new HashSet<>(removedTokens);
+        unchangedTokens.retainAll(addedTokens);
+        removedTokens.removeAll(unchangedTokens);
+        addedTokens.removeAll(unchangedTokens);
+        String vaultId = vaultIdOf(vault);
+        if (!removedTokens.isEmpty()) {
+            Query query = new Query(where("vaultId").is(vaultId).and("noteId").is(noteId).and("token").in(removedTokens));
+            unitOfWork.registerDelete(NoteToken.class, query);
+        }
+        for (String token : addedTokens) unitOfWork.registerNew(noteTokenMap(vaultId, noteId, token));
+    }
+
+    @Override
+    public void noteDeleted(Vault vault, String noteId) {
+        Query query = new Query(where("vaultId").is(vaultIdOf(vault)).and("noteId").is(noteId));
+        unitOfWork.registerDelete(NoteToken.class, query);
+    }
+
+    @Override
+    public Set<String> findNoteIds(Vault vault, String query) {
+        Set<String> queryTokens = blindIndexTokens(tokensOf(query), vaultKeyService.cryptoEngineFor(vault));
+        if (queryTokens.isEmpty()) return Set.of();
+        Map<String, Integer> matchedTokens = new HashMap<>();
+        for (NoteToken noteToken : noteTokenRepository.findByVaultIdAndTokenIn(vaultIdOf(vault), queryTokens))
+            matchedTokens.merge(noteToken.getNoteId(), 1, Integer::sum);
+        Set<String> noteIds = new HashSet<>();
+        matchedTokens.forEach((noteId, matched) -> {
+            if (matched == queryTokens.size()) noteIds.add(noteId);
+        });
+        return noteIds;
+    }
+
+    private static Set<String> blindIndexTokens(Set<String> tokens, CryptoEngine cryptoEngine) {
+        Set<String> blindIndexTokens = new HashSet<>(tokens.size() * 2);
+        try {
+            for (String token : tokens) blindIndexTokens.add(cryptoEngine.blindIndexToken(token));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to index note", exception);
+        }
+        return blindIndexTokens;
+    }
+
+    private static NoteToken noteTokenMap(String vaultId, String noteId, String token) {
+        NoteToken noteToken = new NoteToken();
+        noteToken.setId(new ObjectId().toHexString());
+        noteToken.setVaultId(vaultId);
+        noteToken.setNoteId(noteId);
+        noteToken.setToken(token);
+        return noteToken;
+    }
+}
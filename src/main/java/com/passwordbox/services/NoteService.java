@@ -8,7 +8,7 @@ import com.passwordbox.dataTransferObjects.requests.EditNoteRequest;
 import com.passwordbox.dataTransferObjects.responses.DeleteNoteResponse;
 
 public interface NoteService {
-    Note createNote(CreateNoteRequest createNoteRequest, Vault vault);
+    Note createNote(CreateNoteRequest createNoteRequest, Vault vault) throws Exception;
 
     Note editNote(EditNoteRequest editNoteRequest, Vault vault) throws Exception;
 
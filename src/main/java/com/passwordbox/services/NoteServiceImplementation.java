@@ -2,14 +2,18 @@ package com.passwordbox.services;
 
 import com.passwordbox.data.models.Note;
 import com.passwordbox.data.models.Vault;
-import com.passwordbox.data.repositories.NoteRepository;
+import com.passwordbox.data.repositories.VaultRepository;
 import com.passwordbox.dataTransferObjects.requests.CreateNoteRequest;
 import com.passwordbox.dataTransferObjects.requests.DeleteNoteRequest;
 import com.passwordbox.dataTransferObjects.requests.EditNoteRequest;
 import com.passwordbox.dataTransferObjects.responses.DeleteNoteResponse;
+import com.passwordbox.utilities.CryptoEngine;
+import com.passwordbox.utilities.SearchEntry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.security.GeneralSecurityException;
+
 import static com.passwordbox.utilities.FindDetails.findNoteInVault;
 import static com.passwordbox.utilities.Mappers.*;
 import static com.passwordbox.utilities.ValidateInputs.validateNoteTitle;
@@ -18,30 +22,64 @@ import static com.passwordbox.utilities.ValidateInputs.validateNoteTitle;
 public class NoteServiceImplementation implements NoteService{
 
     @Autowired
-    private NoteRepository noteRepository;
+    private VaultRepository vaultRepository;
+
+    @Autowired
+    private VaultKeyService vaultKeyService;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private NoteSearchService noteSearchService;
+
     @Override
-    public Note createNote(CreateNoteRequest createNoteRequest, Vault vault) {
-        validateNoteTitle(createNoteRequest.getTitle(), vault);
-        Note note = createNoteRequestMap(createNoteRequest);
-        noteRepository.save(note);
+    public Note createNote(CreateNoteRequest createNoteRequest, Vault vault) throws Exception {
+        validateNoteTitle(createNoteRequest.getTitle(), vault, vaultRepository);
+        Note note = createNoteRequestMap(createNoteRequest, vaultKeyService.cryptoEngineFor(vault));
+        if (note.isSearchable()) noteSearchService.noteChanged(vault, note.getId(), null, createNoteRequest.getContent());
+        searchIndexService.itemChanged(vault, null, searchEntryMap(note));
         return note;
     }
 
     @Override
     public Note editNote(EditNoteRequest editNoteRequest, Vault vault) throws Exception {
-        Note note = findNoteInVault(editNoteRequest.getTitle().toLowerCase(), vault);
-        validateNoteTitle(editNoteRequest.getEditedTitle(), vault);
-        Note updatedNote = editNoteRequestMap(editNoteRequest, note);
-        noteRepository.save(updatedNote);
+        Note note = findNoteInVault(editNoteRequest.getTitle().toLowerCase(), vault, vaultRepository);
+        validateNoteTitle(editNoteRequest.getEditedTitle(), vault, vaultRepository);
+        SearchEntry previousSearchEntry = searchEntryMap(note);
+        boolean wasSearchable = note.isSearchable();
+        String previousContent = note.getContent();
+        CryptoEngine cryptoEngine = vaultKeyService.cryptoEngineFor(vault);
+        Note updatedNote = editNoteRequestMap(editNoteRequest, note, cryptoEngine);
+        updateNoteTokens(vault, updatedNote, wasSearchable, previousContent, editNoteRequest.getEditedContent(), cryptoEngine);
+        searchIndexService.itemChanged(vault, previousSearchEntry, searchEntryMap(updatedNote));
         return updatedNote;
     }
 
     @Override
     public DeleteNoteResponse deleteNote(DeleteNoteRequest deleteNoteRequest, Vault vault) {
-        Note note = findNoteInVault(deleteNoteRequest.getTitle().toLowerCase(), vault);
+        Note note = findNoteInVault(deleteNoteRequest.getTitle().toLowerCase(), vault, vaultRepository);
         DeleteNoteResponse deleteNoteResponse = deleteNoteResponseMap(note);
-        noteRepository.delete(note);
+        if (note.isSearchable()) noteSearchService.noteDeleted(vault, note.getId());
+        searchIndexService.itemChanged(vault, searchEntryMap(note), null);
         return deleteNoteResponse;
     }
 
+    private void updateNoteTokens(Vault vault, Note note, boolean wasSearchable, String previousContent, String editedContent, CryptoEngine cryptoEngine) throws Exception {
+        if (!note.isSearchable()) {
+            if (wasSearchable) noteSearchService.noteDeleted(vault, note.getId());
+            return;
+        }
+        if (wasSearchable && editedContent == null) return;
+        String previousPlaintext = wasSearchable ? plaintextOf(note, previousContent, cryptoEngine) : null;
+        String plaintext = editedContent != null ? editedContent : plaintextOf(note, previousContent, cryptoEngine);
+        noteSearchService.noteChanged(vault, note.getId(), previousPlaintext, plaintext);
+    }
+
+    private static String plaintextOf(Note note, String content, CryptoEngine cryptoEngine) throws GeneralSecurityException {
+        if (content == null || CryptoEngine.isSealed(content)) return cryptoEngine.decrypt(content);
+        if (content.equals(note.getContent())) note.setContent(cryptoEngine.encrypt(content));
+        return content;
+    }
+
 }
@@ -0,0 +1,9 @@
+package com.passwordbox.services;
+
+import com.passwordbox.utilities.Wordlist;
+
+public interface PassphraseService {
+
+    Wordlist findWordlist(String name);
+
+}
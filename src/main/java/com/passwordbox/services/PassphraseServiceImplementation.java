@@ -0,0 +1,102 @@
+package com.passwordbox.services;
+
+import com.passwordbox.exceptions.WordlistNotFoundException;
+import com.passwordbox.exceptions.WordlistUnavailableException;
+import com.passwordbox.utilities.Wordlist;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class PassphraseServiceImplementation implements PassphraseService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PassphraseServiceImplementation.class);
+    private static final String WORDLIST_EXTENSION = ".txt";
+
+    @Value("${passwordbox.passphrase.wordlist-directory:wordlists}")
+    private Path wordlistDirectory;
+
+    @Value("${passwordbox.passphrase.default-wordlist:eff_large_wordlist}")
+    private String defaultWordlist;
+
+    @Value("${passwordbox.passphrase.reload-interval:PT10S}")
+    private Duration reloadInterval;
+
+    private volatile Map<String, LoadedWordlist> wordlists = Map.of();
+    private volatile long nextReload = System.nanoTime();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    @PostConstruct
+    public void loadWordlists() {
+        reloadIfDue();
+        if (!wordlists.containsKey(defaultWordlist)) {
+            LOGGER.warn("Default wordlist {} was not found: place {}{} in {} or set passwordbox.passphrase.default-wordlist. Passphrases are unavailable until it appears",
+                    defaultWordlist, defaultWordlist, WORDLIST_EXTENSION, wordlistDirectory.toAbsolutePath());
+        }
+    }
+
+    @Override
+    public Wordlist findWordlist(String name) {
+        reloadIfDue();
+        if (name == null || name.isBlank()) {
+            LoadedWordlist loadedWordlist = wordlists.get(defaultWordlist);
+            if (loadedWordlist == null) throw new WordlistUnavailableException("Passphrase generation is unavailable. Please try again later.");
+            return loadedWordlist.wordlist;
+        }
+        LoadedWordlist loadedWordlist = wordlists.get(name);
+        if (loadedWordlist == null) throw new WordlistNotFoundException(String.format("Wordlist %s does not exist.", name));
+        return loadedWordlist.wordlist;
+    }
+
+    private void reloadIfDue() {
+        if (System.nanoTime() - nextReload < 0) return;
+        if (!reloadLock.tryLock()) return;
+        try {
+            if (System.nanoTime() - nextReload < 0) return;
+            wordlists = scan(wordlists);
+            nextReload = System.nanoTime() + reloadInterval.toNanos();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Map<String, LoadedWordlist> scan(Map<String, LoadedWordlist> current) {
+        if (!Files.isDirectory(wordlistDirectory)) return Map.of();
+        Map<String, LoadedWordlist> scanned = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(wordlistDirectory, "*" + WORDLIST_EXTENSION)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String name = fileName.substring(0, fileName.length() - WORDLIST_EXTENSION.length());
+                FileTime lastModified = Files.getLastModifiedTime(file);
+                LoadedWordlist loadedWordlist = current.get(name);
+                if (loadedWordlist == null || !loadedWordlist.lastModified.equals(lastModified)) {
+                    try {
+                        loadedWordlist = new LoadedWordlist(Wordlist.map(name, file), lastModified);
+                    } catch (IOException exception) {
+                        if (loadedWordlist == null) continue;
+                    }
+                }
+                scanned.put(name, loadedWordlist);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return Map.copyOf(scanned);
+    }
+
+    private record LoadedWordlist(Wordlist wordlist, FileTime lastModified) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.passwordbox.services;
+
+import com.passwordbox.utilities.PasswordStrengthEstimator;
+
+public interface PasswordStrengthService {
+
+    PasswordStrengthEstimator getEstimator();
+
+}
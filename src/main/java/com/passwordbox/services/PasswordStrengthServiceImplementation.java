@@ -0,0 +1,55 @@
+package com.passwordbox.services;
+
+import com.passwordbox.utilities.FrequencyDictionary;
+import com.passwordbox.utilities.KeyboardGraph;
+import com.passwordbox.utilities.PasswordStrengthEstimator;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+@Service
+public class PasswordStrengthServiceImplementation implements PasswordStrengthService {
+
+    private static final List<String> BUNDLED_DICTIONARIES = List.of("passwords", "english", "names");
+    private static final String DICTIONARY_EXTENSION = ".txt";
+
+    @Value("${passwordbox.strength.dictionary-directory:strength}")
+    private Path dictionaryDirectory;
+
+    private PasswordStrengthEstimator estimator;
+
+    @PostConstruct
+    public void loadDictionaries() throws IOException {
+        Map<String, List<String>> wordsByDictionary = new LinkedHashMap<>();
+        for (String name : BUNDLED_DICTIONARIES) {
+            try (InputStream inputStream = new ClassPathResource("strength/" + name + DICTIONARY_EXTENSION).getInputStream()) {
+                wordsByDictionary.put(name, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).lines().toList());
+            }
+        }
+        if (Files.isDirectory(dictionaryDirectory)) {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dictionaryDirectory, "*" + DICTIONARY_EXTENSION)) {
+                for (Path file : files) {
+                    String fileName = file.getFileName().toString();
+                    wordsByDictionary.put(fileName.substring(0, fileName.length() - DICTIONARY_EXTENSION.length()), Files.readAllLines(file));
+                }
+            }
+        }
+        List<FrequencyDictionary> dictionaries = new ArrayList<>();
+        wordsByDictionary.forEach((name, words) -> dictionaries.add(FrequencyDictionary.of(name, words)));
+        estimator = new PasswordStrengthEstimator(dictionaries, List.of(KeyboardGraph.QWERTY, KeyboardGraph.KEYPAD));
+    }
+
+    @Override
+    public PasswordStrengthEstimator getEstimator() {
+        return estimator;
+    }
+}
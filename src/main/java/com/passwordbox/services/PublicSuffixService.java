@@ -0,0 +1,9 @@
+package com.passwordbox.services;
+
+import com.passwordbox.utilities.PublicSuffixTrie;
+
+public interface PublicSuffixService {
+
+    PublicSuffixTrie getTrie();
+
+}
@@ -0,0 +1,46 @@
+package com.passwordbox.services;
+
+import com.passwordbox.utilities.PublicSuffixTrie;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class PublicSuffixServiceImplementation implements PublicSuffixService {
+
+    private static final String BUNDLED_LIST = "publicsuffix/public_suffix_list.dat";
+
+    @Value("${passwordbox.public-suffix.list-path:public_suffix_list.dat}")
+    private Path listPath;
+
+    private PublicSuffixTrie trie = PublicSuffixTrie.empty();
+
+    @PostConstruct
+    public void loadTrie() throws IOException {
+        List<String> rules = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(new ClassPathResource(BUNDLED_LIST).getInputStream(), StandardCharsets.UTF_8)) {
+            rules.addAll(PublicSuffixTrie.parse(reader));
+        }
+        if (Files.exists(listPath)) {
+            try (Reader reader = Files.newBufferedReader(listPath)) {
+                rules.addAll(PublicSuffixTrie.parse(reader));
+            }
+        }
+        trie = PublicSuffixTrie.of(rules);
+    }
+
+    @Override
+    public PublicSuffixTrie getTrie() {
+        return trie;
+    }
+}
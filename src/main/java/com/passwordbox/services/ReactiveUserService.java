@@ -0,0 +1,23 @@
+package com.passwordbox.services;
+
+import com.passwordbox.dataTransferObjects.requests.*;
+import com.passwordbox.dataTransferObjects.responses.*;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserService {
+
+    Mono<LogoutResponse> logout(LogoutRequest logoutRequest);
+
+    Mono<LoginResponse> login(LoginRequest loginRequest);
+
+    Mono<SaveNewLoginInfoResponse> saveNewLoginInfo(SaveNewLoginInfoRequest saveNewLoginInfoRequest);
+
+    Mono<ConditionalResponse<ViewLoginInfoResponse>> viewLoginInfo(ViewLoginInfoRequest viewLoginInfoRequest, String ifNoneMatch);
+
+    Mono<CreateNoteResponse> createNote(CreateNoteRequest createNoteRequest);
+
+    Mono<ConditionalResponse<ViewNoteResponse>> viewNote(ViewNoteRequest viewNoteRequest, String ifNoneMatch);
+
+    Mono<ConditionalResponse<ViewCreditCardResponse>> viewCreditCard(ViewCreditCardRequest viewCreditCardRequest, String ifNoneMatch);
+
+}
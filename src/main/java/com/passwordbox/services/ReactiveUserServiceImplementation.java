@@ -0,0 +1,106 @@
+package com.passwordbox.services;
+
+import com.passwordbox.data.models.UserAccount;
+import com.passwordbox.data.repositories.ReactiveUserRepository;
+import com.passwordbox.data.repositories.UserCache;
+import com.passwordbox.dataTransferObjects.requests.*;
+import com.passwordbox.dataTransferObjects.responses.*;
+import com.passwordbox.exceptions.InvalidPasswordException;
+import com.passwordbox.exceptions.ProfileLockStateException;
+import com.passwordbox.exceptions.UserNotFoundException;
+import com.passwordbox.utilities.ETags;
+import com.passwordbox.utilities.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+
+import static com.passwordbox.utilities.Mappers.*;
+
+@Service
+public class ReactiveUserServiceImplementation implements ReactiveUserService {
+
+    private static final UserNotFoundException UNKNOWN_LOGIN_USER = new UserNotFoundException("Invalid Login Details. Please Try Again");
+    private static final InvalidPasswordException INVALID_LOGIN_PASSWORD = new InvalidPasswordException("Invalid Login Details. Please Try Again");
+
+    @Autowired
+    private ReactiveUserRepository reactiveUserRepository;
+
+    @Autowired
+    private ReactiveVaultService reactiveVaultService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Override
+    public Mono<LogoutResponse> logout(LogoutRequest logoutRequest) {
+        return reactiveUserRepository.findByUsername(logoutRequest.getUsername())
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(String.format("%s does not exist.", logoutRequest.getUsername()))))
+                .flatMap(userAccount -> reactiveUserRepository.updateLockedById(userAccount.getId(), true)
+                        .then(Mono.fromRunnable(() -> userCache.invalidateUser(userAccount.getUsername())))
+                        .thenReturn(logoutResponseMap(userAccount)));
+    }
+
+    @Override
+    public Mono<LoginResponse> login(LoginRequest loginRequest) {
+        return reactiveUserRepository.findByUsername(loginRequest.getUsername())
+                .switchIfEmpty(Mono.error(UNKNOWN_LOGIN_USER))
+                .flatMap(userAccount -> {
+                    if (!userAccount.getMasterPassword().equals(loginRequest.getPassword())) return Mono.error(INVALID_LOGIN_PASSWORD);
+                    return reactiveUserRepository.updateLockedById(userAccount.getId(), false)
+                            .then(Mono.fromRunnable(() -> userCache.invalidateUser(userAccount.getUsername())))
+                            .thenReturn(loginResponseMap(userAccount));
+                });
+    }
+
+    @Override
+    public Mono<SaveNewLoginInfoResponse> saveNewLoginInfo(SaveNewLoginInfoRequest saveNewLoginInfoRequest) {
+        return findUnlockedUser(saveNewLoginInfoRequest.getUsername(), "Please Login to Save Login Info")
+                .flatMap(userAccount -> reactiveVaultService.saveNewLoginInfo(saveNewLoginInfoRequest, userAccount.getVaultId()))
+                .map(Mappers::saveNewLoginInfoResponseMap);
+    }
+
+    @Override
+    public Mono<ConditionalResponse<ViewLoginInfoResponse>> viewLoginInfo(ViewLoginInfoRequest viewLoginInfoRequest, String ifNoneMatch) {
+        return findUnlockedUser(viewLoginInfoRequest.getUsername(), "Please Login to view Login Info")
+                .flatMap(userAccount -> Mono.zip(reactiveVaultService.findLoginInfo(viewLoginInfoRequest.getTitle().toLowerCase(), userAccount.getVaultId()), reactiveVaultService.cryptoEngineFor(userAccount.getVaultId())))
+                .flatMap(lookups -> conditionalResponse(ETags.of(lookups.getT1().getId(), lookups.getT1().getVersion()), ifNoneMatch,
+                        () -> viewLoginInfoResponseMap(lookups.getT1(), lookups.getT2())));
+    }
+
+    @Override
+    public Mono<CreateNoteResponse> createNote(CreateNoteRequest createNoteRequest) {
+        return findUnlockedUser(createNoteRequest.getUsername(), "Please Login to create note")
+                .flatMap(userAccount -> reactiveVaultService.createNote(createNoteRequest, userAccount.getVaultId()))
+                .map(Mappers::createNoteResponseMap);
+    }
+
+    @Override
+    public Mono<ConditionalResponse<ViewNoteResponse>> viewNote(ViewNoteRequest viewNoteRequest, String ifNoneMatch) {
+        return findUnlockedUser(viewNoteRequest.getUsername(), "Please Login to view Note")
+                .flatMap(userAccount -> Mono.zip(reactiveVaultService.findNote(viewNoteRequest.getTitle(), userAccount.getVaultId()), reactiveVaultService.cryptoEngineFor(userAccount.getVaultId())))
+                .flatMap(lookups -> conditionalResponse(ETags.of(lookups.getT1().getId(), lookups.getT1().getVersion()), ifNoneMatch,
+                        () -> viewNoteResponseMap(lookups.getT1(), lookups.getT2())));
+    }
+
+    @Override
+    public Mono<ConditionalResponse<ViewCreditCardResponse>> viewCreditCard(ViewCreditCardRequest viewCreditCardRequest, String ifNoneMatch) {
+        return findUnlockedUser(viewCreditCardRequest.getUsername(), "Please Login to view Credit Card")
+                .flatMap(userAccount -> Mono.zip(reactiveVaultService.findCreditCard(viewCreditCardRequest.getTitle(), userAccount.getVaultId()), reactiveVaultService.cryptoEngineFor(userAccount.getVaultId())))
+                .flatMap(lookups -> conditionalResponse(ETags.of(lookups.getT1().getId(), lookups.getT1().getVersion()), ifNoneMatch,
+                        () -> viewCreditCardResponseMap(lookups.getT1(), lookups.getT2())));
+    }
+
+    private Mono<UserAccount> findUnlockedUser(String username, String lockedMessage) {
+        return reactiveUserRepository.findByUsername(username)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException(String.format("User %s does not exist.", username))))
+                .flatMap(userAccount -> userAccount.isLocked() ? Mono.error(new ProfileLockStateException(lockedMessage)) : Mono.just(userAccount));
+    }
+
+    private static <T> Mono<ConditionalResponse<T>> conditionalResponse(String eTag, String ifNoneMatch, Callable<T> response) {
+        if (ETags.weakMatches(ifNoneMatch, eTag)) return Mono.just(conditionalResponseMap(eTag, null));
+        return Mono.fromCallable(response).subscribeOn(Schedulers.parallel()).map(body -> conditionalResponseMap(eTag, body));
+    }
+}
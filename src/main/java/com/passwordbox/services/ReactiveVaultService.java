@@ -0,0 +1,25 @@
+package com.passwordbox.services;
+
+import com.passwordbox.data.models.CreditCard;
+import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.Note;
+import com.passwordbox.dataTransferObjects.requests.CreateNoteRequest;
+import com.passwordbox.dataTransferObjects.requests.SaveNewLoginInfoRequest;
+import com.passwordbox.utilities.CryptoEngine;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveVaultService {
+
+    Mono<CryptoEngine> cryptoEngineFor(String vaultId);
+
+    Mono<LoginInfo> saveNewLoginInfo(SaveNewLoginInfoRequest saveNewLoginInfoRequest, String vaultId);
+
+    Mono<LoginInfo> findLoginInfo(String title, String vaultId);
+
+    Mono<Note> createNote(CreateNoteRequest createNoteRequest, String vaultId);
+
+    Mono<Note> findNote(String title, String vaultId);
+
+    Mono<CreditCard> findCreditCard(String title, String vaultId);
+
+}
@@ -0,0 +1,114 @@
+package com.passwordbox.services;
+
+import com.passwordbox.data.models.CreditCard;
+import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.Note;
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.data.repositories.ReactiveVaultRepository;
+import com.passwordbox.data.repositories.UserCache;
+import com.passwordbox.dataTransferObjects.requests.CreateNoteRequest;
+import com.passwordbox.dataTransferObjects.requests.SaveNewLoginInfoRequest;
+import com.passwordbox.exceptions.CreditCardNotFoundException;
+import com.passwordbox.exceptions.InvalidInputException;
+import com.passwordbox.exceptions.LoginInfoNotFoundException;
+import com.passwordbox.exceptions.NoteNotFoundException;
+import com.passwordbox.utilities.CryptoEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import static com.passwordbox.utilities.Mappers.createNoteRequestMap;
+import static com.passwordbox.utilities.Mappers.saveNewLoginInfoRequestMap;
+import static com.passwordbox.utilities.ValidateInputs.validateTitleInput;
+
+@Service
+public class ReactiveVaultServiceImplementation implements ReactiveVaultService {
+
+    @Autowired
+    private ReactiveVaultRepository reactiveVaultRepository;
+
+    @Autowired
+    private VaultKeyService vaultKeyService;
+
+    @Autowired
+    private BreachService breachService;
+
+    @Autowired
+    private PasswordStrengthService passwordStrengthService;
+
+    @Autowired
+    private PublicSuffixService publicSuffixService;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Value("${passwordbox.sync.retained-changes:500}")
+    private int retainedChanges;
+
+    @Override
+    public Mono<CryptoEngine> cryptoEngineFor(String vaultId) {
+        CryptoEngine cachedCryptoEngine = vaultKeyService.findCachedCryptoEngine(vaultId);
+        if (cachedCryptoEngine != null) return Mono.just(cachedCryptoEngine);
+        return reactiveVaultRepository.findWrappedDataKey(vaultId)
+                .map(wrappedDataKey -> vaultKeyService.cryptoEngineFor(vaultId, wrappedDataKey))
+                .switchIfEmpty(Mono.fromCallable(() -> vaultKeyService.cryptoEngineFor(vaultReference(vaultId))).subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    @Override
+    public Mono<LoginInfo> saveNewLoginInfo(SaveNewLoginInfoRequest saveNewLoginInfoRequest, String vaultId) {
+        validateTitleInput(saveNewLoginInfoRequest.getTitle());
+        Mono<Boolean> titleExists = reactiveVaultRepository.existsLoginInfoTitle(vaultId, saveNewLoginInfoRequest.getTitle().toLowerCase());
+        return Mono.zip(titleExists, cryptoEngineFor(vaultId))
+                .flatMap(lookups -> {
+                    if (lookups.getT1()) return Mono.error(new InvalidInputException("Title already exists. Please enter a different title"));
+                    CryptoEngine cryptoEngine = lookups.getT2();
+                    return Mono.fromCallable(() -> saveNewLoginInfoRequestMap(saveNewLoginInfoRequest, cryptoEngine, breachService.getCorpus(), passwordStrengthService.getEstimator(), publicSuffixService.getTrie()))
+                            .subscribeOn(Schedulers.parallel());
+                })
+                .flatMap(loginInfo -> reactiveVaultRepository.pushLoginInfo(vaultId, loginInfo, retainedChanges)
+                        .then(Mono.fromRunnable(() -> userCache.invalidateVault(vaultId)))
+                        .thenReturn(loginInfo));
+    }
+
+    @Override
+    public Mono<LoginInfo> findLoginInfo(String title, String vaultId) {
+        return reactiveVaultRepository.findLoginInfo(vaultId, title)
+                .switchIfEmpty(Mono.error(() -> new LoginInfoNotFoundException("Login Info does not Exist. Please Try Again")));
+    }
+
+    @Override
+    public Mono<Note> createNote(CreateNoteRequest createNoteRequest, String vaultId) {
+        validateTitleInput(createNoteRequest.getTitle());
+        if (createNoteRequest.isSearchable()) throw new InvalidInputException("Searchable notes are not supported by the reactive API. Please create the note without searchable.");
+        Mono<Boolean> titleExists = reactiveVaultRepository.existsNoteTitle(vaultId, createNoteRequest.getTitle().toLowerCase());
+        return Mono.zip(titleExists, cryptoEngineFor(vaultId))
+                .flatMap(lookups -> {
+                    if (lookups.getT1()) return Mono.error(new InvalidInputException("Title Already Exists. Please enter a different title"));
+                    CryptoEngine cryptoEngine = lookups.getT2();
+                    return Mono.fromCallable(() -> createNoteRequestMap(createNoteRequest, cryptoEngine)).subscribeOn(Schedulers.parallel());
+                })
+                .flatMap(note -> reactiveVaultRepository.pushNote(vaultId, note, retainedChanges)
+                        .then(Mono.fromRunnable(() -> userCache.invalidateVault(vaultId)))
+                        .thenReturn(note));
+    }
+
+    @Override
+    public Mono<Note> findNote(String title, String vaultId) {
+        return reactiveVaultRepository.findNote(vaultId, title)
+                .switchIfEmpty(Mono.error(() -> new NoteNotFoundException("Note does not Exist. Please Try Again")));
+    }
+
+    @Override
+    public Mono<CreditCard> findCreditCard(String title, String vaultId) {
+        return reactiveVaultRepository.findCreditCard(vaultId, title)
+                .switchIfEmpty(Mono.error(() -> new CreditCardNotFoundException("CreditCard does not Exist. Please Try Again")));
+    }
+
+    private static Vault vaultReference(String vaultId) {
+        Vault vault = new Vault();
+        vault.setId(vaultId);
+        return vault;
+    }
+}
@@ -0,0 +1,14 @@
+package com.passwordbox.services;
+
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.utilities.SearchEntry;
+
+import java.util.List;
+
+public interface SearchIndexService {
+
+    void itemChanged(Vault vault, SearchEntry removed, SearchEntry added);
+
+    List<SearchEntry> search(Vault vault, String query, int limit);
+
+}
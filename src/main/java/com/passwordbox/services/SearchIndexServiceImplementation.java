@@ -0,0 +1,60 @@
+package com.passwordbox.services;
+
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.data.repositories.UnitOfWork;
+import com.passwordbox.utilities.SearchEntry;
+import com.passwordbox.utilities.VaultSearchIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.passwordbox.utilities.FindDetails.vaultIdOf;
+
+@Service
+public class SearchIndexServiceImplementation implements SearchIndexService {
+
+    @Autowired
+    private UnitOfWork unitOfWork;
+
+    @Value("${passwordbox.search.cache.maximum-size:1000}")
+    private int maximumSize;
+
+    private final Map<String, VaultSearchIndex> searchIndexes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, VaultSearchIndex> eldest) {
+            return size() > maximumSize;
+        }
+    };
+
+    @Override
+    public void itemChanged(Vault vault, SearchEntry removed, SearchEntry added) {
+        String vaultId = vaultIdOf(vault);
+        unitOfWork.afterCommit(() -> {
+            VaultSearchIndex vaultSearchIndex = cached(vaultId);
+            if (vaultSearchIndex != null) vaultSearchIndex.apply(removed, added);
+        });
+    }
+
+    @Override
+    public List<SearchEntry> search(Vault vault, String query, int limit) {
+        String vaultId = vaultIdOf(vault);
+        VaultSearchIndex vaultSearchIndex = cached(vaultId);
+        if (vaultSearchIndex == null || vaultSearchIndex.getChangeSequence() != vault.getChangeSequence()) {
+            vaultSearchIndex = VaultSearchIndex.of(vault);
+            cache(vaultId, vaultSearchIndex);
+        }
+        return vaultSearchIndex.search(query, limit);
+    }
+
+    private synchronized VaultSearchIndex cached(String vaultId) {
+        return searchIndexes.get(vaultId);
+    }
+
+    private synchronized void cache(String vaultId, VaultSearchIndex vaultSearchIndex) {
+        searchIndexes.put(vaultId, vaultSearchIndex);
+    }
+}
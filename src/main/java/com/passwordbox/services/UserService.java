@@ -14,29 +14,66 @@ public interface UserService {
 
     EditLoginInfoResponse editLoginInfo(EditLoginInfoRequest editLoginInfoRequest) throws Exception;
 
+    ConditionalResponse<EditLoginInfoResponse> editLoginInfo(EditLoginInfoRequest editLoginInfoRequest, String ifMatch) throws Exception;
+
     ViewLoginInfoResponse viewLoginInfo(ViewLoginInfoRequest viewLoginInfoRequest) throws Exception;
 
+    ConditionalResponse<ViewLoginInfoResponse> viewLoginInfo(ViewLoginInfoRequest viewLoginInfoRequest, String ifNoneMatch) throws Exception;
+
     DeleteLoginInfoResponse deleteLoginInfo(DeleteLoginInfoRequest deleteLoginInfoRequest);
 
+    CheckBreachedPasswordsResponse checkBreachedPasswords(CheckBreachedPasswordsRequest checkBreachedPasswordsRequest) throws Exception;
+
+    VaultHealthResponse checkVaultHealth(VaultHealthRequest vaultHealthRequest) throws Exception;
+
+    SyncResponse sync(SyncRequest syncRequest);
+
+    VaultItemPageResponse<LoginInfoSummaryResponse> listLoginInfos(ListVaultItemsRequest listVaultItemsRequest);
+
+    VaultItemPageResponse<NoteSummaryResponse> listNotes(ListVaultItemsRequest listVaultItemsRequest);
+
+    VaultItemPageResponse<CreditCardSummaryResponse> listCreditCards(ListVaultItemsRequest listVaultItemsRequest);
+
+    SearchResponse search(SearchRequest searchRequest);
+
+    SearchNotesResponse searchNotes(SearchNotesRequest searchNotesRequest) throws Exception;
+
+    MatchLoginsResponse matchLogins(MatchLoginsRequest matchLoginsRequest);
+
     CreateNoteResponse createNote(CreateNoteRequest createNoteRequest) throws Exception;
 
     EditNoteResponse editNote(EditNoteRequest editNoteRequest) throws Exception;
 
+    ConditionalResponse<EditNoteResponse> editNote(EditNoteRequest editNoteRequest, String ifMatch) throws Exception;
+
     ViewNoteResponse viewNote(ViewNoteRequest viewNoteRequest) throws Exception;
 
+    ConditionalResponse<ViewNoteResponse> viewNote(ViewNoteRequest viewNoteRequest, String ifNoneMatch) throws Exception;
+
     DeleteNoteResponse deleteNote(DeleteNoteRequest deleteNoteRequest);
 
     GeneratePasswordResponse generatePassword(GeneratePasswordRequest generatePasswordRequest);
 
     GeneratePinResponse generatePin(GeneratePinRequest generatePinRequest);
 
+    GeneratePasswordsResponse generatePasswords(GeneratePasswordsRequest generatePasswordsRequest);
+
+    GeneratePinsResponse generatePins(GeneratePinsRequest generatePinsRequest);
+
+    GeneratePassphraseResponse generatePassphrase(GeneratePassphraseRequest generatePassphraseRequest);
+
     SaveCreditCardResponse saveCreditCard(SaveCreditCardRequest saveCreditCardRequest) throws Exception;
 
     EditCreditCardResponse editCreditCard(EditCreditCardRequest editCreditCardRequest) throws Exception;
 
+    ConditionalResponse<EditCreditCardResponse> editCreditCard(EditCreditCardRequest editCreditCardRequest, String ifMatch) throws Exception;
+
     ViewCreditCardResponse viewCreditCard(ViewCreditCardRequest viewCreditCardRequest) throws Exception;
 
+    ConditionalResponse<ViewCreditCardResponse> viewCreditCard(ViewCreditCardRequest viewCreditCardRequest, String ifNoneMatch) throws Exception;
+
     DeleteCreditCardResponse deleteCreditCard(DeleteCreditCardRequest deleteCreditCardRequest);
 
+    ClassifyCreditCardsResponse classifyCreditCards(ClassifyCreditCardsRequest classifyCreditCardsRequest);
 
-}
\ No newline at end of file
+}
@@ -1,159 +1,386 @@
 package com.passwordbox.services;
 
 import com.passwordbox.data.models.*;
+import com.passwordbox.data.repositories.UnitOfWork;
+import com.passwordbox.data.repositories.UserCache;
 import com.passwordbox.data.repositories.UserRepository;
 import com.passwordbox.dataTransferObjects.requests.*;
 import com.passwordbox.dataTransferObjects.responses.*;
 import com.passwordbox.exceptions.*;
+import com.passwordbox.utilities.BreachCorpus;
+import com.passwordbox.utilities.CardBrand;
+import com.passwordbox.utilities.CryptoEngine;
+import com.passwordbox.utilities.CryptoPool;
+import com.passwordbox.utilities.ETags;
+import com.passwordbox.utilities.Mappers;
+import com.passwordbox.utilities.PageCursors;
+import com.passwordbox.utilities.PassphraseGenerator;
 import com.passwordbox.utilities.PasscodeGenerator;
+import com.passwordbox.utilities.PasswordStrength;
+import com.passwordbox.utilities.PasswordStrengthEstimator;
+import com.passwordbox.utilities.PublicSuffixTrie;
+import com.passwordbox.utilities.Wordlist;
+import com.passwordbox.utilities.PasscodeGenerator.CharacterClass;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
-import static com.passwordbox.utilities.FindDetails.*;
 import static com.passwordbox.utilities.Mappers.*;
 
 @Service
 public class UserServiceImplementation implements UserService{
 
+    private static final UserNotFoundException UNKNOWN_LOGIN_USER = new UserNotFoundException("Invalid Login Details. Please Try Again");
+    private static final InvalidPasswordException INVALID_LOGIN_PASSWORD = new InvalidPasswordException("Invalid Login Details. Please Try Again");
+    private static final InvalidPasswordException INCORRECT_PASSWORD = new InvalidPasswordException("Incorrect password. Please Try again");
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private VaultService vaultService;
 
+    @Autowired
+    private UnitOfWork unitOfWork;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private VaultKeyService vaultKeyService;
+
+    @Autowired
+    private PassphraseService passphraseService;
+
+    @Autowired
+    private BreachService breachService;
+
+    @Autowired
+    private PasswordStrengthService passwordStrengthService;
+
+    @Autowired
+    private CardBrandService cardBrandService;
+
+    @Autowired
+    private CryptoPool cryptoPool;
+
+    @Autowired
+    private SearchIndexService searchIndexService;
+
+    @Autowired
+    private NoteSearchService noteSearchService;
+
+    @Autowired
+    private PublicSuffixService publicSuffixService;
+
+    @Value("${passwordbox.health.weak-below-score:3}")
+    private int weakBelowScore;
+
+    @Value("${passwordbox.health.stale-after-months:12}")
+    private int staleAfterMonths;
+
+    @Value("${passwordbox.listing.maximum-page-size:200}")
+    private int maximumPageSize;
+
     @Override
     public RegisterResponse signUp(RegisterRequest registerRequest) {
         validateUsername(registerRequest.getUsername());
         validatePassword(registerRequest.getMasterPassword(), registerRequest.getConfirmMasterPassword());
-        Vault newUserVault = vaultService.createVault();
-        User newUser = registerRequestMap(registerRequest, newUserVault);
-        userRepository.save(newUser);
-        return registerResponseMap(newUser);
+        PasswordStrength masterPasswordStrength = cryptoPool.get(() -> passwordStrengthService.getEstimator().estimate(registerRequest.getMasterPassword(),
+                registerRequest.getUsername(), registerRequest.getFirstName(), registerRequest.getLastName()));
+        try {
+            return unitOfWork.execute(() -> {
+                User newUser = registerRequestMap(registerRequest);
+                unitOfWork.registerNew(newUser);
+                newUser.setVault(vaultService.createVault());
+                return registerResponseMap(newUser, masterPasswordStrength);
+            });
+        }
+        catch (DuplicateKeyException exception) {
+            throw new UsernameExistsException("Username Exists. Please Try Again");
+        }
     }
 
     private void validateUsername(String username) {
-        if (username == null) throw new IllegalArgumentException("Username cannot be null. Please enter a valid username.");
-        if (username.isEmpty()) throw new IllegalArgumentException("Username cannot be empty. Please enter a valid username.");
-        if (username.contains(" ")) throw new IllegalArgumentException("Username cannot space character. Please enter a valid username.");
-        if (doesUsernameExist(username.toLowerCase())) throw new UsernameExistsException("Username Exists. Please Try Again");
+        if (username == null) throw new InvalidInputException("Username cannot be null. Please enter a valid username.");
+        if (username.isEmpty()) throw new InvalidInputException("Username cannot be empty. Please enter a valid username.");
+        if (username.contains(" ")) throw new InvalidInputException("Username cannot space character. Please enter a valid username.");
     }
 
     private void validatePassword(String masterPassword, String confirmMasterPassword) {
-        if (masterPassword == null) throw new IllegalArgumentException("Password cannot be null. Please enter a valid password");
-        if (!masterPassword.equals(confirmMasterPassword)) throw new IllegalArgumentException("Passwords do not match. Please Try again");
-        if (masterPassword.isEmpty()) throw new IllegalArgumentException("Password field cannot be empty. Please enter a valid password.");
-        if (masterPassword.length() < 10) throw new IllegalArgumentException("Password is less than 10 characters. Please Try again.");
-    }
-
-    private boolean doesUsernameExist(String username) {
-        User user = userRepository.findByUsername(username.toLowerCase());
-        return user != null;
+        if (masterPassword == null) throw new InvalidInputException("Password cannot be null. Please enter a valid password");
+        if (!masterPassword.equals(confirmMasterPassword)) throw new InvalidInputException("Passwords do not match. Please Try again");
+        if (masterPassword.isEmpty()) throw new InvalidInputException("Password field cannot be empty. Please enter a valid password.");
+        if (masterPassword.length() < 10) throw new InvalidInputException("Password is less than 10 characters. Please Try again.");
     }
 
     @Override
     public LogoutResponse logout(LogoutRequest logoutRequest) {
-        User user = userRepository.findByUsername(logoutRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("%s does not exist.", logoutRequest.getUsername()));
-        user.setLocked(true);
-        userRepository.save(user);
-        return logoutResponseMap(user);
+        return unitOfWork.execute(() -> {
+            User user = userRepository.findByUsername(logoutRequest.getUsername());
+            if (user == null) throw new UserNotFoundException(String.format("%s does not exist.", logoutRequest.getUsername()));
+            user.setLocked(true);
+            unitOfWork.registerDirty(user);
+            unitOfWork.afterCommit(() -> userCache.invalidateUser(user.getUsername()));
+            return logoutResponseMap(user);
+        });
     }
 
     @Override
     public LoginResponse login(LoginRequest loginRequest) {
-        User user = userRepository.findByUsername(loginRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException("Invalid Login Details. Please Try Again");
-        if (!user.getMasterPassword().equals(loginRequest.getPassword())) throw new InvalidPasswordException("Invalid Login Details. Please Try Again");
-        user.setLocked(false);
-        userRepository.save(user);
-        return loginResponseMap(user);
+        return unitOfWork.execute(() -> {
+            User user = userRepository.findByUsername(loginRequest.getUsername());
+            if (user == null) throw UNKNOWN_LOGIN_USER;
+            if (!user.getMasterPassword().equals(loginRequest.getPassword())) throw INVALID_LOGIN_PASSWORD;
+            user.setLocked(false);
+            unitOfWork.registerDirty(user);
+            unitOfWork.afterCommit(() -> userCache.invalidateUser(user.getUsername()));
+            return loginResponseMap(user);
+        });
     }
 
     @Override
     public SaveNewLoginInfoResponse saveNewLoginInfo(SaveNewLoginInfoRequest saveNewLoginInfoRequest) throws Exception {
-        User user = userRepository.findByUsername(saveNewLoginInfoRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", saveNewLoginInfoRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockStateException("Please Login to Save Login Info");
-        LoginInfo loginInfo = vaultService.saveNewLoginInfo(saveNewLoginInfoRequest, user.getVault());
-        userRepository.save(user);
-        return saveNewLoginInfoResponseMap(loginInfo);
+        return unitOfWork.execute(() -> {
+            User user = userRepository.findByUsername(saveNewLoginInfoRequest.getUsername());
+            if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", saveNewLoginInfoRequest.getUsername()));
+            if (user.isLocked()) throw new ProfileLockStateException("Please Login to Save Login Info");
+            LoginInfo loginInfo = vaultService.saveNewLoginInfo(saveNewLoginInfoRequest, user.getVault());
+            return saveNewLoginInfoResponseMap(loginInfo);
+        });
     }
 
     @Override
     public EditLoginInfoResponse editLoginInfo(EditLoginInfoRequest editLoginInfoRequest) throws Exception {
-        User user = userRepository.findByUsername(editLoginInfoRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", editLoginInfoRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockStateException("Please Login to Edit Login Info");
-        LoginInfo loginInfo = vaultService.editLoginInfo(editLoginInfoRequest, user.getVault());
-        userRepository.save(user);
-        return editLoginInfoResponseMap(loginInfo);
+        return editLoginInfo(editLoginInfoRequest, null).getResponse();
+    }
+
+    @Override
+    public ConditionalResponse<EditLoginInfoResponse> editLoginInfo(EditLoginInfoRequest editLoginInfoRequest, String ifMatch) throws Exception {
+        return unitOfWork.execute(() -> {
+            User user = userRepository.findByUsername(editLoginInfoRequest.getUsername());
+            if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", editLoginInfoRequest.getUsername()));
+            if (user.isLocked()) throw new ProfileLockStateException("Please Login to Edit Login Info");
+            LoginInfo loginInfo = vaultService.editLoginInfo(editLoginInfoRequest, user.getVault());
+            if (ifMatch != null) requireETag(ifMatch, loginInfo.getId(), loginInfo.getVersion() - 1);
+            return conditionalResponseMap(ETags.of(loginInfo.getId(), loginInfo.getVersion()), editLoginInfoResponseMap(loginInfo));
+        });
     }
 
     @Override
     public ViewLoginInfoResponse viewLoginInfo(ViewLoginInfoRequest viewLoginInfoRequest) throws Exception {
-        User user = userRepository.findByUsername(viewLoginInfoRequest.getUsername().toLowerCase());
+        return viewLoginInfo(viewLoginInfoRequest, null).getResponse();
+    }
+
+    @Override
+    public ConditionalResponse<ViewLoginInfoResponse> viewLoginInfo(ViewLoginInfoRequest viewLoginInfoRequest, String ifNoneMatch) throws Exception {
+        User user = userCache.findByUsername(viewLoginInfoRequest.getUsername());
         if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", viewLoginInfoRequest.getUsername()));
         if (user.isLocked()) throw new ProfileLockStateException("Please Login to view Login Info");
-        LoginInfo loginInfo = findLoginInfoInVault(viewLoginInfoRequest.getTitle().toLowerCase(), user.getVault());
-        return viewLoginInfoResponseMap(loginInfo);
+        LoginInfo loginInfo = vaultService.findLoginInfo(viewLoginInfoRequest.getTitle().toLowerCase(), user.getVault());
+        String eTag = ETags.of(loginInfo.getId(), loginInfo.getVersion());
+        if (ETags.weakMatches(ifNoneMatch, eTag)) return conditionalResponseMap(eTag, null);
+        return conditionalResponseMap(eTag, viewLoginInfoResponseMap(loginInfo, vaultKeyService.cryptoEngineFor(user.getVault())));
     }
 
     @Override
     public DeleteLoginInfoResponse deleteLoginInfo(DeleteLoginInfoRequest deleteLoginInfoRequest) {
-        User user = userRepository.findByUsername(deleteLoginInfoRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", deleteLoginInfoRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockStateException("Please Login to delete Login Info");
-        if (!user.getMasterPassword().equals(deleteLoginInfoRequest.getMasterPassword())) throw new InvalidPasswordException("Incorrect password. Please Try again");
-        return vaultService.deleteLoginInfo(deleteLoginInfoRequest, user.getVault());
+        return unitOfWork.execute(() -> {
+            User user = userRepository.findByUsername(deleteLoginInfoRequest.getUsername());
+            if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", deleteLoginInfoRequest.getUsername()));
+            if (user.isLocked()) throw new ProfileLockStateException("Please Login to delete Login Info");
+            if (!user.getMasterPassword().equals(deleteLoginInfoRequest.getMasterPassword())) throw INCORRECT_PASSWORD;
+            return vaultService.deleteLoginInfo(deleteLoginInfoRequest, user.getVault());
+        });
+    }
+
+    @Override
+    public CheckBreachedPasswordsResponse checkBreachedPasswords(CheckBreachedPasswordsRequest checkBreachedPasswordsRequest) throws Exception {
+        User user = userCache.findByUsername(checkBreachedPasswordsRequest.getUsername());
+        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", checkBreachedPasswordsRequest.getUsername()));
+        if (user.isLocked()) throw new ProfileLockStateException("Please Login to check Login Info passwords");
+        CryptoEngine cryptoEngine = vaultKeyService.cryptoEngineFor(user.getVault());
+        BreachCorpus breachCorpus = breachService.getCorpus();
+        List<LoginInfo> loginInfos = user.getVault().getLoginInfos();
+        List<BreachedLoginInfoResponse> breachedLoginInfos = cryptoPool.call(() -> {
+            List<BreachedLoginInfoResponse> breached = new ArrayList<>();
+            for (LoginInfo loginInfo : loginInfos) {
+                int breachCount = breachCorpus.breachCount(cryptoEngine.decrypt(loginInfo.getPassword()));
+                if (breachCount > 0) breached.add(breachedLoginInfoResponseMap(loginInfo, breachCount));
+            }
+            return breached;
+        });
+        return checkBreachedPasswordsResponseMap(loginInfos.size(), breachedLoginInfos);
+    }
+
+    @Override
+    public VaultHealthResponse checkVaultHealth(VaultHealthRequest vaultHealthRequest) throws Exception {
+        User user = userCache.findByUsername(vaultHealthRequest.getUsername());
+        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", vaultHealthRequest.getUsername()));
+        if (user.isLocked()) throw new ProfileLockStateException("Please Login to check vault health");
+        Vault vault = user.getVault();
+        int refreshedLoginInfos = 0;
+        if (vault.getHealth().getLoginInfos() != vault.getLoginInfos().size()) {
+            Vault storedVault = userRepository.findByUsername(vaultHealthRequest.getUsername()).getVault();
+            refreshedLoginInfos = unitOfWork.execute(() -> vaultService.refreshPasswordHealth(storedVault)).size();
+            vault = storedVault;
+        }
+        String staleBeforeMonth = PasswordHealth.monthOf(LocalDate.now().minusMonths(staleAfterMonths));
+        return vaultHealthResponseMap(vault.getHealth(), weakBelowScore, staleBeforeMonth, refreshedLoginInfos);
+    }
+
+    @Override
+    public SyncResponse sync(SyncRequest syncRequest) {
+        User user = userCache.findByUsername(syncRequest.getUsername());
+        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", syncRequest.getUsername()));
+        if (user.isLocked()) throw new ProfileLockStateException("Please Login to sync vault");
+        return vaultService.findChangesSince(syncRequest.getSince(), user.getVault());
+    }
+
+    @Override
+    public VaultItemPageResponse<LoginInfoSummaryResponse> listLoginInfos(ListVaultItemsRequest listVaultItemsRequest) {
+        User user = findUserToList(listVaultItemsRequest);
+        List<LoginInfo> loginInfos = vaultService.findLoginInfosAfter(PageCursors.decode(listVaultItemsRequest.getCursor()), listVaultItemsRequest.getLimit() + 1, user.getVault());
+        return vaultItemPageResponseMap(loginInfos, listVaultItemsRequest.getLimit(), LoginInfo::getTitle, Mappers::loginInfoSummaryResponseMap);
+    }
+
+    @Override
+    public VaultItemPageResponse<NoteSummaryResponse> listNotes(ListVaultItemsRequest listVaultItemsRequest) {
+        User user = findUserToList(listVaultItemsRequest);
+        List<Note> notes = vaultService.findNotesAfter(PageCursors.decode(listVaultItemsRequest.getCursor()), listVaultItemsRequest.getLimit() + 1, user.getVault());
+        return vaultItemPageResponseMap(notes, listVaultItemsRequest.getLimit(), Note::getTitle, Mappers::noteSummaryResponseMap);
+    }
+
+    @Override
+    public VaultItemPageResponse<CreditCardSummaryResponse> listCreditCards(ListVaultItemsRequest listVaultItemsRequest) {
+        User user = findUserToList(listVaultItemsRequest);
+        List<CreditCard> creditCards = vaultService.findCreditCardsAfter(PageCursors.decode(listVaultItemsRequest.getCursor()), listVaultItemsRequest.getLimit() + 1, user.getVault());
+        return vaultItemPageResponseMap(creditCards, listVaultItemsRequest.getLimit(), CreditCard::getTitle, Mappers::creditCardSummaryResponseMap);
+    }
+
+    @Override
+    public SearchResponse search(SearchRequest searchRequest) {
+        if (searchRequest.getLimit() < 1 || searchRequest.getLimit() > maximumPageSize)
+            throw new InvalidInputException(String.format("Please Enter a Limit between 1 - %d", maximumPageSize));
+        if (searchRequest.getQuery() == null || searchRequest.getQuery().isBlank()) throw new InvalidInputException("Search query cannot be empty. Please Try again.");
+        User user = userCache.findByUsername(searchRequest.getUsername());
+        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", searchRequest.getUsername()));
+        if (user.isLocked()) throw new ProfileLockStateException("Please Login to search vault");
+        return searchResponseMap(searchIndexService.search(user.getVault(), searchRequest.getQuery(), searchRequest.getLimit()));
+    }
+
+    @Override
+    public SearchNotesResponse searchNotes(SearchNotesRequest searchNotesRequest) throws Exception {
+        if (searchNotesRequest.getQuery() == null || searchNotesRequest.getQuery().isBlank()) throw new InvalidInputException("Search query cannot be empty. Please Try again.");
+        User user = userCache.findByUsername(searchNotesRequest.getUsername());
+        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", searchNotesRequest.getUsername()));
+        if (user.isLocked()) throw new ProfileLockStateException("Please Login to search notes");
+        Set<String> noteIds = noteSearchService.findNoteIds(user.getVault(), searchNotesRequest.getQuery());
+        List<Note> notes = new ArrayList<>(noteIds.size());
+        for (Note note : user.getVault().getNotes()) {
+            if (note.isSearchable() && noteIds.contains(note.getId())) notes.add(note);
+        }
+        return searchNotesResponseMap(notes, vaultKeyService.cryptoEngineFor(user.getVault()));
+    }
+
+    @Override
+    public MatchLoginsResponse matchLogins(MatchLoginsRequest matchLoginsRequest) {
+        PublicSuffixTrie publicSuffixTrie = publicSuffixService.getTrie();
+        String domain = publicSuffixTrie.registrableDomainOf(matchLoginsRequest.getUrl());
+        if (domain == null) throw new InvalidInputException("Please enter a valid website address.");
+        User user = userCache.findByUsername(matchLoginsRequest.getUsername());
+        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", matchLoginsRequest.getUsername()));
+        if (user.isLocked()) throw new ProfileLockStateException("Please Login to match Login Information");
+        return matchLoginsResponseMap(domain, user.getVault().findLoginInfosByDomain(domain, publicSuffixTrie::registrableDomainOf));
+    }
+
+    private User findUserToList(ListVaultItemsRequest listVaultItemsRequest) {
+        if (listVaultItemsRequest.getLimit() < 1 || listVaultItemsRequest.getLimit() > maximumPageSize)
+            throw new InvalidInputException(String.format("Please Enter a Limit between 1 - %d", maximumPageSize));
+        User user = userCache.findByUsername(listVaultItemsRequest.getUsername());
+        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", listVaultItemsRequest.getUsername()));
+        if (user.isLocked()) throw new ProfileLockStateException("Please Login to list vault items");
+        return user;
     }
 
     @Override
     public CreateNoteResponse createNote(CreateNoteRequest createNoteRequest) throws Exception {
-        User user = userRepository.findByUsername(createNoteRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", createNoteRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockStateException("Please Login to create note");
-        Note note = vaultService.createNote(createNoteRequest, user.getVault());
-        userRepository.save(user);
-        return createNoteResponseMap(note);
+        return unitOfWork.execute(() -> {
+            User user = userRepository.findByUsername(createNoteRequest.getUsername());
+            if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", createNoteRequest.getUsername()));
+            if (user.isLocked()) throw new ProfileLockStateException("Please Login to create note");
+            Note note = vaultService.createNote(createNoteRequest, user.getVault());
+            return createNoteResponseMap(note);
+        });
     }
 
     @Override
     public EditNoteResponse editNote(EditNoteRequest editNoteRequest) throws Exception {
-        User user = userRepository.findByUsername(editNoteRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", editNoteRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockStateException("Please Login to Edit Note");
-        Note note = vaultService.editNote(editNoteRequest, user.getVault());
-        userRepository.save(user);
-        return editNoteResponseMap(note);
+        return editNote(editNoteRequest, null).getResponse();
+    }
+
+    @Override
+    public ConditionalResponse<EditNoteResponse> editNote(EditNoteRequest editNoteRequest, String ifMatch) throws Exception {
+        return unitOfWork.execute(() -> {
+            User user = userRepository.findByUsername(editNoteRequest.getUsername());
+            if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", editNoteRequest.getUsername()));
+            if (user.isLocked()) throw new ProfileLockStateException("Please Login to Edit Note");
+            Note note = vaultService.editNote(editNoteRequest, user.getVault());
+            if (ifMatch != null) requireETag(ifMatch, note.getId(), note.getVersion() - 1);
+            return conditionalResponseMap(ETags.of(note.getId(), note.getVersion()), editNoteResponseMap(note));
+        });
     }
 
     @Override
     public ViewNoteResponse viewNote(ViewNoteRequest viewNoteRequest) throws Exception {
-        User user = userRepository.findByUsername(viewNoteRequest.getUsername().toLowerCase());
+        return viewNote(viewNoteRequest, null).getResponse();
+    }
+
+    @Override
+    public ConditionalResponse<ViewNoteResponse> viewNote(ViewNoteRequest viewNoteRequest, String ifNoneMatch) throws Exception {
+        User user = userCache.findByUsername(viewNoteRequest.getUsername());
         if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", viewNoteRequest.getUsername()));
         if (user.isLocked()) throw new ProfileLockStateException("Please Login to view Note");
-        Note note = findNoteInVault(viewNoteRequest.getTitle(), user.getVault());
-        return viewNoteResponseMap(note);
+        Note note = vaultService.findNote(viewNoteRequest.getTitle(), user.getVault());
+        String eTag = ETags.of(note.getId(), note.getVersion());
+        if (ETags.weakMatches(ifNoneMatch, eTag)) return conditionalResponseMap(eTag, null);
+        return conditionalResponseMap(eTag, viewNoteResponseMap(note, vaultKeyService.cryptoEngineFor(user.getVault())));
     }
 
     @Override
     public DeleteNoteResponse deleteNote(DeleteNoteRequest deleteNoteRequest) {
-        User user = userRepository.findByUsername(deleteNoteRequest.getUsername().toLowerCase());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", deleteNoteRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockStateException("Please Login to view Login Information");
-        if (!user.getMasterPassword().equals(deleteNoteRequest.getMasterPassword())) throw new InvalidPasswordException("Incorrect password. Please Try again");
-        return vaultService.deleteNote(deleteNoteRequest, user.getVault());
+        return unitOfWork.execute(() -> {
+            User user = userRepository.findByUsername(deleteNoteRequest.getUsername());
+            if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", deleteNoteRequest.getUsername()));
+            if (user.isLocked()) throw new ProfileLockStateException("Please Login to view Login Information");
+            if (!user.getMasterPassword().equals(deleteNoteRequest.getMasterPassword())) throw INCORRECT_PASSWORD;
+            return vaultService.deleteNote(deleteNoteRequest, user.getVault());
+        });
     }
 
     public GeneratePasswordResponse generatePassword(GeneratePasswordRequest generatePasswordRequest) {
         validatePasscodeLength(generatePasswordRequest.getLength());
-        String password = PasscodeGenerator.generatePassword(Integer.parseInt(generatePasswordRequest.getLength()));
-        return generatePasswordResponseMap(password);
+        return cryptoPool.get(() -> {
+            String password = PasscodeGenerator.generatePassword(Integer.parseInt(generatePasswordRequest.getLength()));
+            return generatePasswordResponseMap(password, passwordStrengthService.getEstimator().estimate(password));
+        });
     }
+
+    private static void requireETag(String ifMatch, String itemId, long editedVersion) {
+        if (!ETags.strongMatches(ifMatch, ETags.of(itemId, editedVersion))) throw new PreconditionFailedException("This item has changed since it was last viewed. Please reload it and try again");
+    }
+
     private static void validatePasscodeLength(String passcodeLength) {
         if (!passcodeLength.matches("\\d+")) throw new InvalidPasscodeLengthException("Please Enter a Valid Number");
-        if (Integer.parseInt(passcodeLength) < 1 || Integer.parseInt(passcodeLength) > 30) throw new InvalidPasscodeLengthException("Please Enter a Number between 1 - 30");
+        if (passcodeLength.length() > 2 || Integer.parseInt(passcodeLength) < 1 || Integer.parseInt(passcodeLength) > 30) throw new InvalidPasscodeLengthException("Please Enter a Number between 1 - 30");
     }
 
     @Override
@@ -163,41 +390,123 @@ public class UserServiceImplementation implements UserService{
         return generatePinResponseMap(pin);
     }
 
+    @Override
+    public GeneratePasswordsResponse generatePasswords(GeneratePasswordsRequest generatePasswordsRequest) {
+        validatePasscodeLength(generatePasswordsRequest.getLength());
+        validatePasscodeCount(generatePasswordsRequest.getCount());
+        CharacterClass[] characterClasses = characterClassesOf(generatePasswordsRequest.getCharacterClasses());
+        int length = Integer.parseInt(generatePasswordsRequest.getLength());
+        if (length < characterClasses.length) throw new InvalidPasscodeLengthException(String.format("Please Enter a Length of at least %d for the selected character classes", characterClasses.length));
+        return cryptoPool.get(() -> {
+            List<String> passwords = PasscodeGenerator.generatePasswords(length, Integer.parseInt(generatePasswordsRequest.getCount()), characterClasses);
+            PasswordStrengthEstimator strengthEstimator = passwordStrengthService.getEstimator();
+            List<Integer> strengthScores = passwords.stream().map(password -> strengthEstimator.estimate(password).score()).toList();
+            return generatePasswordsResponseMap(passwords, length, strengthScores);
+        });
+    }
+
+    @Override
+    public GeneratePinsResponse generatePins(GeneratePinsRequest generatePinsRequest) {
+        validatePasscodeLength(generatePinsRequest.getLength());
+        validatePasscodeCount(generatePinsRequest.getCount());
+        int length = Integer.parseInt(generatePinsRequest.getLength());
+        List<String> pins = PasscodeGenerator.generatePins(length, Integer.parseInt(generatePinsRequest.getCount()));
+        return generatePinsResponseMap(pins, length);
+    }
+
+    @Override
+    public GeneratePassphraseResponse generatePassphrase(GeneratePassphraseRequest generatePassphraseRequest) {
+        String wordCount = generatePassphraseRequest.getWordCount() == null ? "6" : generatePassphraseRequest.getWordCount();
+        if (!wordCount.matches("\\d+")) throw new InvalidPasscodeLengthException("Please Enter a Valid Number");
+        if (wordCount.length() > 2 || Integer.parseInt(wordCount) < 3 || Integer.parseInt(wordCount) > 20) throw new InvalidPasscodeLengthException("Please Enter a Number between 3 - 20");
+        String separator = generatePassphraseRequest.getSeparator() == null ? "-" : generatePassphraseRequest.getSeparator();
+        if (separator.length() > 3) throw new InvalidInputException("Separator cannot be more than 3 Characters. Please enter a valid separator");
+        Wordlist wordlist = passphraseService.findWordlist(generatePassphraseRequest.getWordlist());
+        return cryptoPool.get(() -> {
+            String passphrase = PassphraseGenerator.generatePassphrase(wordlist, Integer.parseInt(wordCount), separator);
+            return generatePassphraseResponseMap(passphrase, Integer.parseInt(wordCount), wordlist, passwordStrengthService.getEstimator().estimate(passphrase));
+        });
+    }
+
+    private static void validatePasscodeCount(String passcodeCount) {
+        if (passcodeCount == null || !passcodeCount.matches("\\d+")) throw new InvalidInputException("Please Enter a Valid Count");
+        if (passcodeCount.length() > 4 || Integer.parseInt(passcodeCount) < 1 || Integer.parseInt(passcodeCount) > 1000) throw new InvalidInputException("Please Enter a Count between 1 - 1000");
+    }
+
+    private static CharacterClass[] characterClassesOf(List<String> characterClassNames) {
+        if (characterClassNames == null || characterClassNames.isEmpty()) return CharacterClass.values();
+        EnumSet<CharacterClass> characterClasses = EnumSet.noneOf(CharacterClass.class);
+        for (String characterClassName : characterClassNames) {
+            try {
+                characterClasses.add(CharacterClass.valueOf(characterClassName.trim().toUpperCase()));
+            } catch (IllegalArgumentException | NullPointerException exception) {
+                throw new InvalidInputException(String.format("Unknown character class %s. Please use one of %s", characterClassName, Arrays.toString(CharacterClass.values())));
+            }
+        }
+        return characterClasses.toArray(CharacterClass[]::new);
+    }
+
     @Override
     public SaveCreditCardResponse saveCreditCard(SaveCreditCardRequest saveCreditCardRequest) throws Exception {
-        User user = userRepository.findByUsername(saveCreditCardRequest.getUsername());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", saveCreditCardRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockStateException("Please Login to Save Login Info");
-        CreditCard creditCard = vaultService.saveCreditCard(saveCreditCardRequest, user.getVault());
-        userRepository.save(user);
-        return saveCreditCardResponseMap(creditCard);
+        return unitOfWork.execute(() -> {
+            User user = userRepository.findByUsername(saveCreditCardRequest.getUsername());
+            if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", saveCreditCardRequest.getUsername()));
+            if (user.isLocked()) throw new ProfileLockStateException("Please Login to Save Login Info");
+            CreditCard creditCard = vaultService.saveCreditCard(saveCreditCardRequest, user.getVault());
+            return saveCreditCardResponseMap(creditCard);
+        });
     }
 
 
     @Override
     public EditCreditCardResponse editCreditCard(EditCreditCardRequest editCreditCardRequest) throws Exception {
-        User user = userRepository.findByUsername(editCreditCardRequest.getUsername());
-        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", editCreditCardRequest.getUsername()));
-        if (user.isLocked()) throw new ProfileLockStateException("Please login to edit credit card");
-        CreditCard creditCard = vaultService.editCreditCard(editCreditCardRequest, user.getVault());
-        return editCreditCardResponseMap(creditCard);
+        return editCreditCard(editCreditCardRequest, null).getResponse();
     }
 
     @Override
-    public ViewCreditCardResponse viewCreditCard(ViewCreditCardRequest viewCreditCardRequest) throws Exception {
-        User user = userRepository.findByUsername(viewCreditCardRequest.getUsername());
-        CreditCard creditCard = findCreditCardInVault(viewCreditCardRequest.getTitle(), user.getVault());
-        return viewCreditCardResponseMap(creditCard);
+    public ConditionalResponse<EditCreditCardResponse> editCreditCard(EditCreditCardRequest editCreditCardRequest, String ifMatch) throws Exception {
+        return unitOfWork.execute(() -> {
+            User user = userRepository.findByUsername(editCreditCardRequest.getUsername());
+            if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", editCreditCardRequest.getUsername()));
+            if (user.isLocked()) throw new ProfileLockStateException("Please login to edit credit card");
+            CreditCard creditCard = vaultService.editCreditCard(editCreditCardRequest, user.getVault());
+            if (ifMatch != null) requireETag(ifMatch, creditCard.getId(), creditCard.getVersion() - 1);
+            return conditionalResponseMap(ETags.of(creditCard.getId(), creditCard.getVersion()), editCreditCardResponseMap(creditCard));
+        });
     }
 
     @Override
-    public DeleteCreditCardResponse deleteCreditCard(DeleteCreditCardRequest deleteCreditCardRequest) {
-        User user = userRepository.findByUsername(deleteCreditCardRequest.getUsername());
-        //if (!user.getMasterPassword().equals(deleteCreditCardRequest.getMasterPassword()));
-        return vaultService.deleteCreditCard(deleteCreditCardRequest, user.getVault());
+    public ViewCreditCardResponse viewCreditCard(ViewCreditCardRequest viewCreditCardRequest) throws Exception {
+        return viewCreditCard(viewCreditCardRequest, null).getResponse();
     }
 
+    @Override
+    public ConditionalResponse<ViewCreditCardResponse> viewCreditCard(ViewCreditCardRequest viewCreditCardRequest, String ifNoneMatch) throws Exception {
+        User user = userCache.findByUsername(viewCreditCardRequest.getUsername());
+        if (user == null) throw new UserNotFoundException(String.format("User %s does not exist.", viewCreditCardRequest.getUsername()));
+        if (user.isLocked()) throw new ProfileLockStateException("Please Login to view Credit Card");
+        CreditCard creditCard = vaultService.findCreditCard(viewCreditCardRequest.getTitle(), user.getVault());
+        String eTag = ETags.of(creditCard.getId(), creditCard.getVersion());
+        if (ETags.weakMatches(ifNoneMatch, eTag)) return conditionalResponseMap(eTag, null);
+        return conditionalResponseMap(eTag, viewCreditCardResponseMap(creditCard, vaultKeyService.cryptoEngineFor(user.getVault())));
+    }
 
+    @Override
+    public DeleteCreditCardResponse deleteCreditCard(DeleteCreditCardRequest deleteCreditCardRequest) {
+        return unitOfWork.execute(() -> {
+            User user = userRepository.findByUsername(deleteCreditCardRequest.getUsername());
+            //if (!user.getMasterPassword().equals(deleteCreditCardRequest.getMasterPassword()));
+            return vaultService.deleteCreditCard(deleteCreditCardRequest, user.getVault());
+        });
+    }
 
+    @Override
+    public ClassifyCreditCardsResponse classifyCreditCards(ClassifyCreditCardsRequest classifyCreditCardsRequest) {
+        List<String> cardNumbers = classifyCreditCardsRequest.getCardNumbers();
+        if (cardNumbers == null || cardNumbers.isEmpty() || cardNumbers.size() > 10000) throw new InvalidInputException("Please Enter between 1 - 10000 card numbers");
+        List<CardBrand> cardBrands = cardBrandService.getTable().classifyAll(cardNumbers.stream().map(cardNumber -> cardNumber == null ? "" : cardNumber).toList());
+        List<ClassifiedCreditCardResponse> classifiedCreditCards = new ArrayList<>(cardNumbers.size());
+        for (int index = 0; index < cardNumbers.size(); index++) classifiedCreditCards.add(classifiedCreditCardResponseMap(cardNumbers.get(index), cardBrands.get(index)));
+        return classifyCreditCardsResponseMap(classifiedCreditCards);
+    }
 }
-
@@ -0,0 +1,16 @@
+package com.passwordbox.services;
+
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.utilities.CryptoEngine;
+
+public interface VaultKeyService {
+
+    void assignDataKey(Vault vault);
+
+    CryptoEngine cryptoEngineFor(Vault vault);
+
+    CryptoEngine cryptoEngineFor(String vaultId, String wrappedDataKey);
+
+    CryptoEngine findCachedCryptoEngine(String vaultId);
+
+}
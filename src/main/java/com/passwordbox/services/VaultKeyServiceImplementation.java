@@ -0,0 +1,175 @@
+package com.passwordbox.services;
+
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.data.repositories.VaultRepository;
+import com.passwordbox.utilities.CryptoEngine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.passwordbox.utilities.FindDetails.isVaultLoaded;
+import static com.passwordbox.utilities.FindDetails.vaultIdOf;
+
+@Service
+public class VaultKeyServiceImplementation implements VaultKeyService {
+
+    private static final String MASTER_KEY_ALIAS = "passwordbox-master-key";
+    private static final String WRAPPED_DATA_KEY_PREFIX = "v2:";
+
+    @Autowired
+    private VaultRepository vaultRepository;
+
+    @Value("${passwordbox.keystore.path:passwordbox-keystore.p12}")
+    private Path keyStorePath;
+
+    @Value("${passwordbox.keystore.password}")
+    private String keyStorePassword;
+
+    @Value("${passwordbox.keystore.bootstrap:false}")
+    private boolean bootstrap;
+
+    @Value("${passwordbox.keys.cache.maximum-size:10000}")
+    private int maximumSize;
+
+    @Value("${passwordbox.keys.cache.time-to-live:PT15M}")
+    private Duration timeToLive;
+
+    private CryptoEngine masterKey;
+
+    private final Map<String, DataKey> dataKeys = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DataKey> eldest) {
+            return size() > maximumSize;
+        }
+    };
+
+    @PostConstruct
+    public void loadMasterKey() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        KeyStore.PasswordProtection protection = new KeyStore.PasswordProtection(keyStorePassword.toCharArray());
+        if (Files.exists(keyStorePath)) {
+            try (InputStream inputStream = Files.newInputStream(keyStorePath)) {
+                keyStore.load(inputStream, protection.getPassword());
+            }
+        }
+        else if (bootstrap) keyStore.load(null, protection.getPassword());
+        else throw new IllegalStateException(String.format("Keystore %s does not exist. Set passwordbox.keystore.bootstrap=true to create a new master key.", keyStorePath.toAbsolutePath()));
+        if (!keyStore.containsAlias(MASTER_KEY_ALIAS)) {
+            if (!bootstrap) throw new IllegalStateException(String.format("Keystore %s has no master key. Set passwordbox.keystore.bootstrap=true to create a new master key.", keyStorePath.toAbsolutePath()));
+            keyStore.setEntry(MASTER_KEY_ALIAS, new KeyStore.SecretKeyEntry(generateKey()), protection);
+            if (keyStorePath.toAbsolutePath().getParent() != null) Files.createDirectories(keyStorePath.toAbsolutePath().getParent());
+            try (OutputStream outputStream = Files.newOutputStream(keyStorePath)) {
+                keyStore.store(outputStream, protection.getPassword());
+            }
+        }
+        KeyStore.SecretKeyEntry entry = (KeyStore.SecretKeyEntry) keyStore.getEntry(MASTER_KEY_ALIAS, protection);
+        masterKey = new CryptoEngine(entry.getSecretKey());
+        bindUnboundDataKeys();
+    }
+
+    private void bindUnboundDataKeys() throws GeneralSecurityException {
+        for (Vault vault : vaultRepository.findWrappedDataKeysWithoutPrefix(WRAPPED_DATA_KEY_PREFIX)) {
+            byte[] dataKey = masterKey.decrypt(Base64.getDecoder().decode(vault.getWrappedDataKey()));
+            vaultRepository.replaceWrappedDataKey(vault.getId(), vault.getWrappedDataKey(), wrap(vault.getId(), dataKey));
+        }
+    }
+
+    @Override
+    public void assignDataKey(Vault vault) {
+        try {
+            SecretKey dataKey = generateKey();
+            vault.setWrappedDataKey(wrap(vault.getId(), dataKey.getEncoded()));
+            CryptoEngine cryptoEngine = new CryptoEngine(dataKey);
+            cache(vault.getId(), cryptoEngine);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to create vault key", exception);
+        }
+    }
+
+    @Override
+    public CryptoEngine cryptoEngineFor(Vault vault) {
+        String vaultId = vaultIdOf(vault);
+        CryptoEngine cryptoEngine = cached(vaultId);
+        if (cryptoEngine != null) return cryptoEngine;
+        String wrappedDataKey = isVaultLoaded(vault) ? vault.getWrappedDataKey() : vaultRepository.findWrappedDataKey(vaultId);
+        return cryptoEngineFor(vaultId, wrappedDataKey);
+    }
+
+    @Override
+    public CryptoEngine cryptoEngineFor(String vaultId, String wrappedDataKey) {
+        if (wrappedDataKey == null) wrappedDataKey = createMissingDataKey(vaultId);
+        CryptoEngine cryptoEngine;
+        try {
+            cryptoEngine = new CryptoEngine(new SecretKeySpec(unwrap(vaultId, wrappedDataKey), "AES"));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to unwrap vault key", exception);
+        }
+        cache(vaultId, cryptoEngine);
+        return cryptoEngine;
+    }
+
+    @Override
+    public CryptoEngine findCachedCryptoEngine(String vaultId) {
+        return cached(vaultId);
+    }
+
+    private String wrap(String vaultId, byte[] dataKey) throws GeneralSecurityException {
+        return WRAPPED_DATA_KEY_PREFIX + Base64.getEncoder().encodeToString(masterKey.encrypt(dataKey, vaultId.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private byte[] unwrap(String vaultId, String wrappedDataKey) throws GeneralSecurityException {
+        if (!wrappedDataKey.startsWith(WRAPPED_DATA_KEY_PREFIX)) throw new GeneralSecurityException("Vault key is not bound to its vault");
+        byte[] sealed = Base64.getDecoder().decode(wrappedDataKey.substring(WRAPPED_DATA_KEY_PREFIX.length()));
+        return masterKey.decrypt(sealed, vaultId.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String createMissingDataKey(String vaultId) {
+        Vault keyHolder = new Vault();
+        keyHolder.setId(vaultId);
+        assignDataKey(keyHolder);
+        vaultRepository.setWrappedDataKeyIfAbsent(vaultId, keyHolder.getWrappedDataKey());
+        evict(vaultId);
+        return vaultRepository.findWrappedDataKey(vaultId);
+    }
+
+    private synchronized CryptoEngine cached(String vaultId) {
+        DataKey dataKey = dataKeys.get(vaultId);
+        if (dataKey == null) return null;
+        if (dataKey.expiresAt - System.nanoTime() > 0) return dataKey.cryptoEngine;
+        dataKeys.remove(vaultId);
+        return null;
+    }
+
+    private synchronized void cache(String vaultId, CryptoEngine cryptoEngine) {
+        dataKeys.put(vaultId, new DataKey(cryptoEngine, System.nanoTime() + timeToLive.toNanos()));
+    }
+
+    private synchronized void evict(String vaultId) {
+        dataKeys.remove(vaultId);
+    }
+
+    private static SecretKey generateKey() throws GeneralSecurityException {
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(256);
+        return keyGenerator.generateKey();
+    }
+
+    private record DataKey(CryptoEngine cryptoEngine, long expiresAt) {
+    }
+}
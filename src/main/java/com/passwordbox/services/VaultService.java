@@ -5,6 +5,9 @@ import com.passwordbox.dataTransferObjects.requests.*;
 import com.passwordbox.dataTransferObjects.responses.DeleteCreditCardResponse;
 import com.passwordbox.dataTransferObjects.responses.DeleteLoginInfoResponse;
 import com.passwordbox.dataTransferObjects.responses.DeleteNoteResponse;
+import com.passwordbox.dataTransferObjects.responses.SyncResponse;
+
+import java.util.List;
 
 public interface VaultService {
 
@@ -14,18 +17,34 @@ public interface VaultService {
 
     LoginInfo editLoginInfo(EditLoginInfoRequest editLoginInfoRequest, Vault vault) throws Exception;
 
+    LoginInfo findLoginInfo(String title, Vault vault);
+
     DeleteLoginInfoResponse deleteLoginInfo(DeleteLoginInfoRequest deleteLoginInfoRequest, Vault vault);
 
-    Note createNote(CreateNoteRequest createNoteRequest, Vault vault);
+    List<LoginInfo> refreshPasswordHealth(Vault vault) throws Exception;
+
+    Note createNote(CreateNoteRequest createNoteRequest, Vault vault) throws Exception;
 
     Note editNote(EditNoteRequest editNoteRequest, Vault vault) throws Exception;
 
+    Note findNote(String title, Vault vault);
+
     DeleteNoteResponse deleteNote(DeleteNoteRequest deleteNoteRequest, Vault vault);
 
     CreditCard saveCreditCard(SaveCreditCardRequest saveCreditCardRequest, Vault vault) throws Exception;
 
     CreditCard editCreditCard(EditCreditCardRequest editCreditCardRequest, Vault vault) throws Exception;
 
+    CreditCard findCreditCard(String title, Vault vault);
+
     DeleteCreditCardResponse deleteCreditCard(DeleteCreditCardRequest deleteCreditCardRequest, Vault vault);
 
+    SyncResponse findChangesSince(long since, Vault vault);
+
+    List<LoginInfo> findLoginInfosAfter(String title, int limit, Vault vault);
+
+    List<Note> findNotesAfter(String title, int limit, Vault vault);
+
+    List<CreditCard> findCreditCardsAfter(String title, int limit, Vault vault);
+
 }
@@ -1,15 +1,28 @@
 package com.passwordbox.services;
 
 import com.passwordbox.data.models.*;
+import com.passwordbox.data.repositories.UnitOfWork;
+import com.passwordbox.data.repositories.UserCache;
 import com.passwordbox.data.repositories.VaultRepository;
 import com.passwordbox.dataTransferObjects.requests.*;
 import com.passwordbox.dataTransferObjects.responses.DeleteCreditCardResponse;
 import com.passwordbox.dataTransferObjects.responses.DeleteLoginInfoResponse;
 import com.passwordbox.dataTransferObjects.responses.DeleteNoteResponse;
+import com.passwordbox.dataTransferObjects.responses.SyncResponse;
+import com.passwordbox.dataTransferObjects.responses.VaultChangeResponse;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static com.passwordbox.utilities.FindDetails.*;
+import static com.passwordbox.utilities.Mappers.syncResponseMap;
+import static com.passwordbox.utilities.Mappers.vaultChangeResponseMap;
 
 @Service
 public class VaultServiceImplementation implements VaultService{
@@ -17,6 +30,15 @@ public class VaultServiceImplementation implements VaultService{
     @Autowired
     private VaultRepository vaultRepository;
 
+    @Autowired
+    private UnitOfWork unitOfWork;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private VaultKeyService vaultKeyService;
+
     @Autowired
     private LoginInfoService loginInfoService;
 
@@ -26,84 +48,183 @@ public class VaultServiceImplementation implements VaultService{
     @Autowired
     private CreditCardService creditCardService;
 
+    @Value("${passwordbox.sync.retained-changes:500}")
+    private int retainedChanges;
+
     @Override
     public Vault createVault() {
         Vault newVault = new Vault();
-        vaultRepository.save(newVault);
+        newVault.setId(new ObjectId().toHexString());
+        vaultKeyService.assignDataKey(newVault);
+        unitOfWork.registerNew(newVault);
         return newVault;
     }
 
     @Override
     public LoginInfo saveNewLoginInfo(SaveNewLoginInfoRequest saveNewLoginInfoRequest, Vault vault) throws Exception {
         LoginInfo loginInfo = loginInfoService.saveNewLoginInfo(saveNewLoginInfoRequest, vault);
-        vault.getLoginInfos().add(loginInfo);
-        vaultRepository.save(vault);
+        if (isVaultLoaded(vault)) vault.addLoginInfo(loginInfo);
+        vaultRepository.pushLoginInfo(vaultIdOf(vault), loginInfo);
+        recordChange(vault, VaultItemType.LOGIN_INFO, loginInfo.getId(), loginInfo.getTitle(), ChangeOperation.CREATED);
+        versionChanged(vault);
         return loginInfo;
     }
 
     @Override
     public LoginInfo editLoginInfo(EditLoginInfoRequest editLoginInfoRequest, Vault vault) throws Exception {
         LoginInfo loginInfo = loginInfoService.editLoginInfo(editLoginInfoRequest, vault);
-        vaultRepository.save(vault);
+        if (isVaultLoaded(vault)) vault.reindexLoginInfos();
+        vaultRepository.setLoginInfo(vaultIdOf(vault), loginInfo, loginInfo.getVersion() - 1);
+        recordChange(vault, VaultItemType.LOGIN_INFO, loginInfo.getId(), loginInfo.getTitle(), ChangeOperation.UPDATED);
+        versionChanged(vault);
         return loginInfo;
     }
 
+    @Override
+    public LoginInfo findLoginInfo(String title, Vault vault) {
+        return findLoginInfoInVault(title, vault, vaultRepository);
+    }
+
     @Override
     public DeleteLoginInfoResponse deleteLoginInfo(DeleteLoginInfoRequest deleteLoginInfoRequest, Vault vault) {
-        LoginInfo loginInfo = findLoginInfoInVault(deleteLoginInfoRequest.getTitle().toLowerCase(), vault);
         DeleteLoginInfoResponse deleteLoginInfoResponse = loginInfoService.deleteLoginInfo(deleteLoginInfoRequest, vault);
-        vault.getLoginInfos().remove(loginInfo);
-        vaultRepository.save(vault);
+        if (isVaultLoaded(vault)) vault.removeLoginInfo(deleteLoginInfoResponse.getTitle());
+        vaultRepository.pullLoginInfo(vaultIdOf(vault), deleteLoginInfoResponse.getId());
+        recordChange(vault, VaultItemType.LOGIN_INFO, deleteLoginInfoResponse.getId(), deleteLoginInfoResponse.getTitle(), ChangeOperation.DELETED);
+        versionChanged(vault);
         return deleteLoginInfoResponse;
     }
 
     @Override
-    public Note createNote(CreateNoteRequest createNoteRequest, Vault vault) {
+    public List<LoginInfo> refreshPasswordHealth(Vault vault) throws Exception {
+        List<LoginInfo> refreshedLoginInfos = loginInfoService.refreshPasswordHealth(vault);
+        if (refreshedLoginInfos.isEmpty()) return refreshedLoginInfos;
+        for (LoginInfo loginInfo : refreshedLoginInfos) vaultRepository.setLoginInfo(vaultIdOf(vault), loginInfo, loginInfo.getVersion());
+        versionChanged(vault);
+        return refreshedLoginInfos;
+    }
+
+    @Override
+    public Note createNote(CreateNoteRequest createNoteRequest, Vault vault) throws Exception {
         Note note = noteService.createNote(createNoteRequest, vault);
-        vault.getNotes().add(note);
-        vaultRepository.save(vault);
+        if (isVaultLoaded(vault)) vault.addNote(note);
+        vaultRepository.pushNote(vaultIdOf(vault), note);
+        recordChange(vault, VaultItemType.NOTE, note.getId(), note.getTitle(), ChangeOperation.CREATED);
+        versionChanged(vault);
         return note;
     }
 
     @Override
     public Note editNote(EditNoteRequest editNoteRequest, Vault vault) throws Exception {
         Note note = noteService.editNote(editNoteRequest, vault);
-        vaultRepository.save(vault);
+        if (isVaultLoaded(vault)) vault.reindexNotes();
+        vaultRepository.setNote(vaultIdOf(vault), note, note.getVersion() - 1);
+        recordChange(vault, VaultItemType.NOTE, note.getId(), note.getTitle(), ChangeOperation.UPDATED);
+        versionChanged(vault);
         return note;
     }
 
+    @Override
+    public Note findNote(String title, Vault vault) {
+        return findNoteInVault(title, vault, vaultRepository);
+    }
+
     @Override
     public DeleteNoteResponse deleteNote(DeleteNoteRequest deleteNoteRequest, Vault vault) {
-        Note note = findNoteInVault(deleteNoteRequest.getTitle().toLowerCase(), vault);
         DeleteNoteResponse deleteNoteResponse = noteService.deleteNote(deleteNoteRequest, vault);
-        vault.getNotes().remove(note);
-        vaultRepository.save(vault);
+        if (isVaultLoaded(vault)) vault.removeNote(deleteNoteResponse.getTitle());
+        vaultRepository.pullNote(vaultIdOf(vault), deleteNoteResponse.getId());
+        recordChange(vault, VaultItemType.NOTE, deleteNoteResponse.getId(), deleteNoteResponse.getTitle(), ChangeOperation.DELETED);
+        versionChanged(vault);
         return deleteNoteResponse;
     }
 
     @Override
     public CreditCard saveCreditCard(SaveCreditCardRequest saveCreditCardRequest, Vault vault) throws Exception {
         CreditCard creditCard = creditCardService.saveCreditCard(saveCreditCardRequest, vault);
-        vault.getCreditCards().add(creditCard);
-        vaultRepository.save(vault);
+        if (isVaultLoaded(vault)) vault.addCreditCard(creditCard);
+        vaultRepository.pushCreditCard(vaultIdOf(vault), creditCard);
+        recordChange(vault, VaultItemType.CREDIT_CARD, creditCard.getId(), creditCard.getTitle(), ChangeOperation.CREATED);
+        versionChanged(vault);
         return creditCard;
     }
 
     @Override
     public CreditCard editCreditCard(EditCreditCardRequest editCreditCardRequest, Vault vault) throws Exception {
         CreditCard creditCard = creditCardService.editCreditCard(editCreditCardRequest, vault);
-        vaultRepository.save(vault);
+        if (isVaultLoaded(vault)) vault.reindexCreditCards();
+        vaultRepository.setCreditCard(vaultIdOf(vault), creditCard, creditCard.getVersion() - 1);
+        recordChange(vault, VaultItemType.CREDIT_CARD, creditCard.getId(), creditCard.getTitle(), ChangeOperation.UPDATED);
+        versionChanged(vault);
         return creditCard;
     }
 
+    @Override
+    public CreditCard findCreditCard(String title, Vault vault) {
+        return findCreditCardInVault(title, vault, vaultRepository);
+    }
+
     @Override
     public DeleteCreditCardResponse deleteCreditCard(DeleteCreditCardRequest deleteCreditCardRequest, Vault vault) {
-        CreditCard creditCard = findCreditCardInVault(deleteCreditCardRequest.getTitle(), vault);
         DeleteCreditCardResponse deleteCreditCardResponse = creditCardService.deleteCreditCard(deleteCreditCardRequest, vault);
-        vault.getCreditCards().remove(creditCard);
-        vaultRepository.save(vault);
+        if (isVaultLoaded(vault)) vault.removeCreditCard(deleteCreditCardResponse.getTitle());
+        vaultRepository.pullCreditCard(vaultIdOf(vault), deleteCreditCardResponse.getId());
+        recordChange(vault, VaultItemType.CREDIT_CARD, deleteCreditCardResponse.getId(), deleteCreditCardResponse.getTitle(), ChangeOperation.DELETED);
+        versionChanged(vault);
         return deleteCreditCardResponse;
     }
 
+    @Override
+    public SyncResponse findChangesSince(long since, Vault vault) {
+        Vault changeLog = isVaultLoaded(vault) ? vault : vaultRepository.findChangeLog(vaultIdOf(vault));
+        long sequence = changeLog.getChangeSequence();
+        List<VaultChange> changes = changeLog.getChanges();
+        long firstRetainedSequence = sequence - changes.size() + 1;
+        if (since <= 0 || since > sequence || since < firstRetainedSequence - 1) return syncResponseMap(sequence, true, snapshotOf(vault, sequence));
+        Map<String, VaultChangeResponse> latestChanges = new LinkedHashMap<>();
+        for (int index = (int) (since - firstRetainedSequence + 1); index < changes.size(); index++) {
+            VaultChange change = changes.get(index);
+            latestChanges.remove(change.itemId());
+            latestChanges.put(change.itemId(), vaultChangeResponseMap(firstRetainedSequence + index, change));
+        }
+        return syncResponseMap(sequence, false, new ArrayList<>(latestChanges.values()));
+    }
+
+    @Override
+    public List<LoginInfo> findLoginInfosAfter(String title, int limit, Vault vault) {
+        return vault.findLoginInfosAfter(title, limit);
+    }
+
+    @Override
+    public List<Note> findNotesAfter(String title, int limit, Vault vault) {
+        return vault.findNotesAfter(title, limit);
+    }
+
+    @Override
+    public List<CreditCard> findCreditCardsAfter(String title, int limit, Vault vault) {
+        return vault.findCreditCardsAfter(title, limit);
+    }
 
+    private static List<VaultChangeResponse> snapshotOf(Vault vault, long sequence) {
+        List<VaultChangeResponse> snapshot = new ArrayList<>();
+        for (LoginInfo loginInfo : vault.getLoginInfos())
+            snapshot.add(vaultChangeResponseMap(sequence, new VaultChange(VaultItemType.LOGIN_INFO, loginInfo.getId(), loginInfo.getTitle(), ChangeOperation.CREATED)));
+        for (Note note : vault.getNotes())
+            snapshot.add(vaultChangeResponseMap(sequence, new VaultChange(VaultItemType.NOTE, note.getId(), note.getTitle(), ChangeOperation.CREATED)));
+        for (CreditCard creditCard : vault.getCreditCards())
+            snapshot.add(vaultChangeResponseMap(sequence, new VaultChange(VaultItemType.CREDIT_CARD, creditCard.getId(), creditCard.getTitle(), ChangeOperation.CREATED)));
+        return snapshot;
+    }
+
+    private void recordChange(Vault vault, VaultItemType itemType, String itemId, String title, ChangeOperation operation) {
+        VaultChange change = new VaultChange(itemType, itemId, title, operation);
+        if (isVaultLoaded(vault)) vault.recordChange(change, retainedChanges);
+        vaultRepository.appendChange(vaultIdOf(vault), change, retainedChanges);
+    }
+
+    private void versionChanged(Vault vault) {
+        if (isVaultLoaded(vault)) vault.setVersion(vault.getVersion() + 1);
+        String vaultId = vaultIdOf(vault);
+        unitOfWork.afterCommit(() -> userCache.invalidateVault(vaultId));
+    }
 }
@@ -0,0 +1,103 @@
+package com.passwordbox.utilities;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public final class BreachCorpus {
+
+    public static final long MAGIC = 0x5042484942503031L;
+    public static final int HASH_LENGTH = 20;
+    public static final int RECORD_LENGTH = HASH_LENGTH + Integer.BYTES;
+    public static final int FAN_OUT = 1 << 16;
+    public static final int HEADER_LENGTH = Long.BYTES * 2 + Long.BYTES * FAN_OUT;
+
+    private static final int RECORDS_PER_CHUNK = Integer.MAX_VALUE / RECORD_LENGTH;
+    private static final BreachCorpus EMPTY = new BreachCorpus(new MappedByteBuffer[0], new long[FAN_OUT + 1], 0);
+
+    private static final InstancePool<MessageDigest> SHA1 = new InstancePool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    });
+
+    private final MappedByteBuffer[] chunks;
+    private final long[] fanOut;
+    private final long recordCount;
+
+    private BreachCorpus(MappedByteBuffer[] chunks, long[] fanOut, long recordCount) {
+        this.chunks = chunks;
+        this.fanOut = fanOut;
+        this.recordCount = recordCount;
+    }
+
+    public static BreachCorpus empty() {
+        return EMPTY;
+    }
+
+    public static BreachCorpus map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_LENGTH);
+            if (header.getLong() != MAGIC) throw new IOException(String.format("%s is not a breach corpus", path));
+            long recordCount = header.getLong();
+            if (channel.size() != HEADER_LENGTH + recordCount * RECORD_LENGTH) throw new IOException(String.format("Breach corpus %s is truncated", path));
+            long[] fanOut = new long[FAN_OUT + 1];
+            for (int prefix = 0; prefix < FAN_OUT; prefix++) fanOut[prefix] = header.getLong();
+            fanOut[FAN_OUT] = recordCount;
+            MappedByteBuffer[] chunks = new MappedByteBuffer[(int) ((recordCount + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK)];
+            for (int chunk = 0; chunk < chunks.length; chunk++) {
+                long firstRecord = (long) chunk * RECORDS_PER_CHUNK;
+                long records = Math.min(RECORDS_PER_CHUNK, recordCount - firstRecord);
+                chunks[chunk] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_LENGTH + firstRecord * RECORD_LENGTH, records * RECORD_LENGTH);
+            }
+            return new BreachCorpus(chunks, fanOut, recordCount);
+        }
+    }
+
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    public int breachCount(String password) {
+        if (password == null || recordCount == 0) return 0;
+        byte[] hash;
+        MessageDigest sha1 = SHA1.acquire();
+        try {
+            hash = sha1.digest(password.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            SHA1.release(sha1);
+        }
+        return breachCount(hash);
+    }
+
+    public int breachCount(byte[] sha1) {
+        if (sha1.length != HASH_LENGTH) throw new IllegalArgumentException("SHA-1 hashes are 20 bytes long");
+        ByteBuffer hash = ByteBuffer.wrap(sha1);
+        long high = hash.getLong(0);
+        long middle = hash.getLong(8);
+        int low = hash.getInt(16);
+        int prefix = (int) (high >>> 48);
+        long lowRecord = fanOut[prefix];
+        long highRecord = fanOut[prefix + 1] - 1;
+        while (lowRecord <= highRecord) {
+            long record = (lowRecord + highRecord) >>> 1;
+            MappedByteBuffer chunk = chunks[(int) (record / RECORDS_PER_CHUNK)];
+            int offset = (int) (record % RECORDS_PER_CHUNK) * RECORD_LENGTH;
+            int comparison = Long.compareUnsigned(chunk.getLong(offset), high);
+            if (comparison == 0) comparison = Long.compareUnsigned(chunk.getLong(offset + 8), middle);
+            if (comparison == 0) comparison = Integer.compareUnsigned(chunk.getInt(offset + 16), low);
+            if (comparison == 0) return chunk.getInt(offset + HASH_LENGTH);
+            if (comparison < 0) lowRecord = record + 1;
+            else highRecord = record - 1;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,103 @@
+package com.passwordbox.utilities;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+
+import static com.passwordbox.utilities.BreachCorpus.*;
+
+public final class BreachCorpusBuilder {
+
+    private final long[] fanOut = new long[FAN_OUT];
+    private final byte[] previousHash = new byte[HASH_LENGTH];
+    private final DataOutputStream output;
+    private long recordCount;
+
+    private BreachCorpusBuilder(DataOutputStream output) {
+        this.output = output;
+        Arrays.fill(fanOut, -1);
+    }
+
+    public static long build(Path source, Path target) throws IOException {
+        BreachCorpusBuilder builder;
+        try (OutputStream fileOutput = Files.newOutputStream(target)) {
+            fileOutput.write(new byte[HEADER_LENGTH]);
+            builder = new BreachCorpusBuilder(new DataOutputStream(new BufferedOutputStream(fileOutput, 1 << 20)));
+            if (Files.isDirectory(source)) builder.readRanges(source);
+            else builder.readLines(source, "");
+            builder.output.flush();
+        }
+        builder.writeHeader(target);
+        return builder.recordCount;
+    }
+
+    private void readRanges(Path directory) throws IOException {
+        List<Path> rangeFiles = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (file.getFileName().toString().matches("[0-9A-Fa-f]{5}(\\.txt)?")) rangeFiles.add(file);
+            }
+        }
+        rangeFiles.sort(null);
+        for (Path rangeFile : rangeFiles) readLines(rangeFile, rangeFile.getFileName().toString().substring(0, 5));
+    }
+
+    private void readLines(Path file, String prefix) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(':');
+                if (separator < 0) continue;
+                String hash = prefix + line.substring(0, separator).trim();
+                int count = (int) Math.min(Integer.MAX_VALUE, Long.parseLong(line.substring(separator + 1).trim()));
+                write(HexFormat.of().parseHex(hash), count);
+            }
+        }
+    }
+
+    private void write(byte[] hash, int count) throws IOException {
+        if (hash.length != HASH_LENGTH) throw new IOException("Breach records must be full SHA-1 hashes");
+        if (recordCount > 0 && Arrays.compareUnsigned(hash, previousHash) <= 0) throw new IOException("Breach records must be sorted by hash without duplicates");
+        int prefix = (hash[0] & 0xFF) << 8 | hash[1] & 0xFF;
+        if (fanOut[prefix] < 0) fanOut[prefix] = recordCount;
+        output.write(hash);
+        output.writeInt(count);
+        System.arraycopy(hash, 0, previousHash, 0, HASH_LENGTH);
+        recordCount++;
+    }
+
+    private void writeHeader(Path target) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        header.putLong(MAGIC).putLong(recordCount);
+        long nextStart = recordCount;
+        for (int prefix = FAN_OUT - 1; prefix >= 0; prefix--) {
+            if (fanOut[prefix] < 0) fanOut[prefix] = nextStart;
+            nextStart = fanOut[prefix];
+        }
+        for (long start : fanOut) header.putLong(start);
+        header.flip();
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining()) channel.write(header, HEADER_LENGTH - header.remaining());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: BreachCorpusBuilder <hibp-hashes.txt | range-directory> <corpus.bin>");
+            System.exit(1);
+        }
+        System.out.println(build(Path.of(args[0]), Path.of(args[1])) + " records written");
+    }
+}
@@ -0,0 +1,4 @@
+package com.passwordbox.utilities;
+
+public record CardBrand(String brand, String issuer) {
+}
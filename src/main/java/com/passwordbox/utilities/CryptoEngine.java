@@ -0,0 +1,181 @@
+package com.passwordbox.utilities;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+public class CryptoEngine {
+
+    public static final int NONCE_LENGTH = 12;
+    public static final int TAG_LENGTH = 16;
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+
+    private static final InstancePool<Cipher> CIPHERS = new InstancePool<>(() -> {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    });
+
+    private static final InstancePool<SecureRandom> NONCE_SOURCES = new InstancePool<>(SecureRandom::new);
+
+    private static final String FINGERPRINT_ALGORITHM = "HmacSHA256";
+    private static final int FINGERPRINT_LENGTH = 16;
+
+    private static final InstancePool<Mac> MACS = new InstancePool<>(() -> {
+        try {
+            return Mac.getInstance(FINGERPRINT_ALGORITHM);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        }
+    });
+
+    private final SecretKey secretKey;
+    private final SecretKey fingerprintKey;
+    private final SecretKey blindIndexKey;
+
+    public CryptoEngine(SecretKey secretKey) {
+        this.secretKey = secretKey;
+        Mac mac = MACS.acquire();
+        try {
+            mac.init(new SecretKeySpec(secretKey.getEncoded(), FINGERPRINT_ALGORITHM));
+            this.fingerprintKey = new SecretKeySpec(mac.doFinal("passwordbox-fingerprint".getBytes(StandardCharsets.UTF_8)), FINGERPRINT_ALGORITHM);
+            this.blindIndexKey = new SecretKeySpec(mac.doFinal("passwordbox-blind-index".getBytes(StandardCharsets.UTF_8)), FINGERPRINT_ALGORITHM);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(exception);
+        } finally {
+            MACS.release(mac);
+        }
+    }
+
+    public static int sealedLength(int plaintextLength) {
+        return NONCE_LENGTH + plaintextLength + TAG_LENGTH;
+    }
+
+    public static int openedLength(int sealedLength) {
+        return sealedLength - NONCE_LENGTH - TAG_LENGTH;
+    }
+
+    public static boolean isSealed(String content) {
+        if (content == null || content.length() % 4 != 0) return false;
+        try {
+            return Base64.getDecoder().decode(content).length >= NONCE_LENGTH + TAG_LENGTH;
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    public byte[] encrypt(byte[] plaintext) throws GeneralSecurityException {
+        return encrypt(plaintext, null);
+    }
+
+    public byte[] encrypt(byte[] plaintext, byte[] associatedData) throws GeneralSecurityException {
+        byte[] sealed = new byte[sealedLength(plaintext.length)];
+        encrypt(ByteBuffer.wrap(plaintext), ByteBuffer.wrap(sealed), associatedData);
+        return sealed;
+    }
+
+    public byte[] decrypt(byte[] sealed) throws GeneralSecurityException {
+        return decrypt(sealed, null);
+    }
+
+    public byte[] decrypt(byte[] sealed, byte[] associatedData) throws GeneralSecurityException {
+        if (sealed.length < NONCE_LENGTH + TAG_LENGTH) throw new GeneralSecurityException("Ciphertext is too short");
+        byte[] plaintext = new byte[openedLength(sealed.length)];
+        decrypt(ByteBuffer.wrap(sealed), ByteBuffer.wrap(plaintext), associatedData);
+        return plaintext;
+    }
+
+    public int encrypt(ByteBuffer plaintext, ByteBuffer sealed) throws GeneralSecurityException {
+        return encrypt(plaintext, sealed, null);
+    }
+
+    private int encrypt(ByteBuffer plaintext, ByteBuffer sealed, byte[] associatedData) throws GeneralSecurityException {
+        byte[] nonce = new byte[NONCE_LENGTH];
+        SecureRandom nonceSource = NONCE_SOURCES.acquire();
+        try {
+            nonceSource.nextBytes(nonce);
+        } finally {
+            NONCE_SOURCES.release(nonceSource);
+        }
+        Cipher cipher = CIPHERS.acquire();
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+            if (associatedData != null) cipher.updateAAD(associatedData);
+            sealed.put(nonce);
+            return NONCE_LENGTH + cipher.doFinal(plaintext, sealed);
+        } finally {
+            CIPHERS.release(cipher);
+        }
+    }
+
+    public int decrypt(ByteBuffer sealed, ByteBuffer plaintext) throws GeneralSecurityException {
+        return decrypt(sealed, plaintext, null);
+    }
+
+    private int decrypt(ByteBuffer sealed, ByteBuffer plaintext, byte[] associatedData) throws GeneralSecurityException {
+        if (sealed.remaining() < NONCE_LENGTH + TAG_LENGTH) throw new GeneralSecurityException("Ciphertext is too short");
+        byte[] nonce = new byte[NONCE_LENGTH];
+        sealed.get(nonce);
+        Cipher cipher = CIPHERS.acquire();
+        try {
+            cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(TAG_LENGTH * 8, nonce));
+            if (associatedData != null) cipher.updateAAD(associatedData);
+            return cipher.doFinal(sealed, plaintext);
+        } finally {
+            CIPHERS.release(cipher);
+        }
+    }
+
+    public String encrypt(String plaintext) throws GeneralSecurityException {
+        if (plaintext == null) return null;
+        return Base64.getEncoder().encodeToString(encrypt(plaintext.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public String decrypt(String sealed) throws GeneralSecurityException {
+        if (sealed == null) return null;
+        return new String(decrypt(Base64.getDecoder().decode(sealed)), StandardCharsets.UTF_8);
+    }
+
+    public String fingerprint(String plaintext) throws GeneralSecurityException {
+        return truncatedMac(fingerprintKey, plaintext);
+    }
+
+    public String blindIndexToken(String token) throws GeneralSecurityException {
+        return truncatedMac(blindIndexKey, token);
+    }
+
+    private static String truncatedMac(SecretKey key, String plaintext) throws GeneralSecurityException {
+        byte[] digest;
+        Mac mac = MACS.acquire();
+        try {
+            mac.init(key);
+            digest = mac.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            MACS.release(mac);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, FINGERPRINT_LENGTH));
+    }
+
+    public String[] encryptAll(String... plaintexts) throws GeneralSecurityException {
+        String[] sealed = new String[plaintexts.length];
+        for (int index = 0; index < plaintexts.length; index++) sealed[index] = encrypt(plaintexts[index]);
+        return sealed;
+    }
+
+    public String[] decryptAll(String... sealed) throws GeneralSecurityException {
+        String[] plaintexts = new String[sealed.length];
+        for (int index = 0; index < sealed.length; index++) plaintexts[index] = decrypt(sealed[index]);
+        return plaintexts;
+    }
+}
@@ -0,0 +1,60 @@
+package com.passwordbox.utilities;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+public class CryptoPool {
+
+    private final ThreadPoolExecutor executor;
+
+    public CryptoPool(@Value("${passwordbox.crypto.pool-size:0}") int poolSize, @Value("${passwordbox.crypto.queue-capacity:10000}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "crypto-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public <T> T call(Callable<T> task) throws Exception {
+        if (!Thread.currentThread().isVirtual()) return task.call();
+        try {
+            return executor.submit(task).get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw exception;
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof Exception cause) throw cause;
+            if (exception.getCause() instanceof Error error) throw error;
+            throw exception;
+        }
+    }
+
+    public <T> T get(Supplier<T> task) {
+        try {
+            return call(task::get);
+        } catch (RuntimeException exception) {
+            throw exception;
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    public int getPoolSize() {
+        return executor.getCorePoolSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
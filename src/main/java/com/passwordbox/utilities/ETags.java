@@ -0,0 +1,30 @@
+package com.passwordbox.utilities;
+
+public class ETags {
+
+    public static String of(String itemId, long version) {
+        return "\"" + itemId + "-" + version + "\"";
+    }
+
+    public static boolean weakMatches(String header, String eTag) {
+        return matches(header, eTag, true);
+    }
+
+    public static boolean strongMatches(String header, String eTag) {
+        return matches(header, eTag, false);
+    }
+
+    private static boolean matches(String header, String eTag, boolean weak) {
+        if (header == null) return false;
+        for (String candidate : header.split(",")) {
+            candidate = candidate.strip();
+            if (candidate.equals("*")) return true;
+            if (candidate.startsWith("W/")) {
+                if (!weak) continue;
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(eTag)) return true;
+        }
+        return false;
+    }
+}
@@ -1,37 +1,44 @@
 package com.passwordbox.utilities;
 
 import com.passwordbox.data.models.*;
+import com.passwordbox.data.repositories.VaultItemOperations;
 import com.passwordbox.exceptions.CreditCardNotFoundException;
 import com.passwordbox.exceptions.LoginInfoNotFoundException;
 import com.passwordbox.exceptions.NoteNotFoundException;
+import org.springframework.data.mongodb.core.convert.LazyLoadingProxy;
+
+import java.util.Optional;
 
 public class FindDetails {
 
-    public static LoginInfo findLoginInfoInVault(String title, Vault vault) {
-        for(int count = 0; count < vault.getLoginInfos().size(); count++){
-            if (vault.getLoginInfos().get(count).getTitle().equals(title))
-                return vault.getLoginInfos().get(count);
-        }
-        throw new LoginInfoNotFoundException("Login Info does not Exist. Please Try Again");
+    public static LoginInfo findLoginInfoInVault(String title, Vault vault, VaultItemOperations vaultItemOperations) {
+        Optional<LoginInfo> loginInfo = isVaultLoaded(vault)
+                ? Optional.ofNullable(vault.findLoginInfo(title))
+                : vaultItemOperations.findLoginInfo(vaultIdOf(vault), title);
+        return loginInfo.orElseThrow(() -> new LoginInfoNotFoundException("Login Info does not Exist. Please Try Again"));
     }
 
-    public static Note findNoteInVault(String title, Vault vault) {
-        for(int count = 0; count < vault.getNotes().size(); count++){
-            if (vault.getNotes().get(count).getTitle().equals(title))
-                return vault.getNotes().get(count);
-        }
-        throw new NoteNotFoundException("Note does not Exist. Please Try Again");
+    public static Note findNoteInVault(String title, Vault vault, VaultItemOperations vaultItemOperations) {
+        Optional<Note> note = isVaultLoaded(vault)
+                ? Optional.ofNullable(vault.findNote(title))
+                : vaultItemOperations.findNote(vaultIdOf(vault), title);
+        return note.orElseThrow(() -> new NoteNotFoundException("Note does not Exist. Please Try Again"));
     }
 
-    public static CreditCard findCreditCardInVault(String title, Vault vault) {
-        for (int count = 0; count < vault.getCreditCards().size(); count++) {
-            if (vault.getCreditCards().get(count).getTitle().equals(title))
-                return vault.getCreditCards().get(count);
-        }
-        throw new CreditCardNotFoundException("CreditCard does not Exist. Please Try Again");
+    public static CreditCard findCreditCardInVault(String title, Vault vault, VaultItemOperations vaultItemOperations) {
+        Optional<CreditCard> creditCard = isVaultLoaded(vault)
+                ? Optional.ofNullable(vault.findCreditCard(title))
+                : vaultItemOperations.findCreditCard(vaultIdOf(vault), title);
+        return creditCard.orElseThrow(() -> new CreditCardNotFoundException("CreditCard does not Exist. Please Try Again"));
     }
 
+    public static boolean isVaultLoaded(Vault vault) {
+        return !(vault instanceof LazyLoadingProxy);
+    }
 
-
+    public static String vaultIdOf(Vault vault) {
+        if (vault instanceof LazyLoadingProxy lazyVault) return lazyVault.toDBRef().getId().toString();
+        return vault.getId();
+    }
 
 }
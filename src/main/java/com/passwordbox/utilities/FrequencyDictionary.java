@@ -0,0 +1,94 @@
+package com.passwordbox.utilities;
+
+import java.util.*;
+
+public final class FrequencyDictionary {
+
+    private final String name;
+    private final char[] characters;
+    private final int[] offsets;
+    private final int[] ranks;
+    private final int maxWordLength;
+
+    private FrequencyDictionary(String name, char[] characters, int[] offsets, int[] ranks) {
+        this.name = name;
+        this.characters = characters;
+        this.offsets = offsets;
+        this.ranks = ranks;
+        int maxWordLength = 0;
+        for (int index = 0; index < ranks.length; index++) maxWordLength = Math.max(maxWordLength, offsets[index + 1] - offsets[index]);
+        this.maxWordLength = maxWordLength;
+    }
+
+    public static FrequencyDictionary of(String name, List<String> rankedWords) {
+        Map<String, Integer> rankByWord = new HashMap<>();
+        for (String word : rankedWords) {
+            String normalised = word.trim().toLowerCase(Locale.ROOT);
+            if (!normalised.isEmpty()) rankByWord.putIfAbsent(normalised, rankByWord.size() + 1);
+        }
+        List<String> words = new ArrayList<>(rankByWord.keySet());
+        Collections.sort(words);
+        int[] offsets = new int[words.size() + 1];
+        int[] ranks = new int[words.size()];
+        StringBuilder characters = new StringBuilder();
+        for (int index = 0; index < words.size(); index++) {
+            offsets[index] = characters.length();
+            ranks[index] = rankByWord.get(words.get(index));
+            characters.append(words.get(index));
+        }
+        offsets[words.size()] = characters.length();
+        return new FrequencyDictionary(name, characters.toString().toCharArray(), offsets, ranks);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return ranks.length;
+    }
+
+    public int getMaxWordLength() {
+        return maxWordLength;
+    }
+
+    public int lowerBound(CharSequence text, int start, int end) {
+        return lowerBound(text, start, end, 0);
+    }
+
+    public int lowerBound(CharSequence text, int start, int end, int fromIndex) {
+        int low = fromIndex;
+        int high = ranks.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(middle, text, start, end) < 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    public int rankAt(int index, CharSequence text, int start, int end) {
+        if (index >= ranks.length || offsets[index + 1] - offsets[index] != end - start) return 0;
+        return compare(index, text, start, end) == 0 ? ranks[index] : 0;
+    }
+
+    public boolean startsWith(int index, CharSequence text, int start, int end) {
+        if (index >= ranks.length || offsets[index + 1] - offsets[index] < end - start) return false;
+        int offset = offsets[index];
+        for (int position = start; position < end; position++) {
+            if (characters[offset++] != text.charAt(position)) return false;
+        }
+        return true;
+    }
+
+    private int compare(int index, CharSequence text, int start, int end) {
+        int offset = offsets[index];
+        int wordEnd = offsets[index + 1];
+        int position = start;
+        while (offset < wordEnd && position < end) {
+            int difference = characters[offset++] - text.charAt(position++);
+            if (difference != 0) return difference;
+        }
+        return (wordEnd - offset) - (end - position);
+    }
+}
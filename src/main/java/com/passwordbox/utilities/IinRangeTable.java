@@ -0,0 +1,129 @@
+package com.passwordbox.utilities;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+public class IinRangeTable {
+
+    public static final int PREFIX_LENGTH = 8;
+
+    private static final long PREFIX_SPACE = 100_000_000L;
+
+    private final long[] starts;
+    private final CardBrand[] brands;
+
+    private IinRangeTable(long[] starts, CardBrand[] brands) {
+        this.starts = starts;
+        this.brands = brands;
+    }
+
+    public record IinRange(long low, long high, CardBrand cardBrand) {
+
+        public static IinRange of(String lowPrefix, String highPrefix, CardBrand cardBrand) {
+            if (!isPrefix(lowPrefix) || !isPrefix(highPrefix)) throw new IllegalArgumentException("Invalid IIN prefix " + lowPrefix + " - " + highPrefix);
+            long low = pad(lowPrefix, '0');
+            long high = pad(highPrefix, '9');
+            if (low > high) throw new IllegalArgumentException("Invalid IIN range " + lowPrefix + " - " + highPrefix);
+            return new IinRange(low, high, cardBrand);
+        }
+
+        private static boolean isPrefix(String prefix) {
+            return !prefix.isEmpty() && prefix.length() <= PREFIX_LENGTH && prefix.chars().allMatch(Character::isDigit);
+        }
+
+        private static long pad(String prefix, char filler) {
+            StringBuilder padded = new StringBuilder(PREFIX_LENGTH).append(prefix);
+            while (padded.length() < PREFIX_LENGTH) padded.append(filler);
+            return Long.parseLong(padded.toString());
+        }
+
+        private long width() {
+            return high - low;
+        }
+    }
+
+    public static IinRangeTable empty() {
+        return new IinRangeTable(new long[0], new CardBrand[0]);
+    }
+
+    public static IinRangeTable of(List<IinRange> ranges) {
+        TreeSet<Long> boundaries = new TreeSet<>();
+        for (IinRange range : ranges) {
+            boundaries.add(range.low());
+            boundaries.add(range.high() + 1);
+        }
+        List<IinRange> byLow = new ArrayList<>(ranges);
+        byLow.sort(Comparator.comparingLong(IinRange::low));
+        long[] starts = new long[boundaries.size()];
+        CardBrand[] brands = new CardBrand[boundaries.size()];
+        int segments = 0;
+        List<IinRange> open = new ArrayList<>();
+        int next = 0;
+        for (long start : boundaries) {
+            if (start >= PREFIX_SPACE) break;
+            open.removeIf(range -> range.high() < start);
+            while (next < byLow.size() && byLow.get(next).low() <= start) open.add(byLow.get(next++));
+            CardBrand narrowest = null;
+            long narrowestWidth = Long.MAX_VALUE;
+            for (IinRange range : open) {
+                if (range.width() <= narrowestWidth) {
+                    narrowest = range.cardBrand();
+                    narrowestWidth = range.width();
+                }
+            }
+            if (segments > 0 && brands[segments - 1] == narrowest) continue;
+            starts[segments] = start;
+            brands[segments++] = narrowest;
+        }
+        return new IinRangeTable(Arrays.copyOf(starts, segments), Arrays.copyOf(brands, segments));
+    }
+
+    public static List<IinRange> parse(Reader reader) throws IOException {
+        List<IinRange> ranges = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            String[] columns = line.split(",", -1);
+            if (columns.length < 3) throw new IllegalArgumentException("Invalid IIN range line " + line);
+            String issuer = columns.length > 3 && !columns[3].isBlank() ? columns[3].strip() : columns[2].strip();
+            ranges.add(IinRange.of(columns[0].strip(), columns[1].strip(), new CardBrand(columns[2].strip(), issuer)));
+        }
+        return ranges;
+    }
+
+    public CardBrand classify(CharSequence cardNumber) {
+        long prefix = 0;
+        int digits = 0;
+        for (int index = 0; index < cardNumber.length() && digits < PREFIX_LENGTH; index++) {
+            char character = cardNumber.charAt(index);
+            if (character == ' ' || character == '-') continue;
+            if (character < '0' || character > '9') return null;
+            prefix = prefix * 10 + (character - '0');
+            digits++;
+        }
+        if (digits == 0) return null;
+        for (; digits < PREFIX_LENGTH; digits++) prefix *= 10;
+        int index = Arrays.binarySearch(starts, prefix);
+        if (index < 0) index = -index - 2;
+        if (index < 0) return null;
+        return brands[index];
+    }
+
+    public List<CardBrand> classifyAll(List<? extends CharSequence> cardNumbers) {
+        List<CardBrand> cardBrands = new ArrayList<>(cardNumbers.size());
+        for (CharSequence cardNumber : cardNumbers) cardBrands.add(classify(cardNumber));
+        return cardBrands;
+    }
+
+    public int size() {
+        return starts.length;
+    }
+}
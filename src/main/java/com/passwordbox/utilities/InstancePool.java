@@ -0,0 +1,35 @@
+package com.passwordbox.utilities;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Supplier;
+
+public final class InstancePool<T> {
+
+    private static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final ArrayBlockingQueue<T> idle;
+    private final Supplier<T> factory;
+
+    public InstancePool(Supplier<T> factory) {
+        this(DEFAULT_CAPACITY, factory);
+    }
+
+    public InstancePool(int capacity, Supplier<T> factory) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+        this.idle = new ArrayBlockingQueue<>(capacity);
+        this.factory = factory;
+    }
+
+    public T acquire() {
+        T instance = idle.poll();
+        return instance != null ? instance : factory.get();
+    }
+
+    public void release(T instance) {
+        idle.offer(instance);
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+}
@@ -0,0 +1,94 @@
+package com.passwordbox.utilities;
+
+import java.util.Arrays;
+
+public final class KeyboardGraph {
+
+    private static final int[][] SLANTED_DIRECTIONS = {{-1, 0}, {0, -1}, {1, -1}, {1, 0}, {0, 1}, {-1, 1}};
+    private static final int[][] ALIGNED_DIRECTIONS = {{-1, 0}, {-1, -1}, {0, -1}, {1, -1}, {1, 0}, {1, 1}, {0, 1}, {-1, 1}};
+
+    public static final KeyboardGraph QWERTY = new KeyboardGraph(true, new int[]{0, 1, 1, 1},
+            "`~ 1! 2@ 3# 4$ 5% 6^ 7& 8* 9( 0) -_ =+",
+            "qQ wW eE rR tT yY uU iI oO pP [{ ]} \\|",
+            "aA sS dD fF gG hH jJ kK lL ;: '\"",
+            "zZ xX cC vV bB nN mM ,< .> /?");
+
+    public static final KeyboardGraph KEYPAD = new KeyboardGraph(false, new int[]{1, 0, 0, 0, 1},
+            "/ * -",
+            "7 8 9 +",
+            "4 5 6",
+            "1 2 3",
+            "0 .");
+
+    private final int[] keyByCharacter = new int[128];
+    private final boolean[] shiftedCharacter = new boolean[128];
+    private final int[] neighbours;
+    private final int directions;
+    private final int keyCount;
+    private final double averageDegree;
+
+    private KeyboardGraph(boolean slanted, int[] rowOffsets, String... rows) {
+        Arrays.fill(keyByCharacter, -1);
+        int[][] directionDeltas = slanted ? SLANTED_DIRECTIONS : ALIGNED_DIRECTIONS;
+        directions = directionDeltas.length;
+        int width = 0;
+        for (int row = 0; row < rows.length; row++) width = Math.max(width, rowOffsets[row] + rows[row].split(" ").length);
+        int[][] grid = new int[rows.length][width];
+        for (int[] gridRow : grid) Arrays.fill(gridRow, -1);
+        int keys = 0;
+        for (int row = 0; row < rows.length; row++) {
+            String[] tokens = rows[row].split(" ");
+            for (int column = 0; column < tokens.length; column++) {
+                String token = tokens[column];
+                for (int index = 0; index < token.length(); index++) {
+                    keyByCharacter[token.charAt(index)] = keys;
+                    shiftedCharacter[token.charAt(index)] = index > 0;
+                }
+                grid[row][rowOffsets[row] + column] = keys++;
+            }
+        }
+        keyCount = keys;
+        neighbours = new int[keys * directions];
+        Arrays.fill(neighbours, -1);
+        int edges = 0;
+        for (int row = 0; row < grid.length; row++) {
+            for (int column = 0; column < width; column++) {
+                int key = grid[row][column];
+                if (key < 0) continue;
+                for (int direction = 0; direction < directions; direction++) {
+                    int neighbourColumn = column + directionDeltas[direction][0];
+                    int neighbourRow = row + directionDeltas[direction][1];
+                    if (neighbourRow < 0 || neighbourRow >= grid.length || neighbourColumn < 0 || neighbourColumn >= width) continue;
+                    int neighbour = grid[neighbourRow][neighbourColumn];
+                    if (neighbour < 0) continue;
+                    neighbours[key * directions + direction] = neighbour;
+                    edges++;
+                }
+            }
+        }
+        averageDegree = (double) edges / keys;
+    }
+
+    public int keyOf(char character) {
+        return character < 128 ? keyByCharacter[character] : -1;
+    }
+
+    public boolean isShifted(char character) {
+        return character < 128 && shiftedCharacter[character];
+    }
+
+    public int directionBetween(int key, int neighbour) {
+        for (int direction = 0; direction < directions; direction++) {
+            if (neighbours[key * directions + direction] == neighbour) return direction;
+        }
+        return -1;
+    }
+
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    public double getAverageDegree() {
+        return averageDegree;
+    }
+}
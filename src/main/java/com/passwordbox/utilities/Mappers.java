@@ -3,36 +3,32 @@ package com.passwordbox.utilities;
 import com.passwordbox.data.models.*;
 import com.passwordbox.dataTransferObjects.requests.*;
 import com.passwordbox.dataTransferObjects.responses.*;
+import org.bson.types.ObjectId;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 import static com.passwordbox.utilities.PasscodeGenerator.generatePassword;
 
 public class Mappers {
 
-    static EncryptDecryptPassword encryptDecryptPassword;
-
-    static {
-        try {
-            encryptDecryptPassword = new EncryptDecryptPassword();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    public static User registerRequestMap(RegisterRequest registerRequest, Vault vault) {
+    public static User registerRequestMap(RegisterRequest registerRequest) {
         User newUser = new User();
+        newUser.setId(new ObjectId().toHexString());
         newUser.setUsername(registerRequest.getUsername().toLowerCase());
         newUser.setMasterPassword(registerRequest.getMasterPassword());
-        newUser.setVault(vault);
         return newUser;
     }
 
-    public static RegisterResponse registerResponseMap(User user) {
+    public static RegisterResponse registerResponseMap(User user, PasswordStrength masterPasswordStrength) {
         RegisterResponse registerResponse = new RegisterResponse();
         registerResponse.setId(user.getId());
         registerResponse.setUsername(user.getUsername());
         registerResponse.setDateOfRegistration(user.getDateOfRegistration().format(DateTimeFormatter.ofPattern("MMM dd, yyyy")));
+        registerResponse.setStrengthScore(masterPasswordStrength.score());
         return registerResponse;
     }
 
@@ -50,13 +46,40 @@ public class Mappers {
         return loginResponse;
     }
 
-    public static LoginInfo saveNewLoginInfoRequestMap(SaveNewLoginInfoRequest saveNewLoginInfoRequest) throws Exception {
+    public static LogoutResponse logoutResponseMap(UserAccount userAccount) {
+        LogoutResponse logoutResponse = new LogoutResponse();
+        logoutResponse.setId(userAccount.getId());
+        logoutResponse.setUsername(userAccount.getUsername());
+        return logoutResponse;
+    }
+
+    public static LoginResponse loginResponseMap(UserAccount userAccount) {
+        LoginResponse loginResponse = new LoginResponse();
+        loginResponse.setId(userAccount.getId());
+        loginResponse.setUsername(userAccount.getUsername());
+        return loginResponse;
+    }
+
+    public static LoginInfo saveNewLoginInfoRequestMap(SaveNewLoginInfoRequest saveNewLoginInfoRequest, CryptoEngine cryptoEngine, BreachCorpus breachCorpus, PasswordStrengthEstimator strengthEstimator, PublicSuffixTrie publicSuffixTrie) throws Exception {
         LoginInfo loginInfo = new LoginInfo();
+        loginInfo.setId(new ObjectId().toHexString());
         loginInfo.setTitle(saveNewLoginInfoRequest.getTitle().toLowerCase());
         loginInfo.setWebsite(saveNewLoginInfoRequest.getWebsite());
+        loginInfo.setDomain(publicSuffixTrie.registrableDomainOf(saveNewLoginInfoRequest.getWebsite()));
         loginInfo.setLoginId(saveNewLoginInfoRequest.getLoginId());
-        if (saveNewLoginInfoRequest.getPassword() == null) loginInfo.setPassword(generatePassword(16));
-        else loginInfo.setPassword(encryptDecryptPassword.encrypt(saveNewLoginInfoRequest.getPassword()));
+        String password = saveNewLoginInfoRequest.getPassword() == null ? generatePassword(16) : saveNewLoginInfoRequest.getPassword();
+        loginInfo.setPassword(cryptoEngine.encrypt(password));
+        loginInfo.setBreached(breachCorpus.breachCount(password) > 0);
+        loginInfo.setStrengthScore(strengthEstimator.estimate(password, loginInfo.getTitle(), loginInfo.getWebsite(), loginInfo.getLoginId()).score());
+        loginInfo.setPasswordFingerprint(cryptoEngine.fingerprint(password));
+        loginInfo.setPasswordChangedAt(LocalDate.now());
+        return loginInfo;
+    }
+
+    public static LoginInfo refreshPasswordHealthRequestMap(LoginInfo loginInfo, CryptoEngine cryptoEngine, PasswordStrengthEstimator strengthEstimator) throws Exception {
+        String password = cryptoEngine.decrypt(loginInfo.getPassword());
+        loginInfo.setStrengthScore(strengthEstimator.estimate(password, loginInfo.getTitle(), loginInfo.getWebsite(), loginInfo.getLoginId()).score());
+        loginInfo.setPasswordFingerprint(cryptoEngine.fingerprint(password));
         return loginInfo;
     }
 
@@ -67,14 +90,26 @@ public class Mappers {
         saveNewLoginInfoResponse.setWebsite(loginInfo.getWebsite());
         saveNewLoginInfoResponse.setLoginId(loginInfo.getLoginId());
         saveNewLoginInfoResponse.setPassword(loginInfo.getPassword());
+        saveNewLoginInfoResponse.setBreached(loginInfo.isBreached());
+        saveNewLoginInfoResponse.setStrengthScore(loginInfo.getStrengthScore());
         return saveNewLoginInfoResponse;
     }
 
-    public static LoginInfo editLoginInfoRequestMap(EditLoginInfoRequest editLoginInfoRequest, LoginInfo loginInfo) throws Exception {
+    public static LoginInfo editLoginInfoRequestMap(EditLoginInfoRequest editLoginInfoRequest, LoginInfo loginInfo, CryptoEngine cryptoEngine, BreachCorpus breachCorpus, PasswordStrengthEstimator strengthEstimator, PublicSuffixTrie publicSuffixTrie) throws Exception {
         if (editLoginInfoRequest.getEditedTitle() != null) loginInfo.setTitle(editLoginInfoRequest.getEditedTitle().toLowerCase().trim());
         if (editLoginInfoRequest.getEditedLoginId() != null) loginInfo.setLoginId(editLoginInfoRequest.getEditedLoginId());
-        if (editLoginInfoRequest.getEditedWebsite() != null) loginInfo.setWebsite(editLoginInfoRequest.getEditedWebsite());
-        if (editLoginInfoRequest.getEditedPassword() != null) loginInfo.setPassword(encryptDecryptPassword.encrypt(editLoginInfoRequest.getEditedPassword()));
+        if (editLoginInfoRequest.getEditedWebsite() != null) {
+            loginInfo.setWebsite(editLoginInfoRequest.getEditedWebsite());
+            loginInfo.setDomain(publicSuffixTrie.registrableDomainOf(editLoginInfoRequest.getEditedWebsite()));
+        }
+        if (editLoginInfoRequest.getEditedPassword() != null) {
+            loginInfo.setPassword(cryptoEngine.encrypt(editLoginInfoRequest.getEditedPassword()));
+            loginInfo.setBreached(breachCorpus.breachCount(editLoginInfoRequest.getEditedPassword()) > 0);
+            loginInfo.setStrengthScore(strengthEstimator.estimate(editLoginInfoRequest.getEditedPassword(), loginInfo.getTitle(), loginInfo.getWebsite(), loginInfo.getLoginId()).score());
+            loginInfo.setPasswordFingerprint(cryptoEngine.fingerprint(editLoginInfoRequest.getEditedPassword()));
+            loginInfo.setPasswordChangedAt(LocalDate.now());
+        }
+        loginInfo.setVersion(loginInfo.getVersion() + 1);
         return loginInfo;
     }
 
@@ -83,19 +118,55 @@ public class Mappers {
         editLoginInfoResponse.setId(loginInfo.getId());
         editLoginInfoResponse.setTitle(loginInfo.getTitle());
         editLoginInfoResponse.setWebsite(loginInfo.getWebsite());
+        editLoginInfoResponse.setBreached(loginInfo.isBreached());
+        editLoginInfoResponse.setStrengthScore(loginInfo.getStrengthScore());
         return editLoginInfoResponse;
     }
 
-    public static ViewLoginInfoResponse viewLoginInfoResponseMap(LoginInfo loginInfo) throws Exception {
+    public static ViewLoginInfoResponse viewLoginInfoResponseMap(LoginInfo loginInfo, CryptoEngine cryptoEngine) throws Exception {
         ViewLoginInfoResponse viewLoginInfoResponse = new ViewLoginInfoResponse();
         viewLoginInfoResponse.setId(loginInfo.getId());
         viewLoginInfoResponse.setTitle(loginInfo.getTitle());
         viewLoginInfoResponse.setWebsite(loginInfo.getWebsite());
         viewLoginInfoResponse.setLoginId(loginInfo.getLoginId());
-        viewLoginInfoResponse.setPassword(encryptDecryptPassword.decrypt(loginInfo.getPassword()));
+        viewLoginInfoResponse.setPassword(cryptoEngine.decrypt(loginInfo.getPassword()));
         return viewLoginInfoResponse;
     }
 
+    public static BreachedLoginInfoResponse breachedLoginInfoResponseMap(LoginInfo loginInfo, int breachCount) {
+        BreachedLoginInfoResponse breachedLoginInfoResponse = new BreachedLoginInfoResponse();
+        breachedLoginInfoResponse.setId(loginInfo.getId());
+        breachedLoginInfoResponse.setTitle(loginInfo.getTitle());
+        breachedLoginInfoResponse.setWebsite(loginInfo.getWebsite());
+        breachedLoginInfoResponse.setBreachCount(breachCount);
+        return breachedLoginInfoResponse;
+    }
+
+    public static CheckBreachedPasswordsResponse checkBreachedPasswordsResponseMap(int checked, List<BreachedLoginInfoResponse> breachedLoginInfos) {
+        CheckBreachedPasswordsResponse checkBreachedPasswordsResponse = new CheckBreachedPasswordsResponse();
+        checkBreachedPasswordsResponse.setChecked(checked);
+        checkBreachedPasswordsResponse.setBreachedLoginInfos(breachedLoginInfos);
+        return checkBreachedPasswordsResponse;
+    }
+
+    public static VaultHealthResponse vaultHealthResponseMap(VaultHealth vaultHealth, int weakBelowScore, String staleBeforeMonth, int refreshedLoginInfos) {
+        VaultHealthResponse vaultHealthResponse = new VaultHealthResponse();
+        vaultHealthResponse.setLoginInfos(vaultHealth.getLoginInfos());
+        int reusedLoginInfos = 0;
+        for (int count : vaultHealth.getFingerprints().values()) if (count > 1) reusedLoginInfos += count;
+        vaultHealthResponse.setReusedLoginInfos(reusedLoginInfos);
+        int weakLoginInfos = 0;
+        for (int score = 0; score < weakBelowScore; score++) weakLoginInfos += vaultHealth.getStrengthScores().getOrDefault(String.valueOf(score), 0);
+        vaultHealthResponse.setWeakLoginInfos(weakLoginInfos);
+        int staleLoginInfos = 0;
+        for (var passwordMonth : vaultHealth.getPasswordMonths().entrySet()) {
+            if (passwordMonth.getKey().equals(PasswordHealth.UNKNOWN_MONTH) || passwordMonth.getKey().compareTo(staleBeforeMonth) < 0) staleLoginInfos += passwordMonth.getValue();
+        }
+        vaultHealthResponse.setStaleLoginInfos(staleLoginInfos);
+        vaultHealthResponse.setRefreshedLoginInfos(refreshedLoginInfos);
+        return vaultHealthResponse;
+    }
+
     public static DeleteLoginInfoResponse deleteLoginInfoResponseMap(LoginInfo loginInfo) {
         DeleteLoginInfoResponse deleteLoginInfoResponse = new DeleteLoginInfoResponse();
         deleteLoginInfoResponse.setId(loginInfo.getId());
@@ -103,24 +174,28 @@ public class Mappers {
         return deleteLoginInfoResponse;
     }
 
-    public static Note createNoteRequestMap(CreateNoteRequest createNoteRequest) {
+    public static Note createNoteRequestMap(CreateNoteRequest createNoteRequest, CryptoEngine cryptoEngine) throws Exception {
         Note newNote = new Note();
+        newNote.setId(new ObjectId().toHexString());
         newNote.setTitle(createNoteRequest.getTitle().toLowerCase().trim());
-        newNote.setContent(createNoteRequest.getContent());
+        newNote.setContent(cryptoEngine.encrypt(createNoteRequest.getContent()));
+        newNote.setSearchable(createNoteRequest.isSearchable());
         return newNote;
     }
 
-    public static CreateNoteResponse createNoteResponseMap(Note note) throws Exception {
+    public static CreateNoteResponse createNoteResponseMap(Note note) {
         CreateNoteResponse createNoteResponse = new CreateNoteResponse();
         createNoteResponse.setId(note.getId());
         createNoteResponse.setTitle(note.getTitle());
-        createNoteResponse.setContent(encryptDecryptPassword.encrypt(note.getContent()));
+        createNoteResponse.setContent(note.getContent());
         return createNoteResponse;
     }
 
-    public static Note editNoteRequestMap(EditNoteRequest editNoteRequest, Note note) throws Exception {
+    public static Note editNoteRequestMap(EditNoteRequest editNoteRequest, Note note, CryptoEngine cryptoEngine) throws Exception {
         if (editNoteRequest.getEditedTitle() != null) note.setTitle(editNoteRequest.getEditedTitle().toLowerCase().trim());
-        if (editNoteRequest.getEditedContent() != null) note.setContent(encryptDecryptPassword.encrypt(editNoteRequest.getEditedContent()));
+        if (editNoteRequest.getEditedContent() != null) note.setContent(cryptoEngine.encrypt(editNoteRequest.getEditedContent()));
+        if (editNoteRequest.getSearchable() != null) note.setSearchable(editNoteRequest.getSearchable());
+        note.setVersion(note.getVersion() + 1);
         return note;
     }
 
@@ -132,11 +207,11 @@ public class Mappers {
         return editNoteResponse;
     }
 
-    public static ViewNoteResponse viewNoteResponseMap(Note note) throws Exception {
+    public static ViewNoteResponse viewNoteResponseMap(Note note, CryptoEngine cryptoEngine) throws Exception {
         ViewNoteResponse viewNoteResponse = new ViewNoteResponse();
         viewNoteResponse.setId(note.getId());
         viewNoteResponse.setTitle(note.getTitle());
-        viewNoteResponse.setContent(encryptDecryptPassword.decrypt(note.getContent()));
+        viewNoteResponse.setContent(cryptoEngine.decrypt(note.getContent()));
         return viewNoteResponse;
     }
 
@@ -147,13 +222,41 @@ public class Mappers {
         return deleteNoteResponse;
     }
 
-    public static GeneratePasswordResponse generatePasswordResponseMap(String password) {
+    public static GeneratePasswordResponse generatePasswordResponseMap(String password, PasswordStrength passwordStrength) {
         GeneratePasswordResponse generatePasswordResponse = new GeneratePasswordResponse();
         generatePasswordResponse.setPassword(password);
         generatePasswordResponse.setLength(password.length());
+        generatePasswordResponse.setStrengthScore(passwordStrength.score());
         return generatePasswordResponse;
     }
 
+    public static GeneratePasswordsResponse generatePasswordsResponseMap(List<String> passwords, int length, List<Integer> strengthScores) {
+        GeneratePasswordsResponse generatePasswordsResponse = new GeneratePasswordsResponse();
+        generatePasswordsResponse.setPasswords(passwords);
+        generatePasswordsResponse.setLength(length);
+        generatePasswordsResponse.setCount(passwords.size());
+        generatePasswordsResponse.setStrengthScores(strengthScores);
+        return generatePasswordsResponse;
+    }
+
+    public static GeneratePinsResponse generatePinsResponseMap(List<String> pins, int length) {
+        GeneratePinsResponse generatePinsResponse = new GeneratePinsResponse();
+        generatePinsResponse.setPins(pins);
+        generatePinsResponse.setLength(length);
+        generatePinsResponse.setCount(pins.size());
+        return generatePinsResponse;
+    }
+
+    public static GeneratePassphraseResponse generatePassphraseResponseMap(String passphrase, int wordCount, Wordlist wordlist, PasswordStrength passphraseStrength) {
+        GeneratePassphraseResponse generatePassphraseResponse = new GeneratePassphraseResponse();
+        generatePassphraseResponse.setPassphrase(passphrase);
+        generatePassphraseResponse.setWordCount(wordCount);
+        generatePassphraseResponse.setWordlist(wordlist.getName());
+        generatePassphraseResponse.setEntropyBits(wordCount * wordlist.bitsPerWord());
+        generatePassphraseResponse.setStrengthScore(passphraseStrength.score());
+        return generatePassphraseResponse;
+    }
+
     public static GeneratePinResponse generatePinResponseMap(String pin) {
         GeneratePinResponse generatePinResponse = new GeneratePinResponse();
         generatePinResponse.setPin(pin);
@@ -161,13 +264,21 @@ public class Mappers {
         return generatePinResponse;
     }
 
-    public static CreditCard saveCreditCardRequestMap(SaveCreditCardRequest saveCreditCardRequest) throws Exception {
+    public static CreditCard saveCreditCardRequestMap(SaveCreditCardRequest saveCreditCardRequest, CryptoEngine cryptoEngine, IinRangeTable iinRangeTable) throws Exception {
         CreditCard creditCard = new CreditCard();
+        creditCard.setId(new ObjectId().toHexString());
         creditCard.setTitle(saveCreditCardRequest.getTitle());
-        creditCard.setCardNumber(encryptDecryptPassword.encrypt(saveCreditCardRequest.getCardNumber()));
-        creditCard.setCardType(encryptDecryptPassword.encrypt(saveCreditCardRequest.getCardType()));
-        creditCard.setCVV(encryptDecryptPassword.encrypt(saveCreditCardRequest.getCVV()));
-        creditCard.setAdditionalInformation(encryptDecryptPassword.encrypt(saveCreditCardRequest.getAdditionalInformation()));
+        CardBrand cardBrand = saveCreditCardRequest.getCardNumber() == null ? null : iinRangeTable.classify(saveCreditCardRequest.getCardNumber());
+        String cardType = cardBrand == null ? saveCreditCardRequest.getCardType() : cardBrand.brand();
+        String cardIssuer = cardBrand == null ? null : cardBrand.issuer();
+        String[] encryptedFields = cryptoEngine.encryptAll(saveCreditCardRequest.getCardNumber(), cardType, cardIssuer,
+                saveCreditCardRequest.getCVV(), saveCreditCardRequest.getAdditionalInformation());
+        creditCard.setCardNumber(encryptedFields[0]);
+        creditCard.setMaskedCardNumber(maskCardNumber(saveCreditCardRequest.getCardNumber()));
+        creditCard.setCardType(encryptedFields[1]);
+        creditCard.setCardIssuer(encryptedFields[2]);
+        creditCard.setCVV(encryptedFields[3]);
+        creditCard.setAdditionalInformation(encryptedFields[4]);
         return creditCard;
     }
 
@@ -179,13 +290,22 @@ public class Mappers {
         return saveCreditCardResponse;
     }
 
-    public static CreditCard editCreditCardRequestMap(EditCreditCardRequest editCreditCardRequest, CreditCard creditCard) throws Exception {
-        if (editCreditCardRequest.getUpdateTitle() != null) creditCard.setTitle(encryptDecryptPassword.encrypt(editCreditCardRequest.getUpdateTitle()));
-        if (editCreditCardRequest.getUpdatedCardNumber() != null) creditCard.setCardNumber(encryptDecryptPassword.encrypt(editCreditCardRequest.getUpdatedCardNumber()));
-        if (editCreditCardRequest.getUpdatedPin() != null) creditCard.setPin(encryptDecryptPassword.encrypt(editCreditCardRequest.getUpdatedPin()));
+    public static CreditCard editCreditCardRequestMap(EditCreditCardRequest editCreditCardRequest, CreditCard creditCard, CryptoEngine cryptoEngine, IinRangeTable iinRangeTable) throws Exception {
+        if (editCreditCardRequest.getUpdateTitle() != null) creditCard.setTitle(cryptoEngine.encrypt(editCreditCardRequest.getUpdateTitle()));
+        if (editCreditCardRequest.getUpdatedCardNumber() != null) {
+            creditCard.setCardNumber(cryptoEngine.encrypt(editCreditCardRequest.getUpdatedCardNumber()));
+            creditCard.setMaskedCardNumber(maskCardNumber(editCreditCardRequest.getUpdatedCardNumber()));
+            CardBrand cardBrand = iinRangeTable.classify(editCreditCardRequest.getUpdatedCardNumber());
+            if (cardBrand != null) {
+                creditCard.setCardType(cryptoEngine.encrypt(cardBrand.brand()));
+                creditCard.setCardIssuer(cryptoEngine.encrypt(cardBrand.issuer()));
+            }
+        }
+        if (editCreditCardRequest.getUpdatedPin() != null) creditCard.setPin(cryptoEngine.encrypt(editCreditCardRequest.getUpdatedPin()));
         if (editCreditCardRequest.getUpdatedAdditionalInformation() != null) creditCard.setAdditionalInformation(editCreditCardRequest.getUpdatedAdditionalInformation());
-        if (editCreditCardRequest.getUpdatedCVV() != null) creditCard.setCVV(encryptDecryptPassword.encrypt(editCreditCardRequest.getUpdatedCVV()));
-        if (editCreditCardRequest.getUpdatedExpiryDate() != null) creditCard.setExpiryDate(encryptDecryptPassword.encrypt(editCreditCardRequest.getUpdatedExpiryDate()));
+        if (editCreditCardRequest.getUpdatedCVV() != null) creditCard.setCVV(cryptoEngine.encrypt(editCreditCardRequest.getUpdatedCVV()));
+        if (editCreditCardRequest.getUpdatedExpiryDate() != null) creditCard.setExpiryDate(cryptoEngine.encrypt(editCreditCardRequest.getUpdatedExpiryDate()));
+        creditCard.setVersion(creditCard.getVersion() + 1);
         return creditCard;
     }
 
@@ -196,13 +316,16 @@ public class Mappers {
         return editCreditCardResponse;
     }
 
-    public static ViewCreditCardResponse viewCreditCardResponseMap(CreditCard creditCard) throws Exception {
+    public static ViewCreditCardResponse viewCreditCardResponseMap(CreditCard creditCard, CryptoEngine cryptoEngine) throws Exception {
         ViewCreditCardResponse viewCreditCardResponse = new ViewCreditCardResponse();
         viewCreditCardResponse.setId(creditCard.getId());
         viewCreditCardResponse.setTitle(creditCard.getTitle());
-        viewCreditCardResponse.setCreditCardNumber(encryptDecryptPassword.decrypt(creditCard.getCardNumber()));
-        viewCreditCardResponse.setPin(encryptDecryptPassword.decrypt(creditCard.getPin()));
-        viewCreditCardResponse.setCVV(encryptDecryptPassword.decrypt(creditCard.getCVV()));
+        String[] decryptedFields = cryptoEngine.decryptAll(creditCard.getCardNumber(), creditCard.getPin(), creditCard.getCVV(), creditCard.getCardType(), creditCard.getCardIssuer());
+        viewCreditCardResponse.setCreditCardNumber(decryptedFields[0]);
+        viewCreditCardResponse.setPin(decryptedFields[1]);
+        viewCreditCardResponse.setCVV(decryptedFields[2]);
+        viewCreditCardResponse.setCardType(decryptedFields[3]);
+        viewCreditCardResponse.setCardIssuer(decryptedFields[4]);
         return viewCreditCardResponse;
     }
 
@@ -213,4 +336,128 @@ public class Mappers {
         return deleteCreditCardResponse;
     }
 
+    public static ClassifiedCreditCardResponse classifiedCreditCardResponseMap(String cardNumber, CardBrand cardBrand) {
+        ClassifiedCreditCardResponse classifiedCreditCardResponse = new ClassifiedCreditCardResponse();
+        String digits = cardNumber == null ? "" : cardNumber.replaceAll("[ -]", "");
+        classifiedCreditCardResponse.setMaskedCardNumber(maskCardNumber(digits));
+        classifiedCreditCardResponse.setValid(digits.length() >= 12 && digits.length() <= 19 && CreditCardValidator.isCreditCardValid(digits));
+        if (cardBrand != null) {
+            classifiedCreditCardResponse.setCardType(cardBrand.brand());
+            classifiedCreditCardResponse.setCardIssuer(cardBrand.issuer());
+        }
+        return classifiedCreditCardResponse;
+    }
+
+    public static String maskCardNumber(String cardNumber) {
+        if (cardNumber == null) return null;
+        String digits = cardNumber.replaceAll("[ -]", "");
+        return digits.length() > 4 ? "*".repeat(digits.length() - 4) + digits.substring(digits.length() - 4) : digits;
+    }
+
+    public static ClassifyCreditCardsResponse classifyCreditCardsResponseMap(List<ClassifiedCreditCardResponse> classifiedCreditCards) {
+        ClassifyCreditCardsResponse classifyCreditCardsResponse = new ClassifyCreditCardsResponse();
+        classifyCreditCardsResponse.setClassified(classifiedCreditCards.size());
+        classifyCreditCardsResponse.setClassifiedCreditCards(classifiedCreditCards);
+        return classifyCreditCardsResponse;
+    }
+
+    public static VaultChangeResponse vaultChangeResponseMap(long sequence, VaultChange vaultChange) {
+        VaultChangeResponse vaultChangeResponse = new VaultChangeResponse();
+        vaultChangeResponse.setSequence(sequence);
+        vaultChangeResponse.setItemType(vaultChange.itemType().name());
+        vaultChangeResponse.setItemId(vaultChange.itemId());
+        vaultChangeResponse.setTitle(vaultChange.title());
+        vaultChangeResponse.setOperation(vaultChange.operation().name());
+        return vaultChangeResponse;
+    }
+
+    public static SyncResponse syncResponseMap(long sequence, boolean resyncRequired, List<VaultChangeResponse> changes) {
+        SyncResponse syncResponse = new SyncResponse();
+        syncResponse.setSequence(sequence);
+        syncResponse.setResyncRequired(resyncRequired);
+        syncResponse.setChanges(changes);
+        return syncResponse;
+    }
+
+    public static LoginInfoSummaryResponse loginInfoSummaryResponseMap(LoginInfo loginInfo) {
+        LoginInfoSummaryResponse loginInfoSummaryResponse = new LoginInfoSummaryResponse();
+        loginInfoSummaryResponse.setId(loginInfo.getId());
+        loginInfoSummaryResponse.setTitle(loginInfo.getTitle());
+        loginInfoSummaryResponse.setWebsite(loginInfo.getWebsite());
+        return loginInfoSummaryResponse;
+    }
+
+    public static NoteSummaryResponse noteSummaryResponseMap(Note note) {
+        NoteSummaryResponse noteSummaryResponse = new NoteSummaryResponse();
+        noteSummaryResponse.setId(note.getId());
+        noteSummaryResponse.setTitle(note.getTitle());
+        return noteSummaryResponse;
+    }
+
+    public static CreditCardSummaryResponse creditCardSummaryResponseMap(CreditCard creditCard) {
+        CreditCardSummaryResponse creditCardSummaryResponse = new CreditCardSummaryResponse();
+        creditCardSummaryResponse.setId(creditCard.getId());
+        creditCardSummaryResponse.setTitle(creditCard.getTitle());
+        creditCardSummaryResponse.setMaskedCardNumber(creditCard.getMaskedCardNumber());
+        return creditCardSummaryResponse;
+    }
+
+    public static <T, R> VaultItemPageResponse<R> vaultItemPageResponseMap(List<T> items, int limit, Function<T, String> titleOf, Function<T, R> summaryOf) {
+        VaultItemPageResponse<R> vaultItemPageResponse = new VaultItemPageResponse<>();
+        List<T> page = items.subList(0, Math.min(limit, items.size()));
+        vaultItemPageResponse.setItems(page.stream().map(summaryOf).toList());
+        if (items.size() > limit) vaultItemPageResponse.setNextCursor(PageCursors.encode(titleOf.apply(page.get(page.size() - 1))));
+        return vaultItemPageResponse;
+    }
+
+    public static SearchEntry searchEntryMap(LoginInfo loginInfo) {
+        return new SearchEntry(VaultItemType.LOGIN_INFO, loginInfo.getId(), loginInfo.getTitle());
+    }
+
+    public static SearchEntry searchEntryMap(Note note) {
+        return new SearchEntry(VaultItemType.NOTE, note.getId(), note.getTitle());
+    }
+
+    public static SearchEntry searchEntryMap(CreditCard creditCard) {
+        return new SearchEntry(VaultItemType.CREDIT_CARD, creditCard.getId(), creditCard.getTitle());
+    }
+
+    public static SearchResponse searchResponseMap(List<SearchEntry> searchEntries) {
+        SearchResponse searchResponse = new SearchResponse();
+        List<SearchResultResponse> results = new ArrayList<>(searchEntries.size());
+        for (SearchEntry searchEntry : searchEntries) {
+            SearchResultResponse searchResultResponse = new SearchResultResponse();
+            searchResultResponse.setItemType(searchEntry.itemType().name());
+            searchResultResponse.setItemId(searchEntry.itemId());
+            searchResultResponse.setTitle(searchEntry.title());
+            results.add(searchResultResponse);
+        }
+        searchResponse.setResults(results);
+        return searchResponse;
+    }
+
+    public static SearchNotesResponse searchNotesResponseMap(List<Note> notes, CryptoEngine cryptoEngine) throws Exception {
+        SearchNotesResponse searchNotesResponse = new SearchNotesResponse();
+        List<ViewNoteResponse> viewNoteResponses = new ArrayList<>(notes.size());
+        for (Note note : notes) viewNoteResponses.add(viewNoteResponseMap(note, cryptoEngine));
+        searchNotesResponse.setNotes(viewNoteResponses);
+        return searchNotesResponse;
+    }
+
+    public static MatchLoginsResponse matchLoginsResponseMap(String domain, List<LoginInfo> loginInfos) {
+        MatchLoginsResponse matchLoginsResponse = new MatchLoginsResponse();
+        matchLoginsResponse.setDomain(domain);
+        List<LoginInfoSummaryResponse> loginInfoSummaryResponses = new ArrayList<>(loginInfos.size());
+        for (LoginInfo loginInfo : loginInfos) loginInfoSummaryResponses.add(loginInfoSummaryResponseMap(loginInfo));
+        matchLoginsResponse.setLoginInfos(loginInfoSummaryResponses);
+        return matchLoginsResponse;
+    }
+
+    public static <T> ConditionalResponse<T> conditionalResponseMap(String eTag, T response) {
+        ConditionalResponse<T> conditionalResponse = new ConditionalResponse<>();
+        conditionalResponse.setETag(eTag);
+        conditionalResponse.setNotModified(response == null);
+        conditionalResponse.setResponse(response);
+        return conditionalResponse;
+    }
 }
@@ -0,0 +1,23 @@
+package com.passwordbox.utilities;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class NoteTokenizer {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final int MINIMUM_TOKEN_LENGTH = 2;
+
+    public static Set<String> tokensOf(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) return tokens;
+        Matcher matcher = WORD.matcher(text.toLowerCase(Locale.ROOT));
+        while (matcher.find()) {
+            if (matcher.end() - matcher.start() >= MINIMUM_TOKEN_LENGTH) tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,23 @@
+package com.passwordbox.utilities;
+
+import com.passwordbox.exceptions.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class PageCursors {
+
+    public static String encode(String title) {
+        if (title == null) return null;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(title.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) return null;
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidInputException("Invalid page cursor. Please Try again.");
+        }
+    }
+}
@@ -1,28 +1,94 @@
 package com.passwordbox.utilities;
 
-import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 public final class PasscodeGenerator {
-    private static SecureRandom secureRandom = new SecureRandom();
-
-    public static String generatePassword(int passwordLength){
-        String password = "";
-        String characters = "abcdefghijklmnopqrstuvwxyz0123456789~`!@#$%^&*()-=_+[{]};:',<.>/?ABCDEFGHIJKLMNOPQRSTUVWXYZ";
-        for (int count = 0; count < passwordLength; count++){
-            int randomIndex = secureRandom.nextInt(characters.length());
-            password += String.valueOf(characters.charAt(randomIndex));
+
+    public enum CharacterClass {
+        LOWERCASE("abcdefghijklmnopqrstuvwxyz"),
+        UPPERCASE("ABCDEFGHIJKLMNOPQRSTUVWXYZ"),
+        DIGITS("0123456789"),
+        SYMBOLS("~`!@#$%^&*()-=_+[{]};:',<.>/?");
+
+        private final char[] characters;
+
+        CharacterClass(String characters) {
+            this.characters = characters.toCharArray();
         }
-        return password;
+    }
+
+    private static final CharacterClass[] PASSWORD_CLASSES = CharacterClass.values();
+    private static final CharacterClass[] PIN_CLASSES = {CharacterClass.DIGITS};
+    private static final char[] PASSWORD_ALPHABET = concatenate(PASSWORD_CLASSES);
+
+    public static String generatePassword(int passwordLength) {
+        return new String(generate(passwordLength, PASSWORD_CLASSES));
     }
 
     public static String generatePin(int pinLength) {
-        String pin = "";
-        String numbers = "0123456789";
-        for (int count = 0; count < pinLength; count++){
-            int randomIndex = secureRandom.nextInt(numbers.length());
-            pin += String.valueOf(numbers.charAt(randomIndex));
+        return new String(generate(pinLength, PIN_CLASSES));
+    }
+
+    public static List<String> generatePasswords(int passwordLength, int count, CharacterClass... characterClasses) {
+        return generateAll(passwordLength, count, characterClasses.length == 0 ? PASSWORD_CLASSES : characterClasses);
+    }
+
+    public static List<String> generatePins(int pinLength, int count) {
+        return generateAll(pinLength, count, PIN_CLASSES);
+    }
+
+    public static char[] generate(int length, CharacterClass... characterClasses) {
+        char[] passcode = new char[length];
+        try (RandomSource randomSource = RandomSource.acquire()) {
+            fill(passcode, alphabetOf(characterClasses), characterClasses, randomSource);
+        }
+        return passcode;
+    }
+
+    private static List<String> generateAll(int length, int count, CharacterClass[] characterClasses) {
+        char[] alphabet = alphabetOf(characterClasses);
+        char[] passcode = new char[length];
+        List<String> passcodes = new ArrayList<>(count);
+        try (RandomSource randomSource = RandomSource.acquire()) {
+            for (int generated = 0; generated < count; generated++) {
+                fill(passcode, alphabet, characterClasses, randomSource);
+                passcodes.add(new String(passcode));
+            }
         }
-        return pin;
+        Arrays.fill(passcode, '\0');
+        return passcodes;
     }
 
+    private static void fill(char[] passcode, char[] alphabet, CharacterClass[] characterClasses, RandomSource randomSource) {
+        boolean placeOneOfEach = characterClasses.length > 1 && passcode.length >= characterClasses.length;
+        int position = 0;
+        if (placeOneOfEach) {
+            for (CharacterClass characterClass : characterClasses) {
+                passcode[position++] = characterClass.characters[randomSource.nextInt(characterClass.characters.length)];
+            }
+        }
+        while (position < passcode.length) passcode[position++] = alphabet[randomSource.nextInt(alphabet.length)];
+        if (!placeOneOfEach) return;
+        for (int index = passcode.length - 1; index > 0; index--) {
+            int swapIndex = randomSource.nextInt(index + 1);
+            char character = passcode[index];
+            passcode[index] = passcode[swapIndex];
+            passcode[swapIndex] = character;
+        }
+    }
+
+    private static char[] alphabetOf(CharacterClass[] characterClasses) {
+        if (characterClasses.length == 0) throw new IllegalArgumentException("At least one character class is required");
+        if (characterClasses.length == 1) return characterClasses[0].characters;
+        if (characterClasses == PASSWORD_CLASSES) return PASSWORD_ALPHABET;
+        return concatenate(characterClasses);
+    }
+
+    private static char[] concatenate(CharacterClass[] characterClasses) {
+        StringBuilder alphabet = new StringBuilder();
+        for (CharacterClass characterClass : characterClasses) alphabet.append(characterClass.characters);
+        return alphabet.toString().toCharArray();
+    }
 }
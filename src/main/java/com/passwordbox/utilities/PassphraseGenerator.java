@@ -0,0 +1,16 @@
+package com.passwordbox.utilities;
+
+public final class PassphraseGenerator {
+
+    public static String generatePassphrase(Wordlist wordlist, int wordCount, String separator) {
+        StringBuilder passphrase = new StringBuilder(wordCount * 8);
+        try (RandomSource randomSource = RandomSource.acquire()) {
+            for (int count = 0; count < wordCount; count++) {
+                if (count > 0) passphrase.append(separator);
+                wordlist.appendWord(randomSource.nextInt(wordlist.size()), passphrase);
+            }
+        }
+        return passphrase.toString();
+    }
+
+}
@@ -0,0 +1,4 @@
+package com.passwordbox.utilities;
+
+public record PasswordStrength(int score, double guessesLog10) {
+}
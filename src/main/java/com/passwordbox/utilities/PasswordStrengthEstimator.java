@@ -0,0 +1,262 @@
+package com.passwordbox.utilities;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+public final class PasswordStrengthEstimator {
+
+    private static final int MAXIMUM_ANALYSED_LENGTH = 64;
+    private static final double BRUTEFORCE_LOG10_PER_CHARACTER = 1;
+    private static final double MINIMUM_SINGLE_CHARACTER_LOG10 = 1;
+    private static final double MINIMUM_SUBMATCH_LOG10 = Math.log10(50);
+    private static final double[] SCORE_THRESHOLDS_LOG10 = {3, 6, 8, 10};
+    private static final String LEET_SUBSTITUTES = "4@8(3691!|0$57+2";
+    private static final String LEET_LETTERS = "aabceggiiiossttz";
+    private static final String OBVIOUS_SEQUENCE_STARTS = "aAzZ019";
+
+    private final List<FrequencyDictionary> dictionaries;
+    private final List<KeyboardGraph> keyboardGraphs;
+    private final int referenceYear = Year.now().getValue();
+
+    public PasswordStrengthEstimator(List<FrequencyDictionary> dictionaries, List<KeyboardGraph> keyboardGraphs) {
+        this.dictionaries = List.copyOf(dictionaries);
+        this.keyboardGraphs = List.copyOf(keyboardGraphs);
+    }
+
+    public PasswordStrength estimate(String password, String... userInputs) {
+        if (password == null || password.isEmpty()) return new PasswordStrength(0, 0);
+        List<String> inputs = new ArrayList<>();
+        for (String userInput : userInputs) if (userInput != null && !userInput.isBlank()) inputs.add(userInput);
+        FrequencyDictionary userInputDictionary = inputs.isEmpty() ? null : FrequencyDictionary.of("user_inputs", inputs);
+        String analysed = password.length() > MAXIMUM_ANALYSED_LENGTH ? password.substring(0, MAXIMUM_ANALYSED_LENGTH) : password;
+        double guessesLog10 = minimumGuessesLog10(analysed, userInputDictionary)
+                + (password.length() - analysed.length()) * BRUTEFORCE_LOG10_PER_CHARACTER;
+        int score = 0;
+        while (score < SCORE_THRESHOLDS_LOG10.length && guessesLog10 >= SCORE_THRESHOLDS_LOG10[score]) score++;
+        return new PasswordStrength(score, guessesLog10);
+    }
+
+    private double minimumGuessesLog10(String password, FrequencyDictionary userInputDictionary) {
+        int length = password.length();
+        double[] bestByEnd = new double[length + 1];
+        Arrays.fill(bestByEnd, Double.MAX_VALUE);
+        bestByEnd[0] = 0;
+        List<List<double[]>> matchesByEnd = new ArrayList<>(length + 1);
+        for (int end = 0; end <= length; end++) matchesByEnd.add(new ArrayList<>(2));
+        collectMatches(password, userInputDictionary, matchesByEnd);
+        for (int end = 1; end <= length; end++) {
+            double best = bestByEnd[end - 1] + BRUTEFORCE_LOG10_PER_CHARACTER;
+            for (double[] match : matchesByEnd.get(end)) {
+                int start = (int) match[0];
+                double minimum = end - start == 1 ? MINIMUM_SINGLE_CHARACTER_LOG10 : MINIMUM_SUBMATCH_LOG10;
+                best = Math.min(best, bestByEnd[start] + Math.max(match[1], minimum));
+            }
+            bestByEnd[end] = best;
+        }
+        return bestByEnd[length];
+    }
+
+    private void collectMatches(String password, FrequencyDictionary userInputDictionary, List<List<double[]>> matchesByEnd) {
+        String lowercase = password.toLowerCase(Locale.ROOT);
+        String unleeted = unleet(lowercase);
+        String reversed = new StringBuilder(lowercase).reverse().toString();
+        for (FrequencyDictionary dictionary : dictionaries) matchDictionary(password, lowercase, unleeted, reversed, dictionary, matchesByEnd);
+        if (userInputDictionary != null) matchDictionary(password, lowercase, unleeted, reversed, userInputDictionary, matchesByEnd);
+        for (KeyboardGraph keyboardGraph : keyboardGraphs) matchSpatial(password, keyboardGraph, matchesByEnd);
+        matchRepeats(password, matchesByEnd);
+        matchSequences(password, matchesByEnd);
+        matchYears(password, matchesByEnd);
+    }
+
+    private void matchDictionary(String password, String lowercase, String unleeted, String reversed,
+                                 FrequencyDictionary dictionary, List<List<double[]>> matchesByEnd) {
+        int length = password.length();
+        boolean leeted = !unleeted.equals(lowercase);
+        for (int start = 0; start < length; start++) {
+            int limit = Math.min(length, start + dictionary.getMaxWordLength());
+            int index = 0;
+            for (int end = start + 1; end <= limit; end++) {
+                index = dictionary.lowerBound(lowercase, start, end, index);
+                int rank = dictionary.rankAt(index, lowercase, start, end);
+                if (rank > 0) add(matchesByEnd, start, end, Math.log10(rank) + Math.log10(uppercaseVariations(password, start, end)));
+                if (!dictionary.startsWith(index, lowercase, start, end)) break;
+            }
+            if (leeted) {
+                index = 0;
+                for (int end = start + 1; end <= limit; end++) {
+                    index = dictionary.lowerBound(unleeted, start, end, index);
+                    int rank = dictionary.rankAt(index, unleeted, start, end);
+                    if (rank > 0 && !lowercase.regionMatches(start, unleeted, start, end - start)) {
+                        add(matchesByEnd, start, end, Math.log10(rank) + Math.log10(uppercaseVariations(password, start, end))
+                                + Math.log10(leetVariations(lowercase, unleeted, start, end)));
+                    }
+                    if (!dictionary.startsWith(index, unleeted, start, end)) break;
+                }
+            }
+            index = 0;
+            for (int end = start + 1; end <= limit; end++) {
+                index = dictionary.lowerBound(reversed, start, end, index);
+                int rank = dictionary.rankAt(index, reversed, start, end);
+                if (rank > 0 && end - start > 1) {
+                    add(matchesByEnd, length - end, length - start, Math.log10(rank) + Math.log10(2)
+                            + Math.log10(uppercaseVariations(password, length - end, length - start)));
+                }
+                if (!dictionary.startsWith(index, reversed, start, end)) break;
+            }
+        }
+    }
+
+    private void matchSpatial(String password, KeyboardGraph keyboardGraph, List<List<double[]>> matchesByEnd) {
+        int length = password.length();
+        int start = 0;
+        while (start < length - 2) {
+            int end = start + 1;
+            int turns = 0;
+            int shifted = keyboardGraph.isShifted(password.charAt(start)) ? 1 : 0;
+            int lastDirection = -1;
+            int previousKey = keyboardGraph.keyOf(password.charAt(start));
+            while (previousKey >= 0 && end < length) {
+                int key = keyboardGraph.keyOf(password.charAt(end));
+                int direction = key < 0 ? -1 : keyboardGraph.directionBetween(previousKey, key);
+                if (direction < 0) break;
+                if (direction != lastDirection) turns++;
+                if (keyboardGraph.isShifted(password.charAt(end))) shifted++;
+                lastDirection = direction;
+                previousKey = key;
+                end++;
+            }
+            if (end - start >= 3) {
+                add(matchesByEnd, start, end, spatialGuessesLog10(keyboardGraph, end - start, turns, shifted));
+                start = end;
+            }
+            else start++;
+        }
+    }
+
+    private static double spatialGuessesLog10(KeyboardGraph keyboardGraph, int length, int turns, int shifted) {
+        double guesses = 0;
+        for (int tokenLength = 2; tokenLength <= length; tokenLength++) {
+            for (int turn = 1; turn <= Math.min(turns, tokenLength - 1); turn++) {
+                guesses += binomial(tokenLength - 1, turn - 1) * keyboardGraph.getKeyCount() * Math.pow(keyboardGraph.getAverageDegree(), turn);
+            }
+        }
+        int unshifted = length - shifted;
+        if (shifted > 0) guesses *= unshifted == 0 ? 2 : variations(shifted, unshifted);
+        return Math.log10(guesses);
+    }
+
+    private void matchRepeats(String password, List<List<double[]>> matchesByEnd) {
+        int length = password.length();
+        for (int start = 0; start < length - 1; start++) {
+            int bestEnd = start;
+            int bestChunk = 0;
+            for (int chunk = 1; start + chunk * 2 <= length; chunk++) {
+                int end = start + chunk;
+                while (end + chunk <= length && password.regionMatches(start, password, end, chunk)) end += chunk;
+                if (end - start >= chunk * 2 && end - start > bestEnd - start) {
+                    bestEnd = end;
+                    bestChunk = chunk;
+                }
+            }
+            if (bestChunk == 0 || bestEnd - start < 3) continue;
+            String chunk = password.substring(start, start + bestChunk);
+            double chunkGuessesLog10 = bestChunk == 1 ? MINIMUM_SINGLE_CHARACTER_LOG10 : minimumGuessesLog10(chunk, null);
+            add(matchesByEnd, start, bestEnd, chunkGuessesLog10 + Math.log10((double) (bestEnd - start) / bestChunk));
+            start = bestEnd - 1;
+        }
+    }
+
+    private void matchSequences(String password, List<List<double[]>> matchesByEnd) {
+        int length = password.length();
+        int start = 0;
+        while (start < length - 2) {
+            int delta = password.charAt(start + 1) - password.charAt(start);
+            int end = start + 1;
+            if (Math.abs(delta) == 1 && sameClass(password.charAt(start), password.charAt(end))) {
+                while (end + 1 < length && password.charAt(end + 1) - password.charAt(end) == delta
+                        && sameClass(password.charAt(end), password.charAt(end + 1))) end++;
+            }
+            if (end - start >= 2) {
+                char first = password.charAt(start);
+                double base = OBVIOUS_SEQUENCE_STARTS.indexOf(first) >= 0 ? 4 : Character.isDigit(first) ? 10 : 26;
+                if (delta < 0) base *= 2;
+                add(matchesByEnd, start, end + 1, Math.log10(base * (end + 1 - start)));
+                start = end + 1;
+            }
+            else start++;
+        }
+    }
+
+    private void matchYears(String password, List<List<double[]>> matchesByEnd) {
+        for (int start = 0; start + 4 <= password.length(); start++) {
+            int year = 0;
+            boolean digits = true;
+            for (int position = start; position < start + 4 && digits; position++) {
+                char character = password.charAt(position);
+                digits = Character.isDigit(character);
+                year = year * 10 + (character - '0');
+            }
+            if (digits && year >= 1900 && year <= 2099) add(matchesByEnd, start, start + 4, Math.log10(Math.max(Math.abs(year - referenceYear), 20)));
+        }
+    }
+
+    private static void add(List<List<double[]>> matchesByEnd, int start, int end, double guessesLog10) {
+        matchesByEnd.get(end).add(new double[]{start, guessesLog10});
+    }
+
+    private static String unleet(String lowercase) {
+        char[] characters = lowercase.toCharArray();
+        for (int index = 0; index < characters.length; index++) {
+            int substitute = LEET_SUBSTITUTES.indexOf(characters[index]);
+            if (substitute >= 0) characters[index] = LEET_LETTERS.charAt(substitute);
+        }
+        return new String(characters);
+    }
+
+    private static double uppercaseVariations(String password, int start, int end) {
+        int uppercase = 0;
+        int lowercase = 0;
+        for (int position = start; position < end; position++) {
+            char character = password.charAt(position);
+            if (Character.isUpperCase(character)) uppercase++;
+            else if (Character.isLowerCase(character)) lowercase++;
+        }
+        if (uppercase == 0) return 1;
+        boolean firstOrLastOnly = uppercase == 1 && (Character.isUpperCase(password.charAt(start)) || Character.isUpperCase(password.charAt(end - 1)));
+        if (firstOrLastOnly || lowercase == 0) return 2;
+        return variations(uppercase, lowercase);
+    }
+
+    private static double leetVariations(String lowercase, String unleeted, int start, int end) {
+        int substituted = 0;
+        int unsubstituted = 0;
+        for (int position = start; position < end; position++) {
+            if (lowercase.charAt(position) != unleeted.charAt(position)) substituted++;
+            else if (LEET_LETTERS.indexOf(lowercase.charAt(position)) >= 0) unsubstituted++;
+        }
+        if (unsubstituted == 0) return 2;
+        return Math.max(2, variations(substituted, unsubstituted));
+    }
+
+    private static double variations(int first, int second) {
+        double variations = 0;
+        for (int count = 1; count <= Math.min(first, second); count++) variations += binomial(first + second, count);
+        return Math.max(variations, 1);
+    }
+
+    private static double binomial(int n, int k) {
+        double result = 1;
+        for (int index = 1; index <= k; index++) result = result * (n - k + index) / index;
+        return result;
+    }
+
+    private static boolean sameClass(char first, char second) {
+        if (Character.isDigit(first)) return Character.isDigit(second);
+        if (Character.isLowerCase(first)) return Character.isLowerCase(second);
+        if (Character.isUpperCase(first)) return Character.isUpperCase(second);
+        return false;
+    }
+}
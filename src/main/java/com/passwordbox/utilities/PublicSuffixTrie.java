@@ -0,0 +1,139 @@
+package com.passwordbox.utilities;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.IDN;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class PublicSuffixTrie {
+
+    private static final String WILDCARD = "*";
+    private static final String EXCEPTION = "!";
+
+    private final Node root;
+    private final int size;
+
+    private PublicSuffixTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public static PublicSuffixTrie empty() {
+        return new PublicSuffixTrie(new Node(), 0);
+    }
+
+    public static PublicSuffixTrie of(List<String> rules) {
+        Node root = new Node();
+        int size = 0;
+        for (String rule : rules) {
+            boolean exception = rule.startsWith(EXCEPTION);
+            String[] labels = (exception ? rule.substring(1) : rule).split("\\.");
+            Node node = root;
+            for (int index = labels.length - 1; index >= 0; index--) node = node.children.computeIfAbsent(labels[index], label -> new Node());
+            if (!node.rule && !node.exception) size++;
+            if (exception) node.exception = true;
+            else node.rule = true;
+        }
+        return new PublicSuffixTrie(root, size);
+    }
+
+    public static List<String> parse(Reader reader) throws IOException {
+        List<String> rules = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        while ((line = lines.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("//")) continue;
+            int whitespace = line.indexOf(' ');
+            if (whitespace > 0) line = line.substring(0, whitespace);
+            boolean exception = line.startsWith(EXCEPTION);
+            String domain = toAscii(exception ? line.substring(1) : line);
+            if (domain == null) throw new IllegalArgumentException("Invalid public suffix rule " + line);
+            rules.add(exception ? EXCEPTION + domain : domain);
+        }
+        return rules;
+    }
+
+    public String registrableDomainOf(String url) {
+        String host = hostOf(url);
+        if (host == null) return null;
+        if (isIpAddress(host)) return host;
+        String[] labels = host.split("\\.");
+        int suffixLabels = 1;
+        Node node = root;
+        for (int depth = 1; depth <= labels.length; depth++) {
+            Node exact = node.children.get(labels[labels.length - depth]);
+            Node wildcard = node.children.get(WILDCARD);
+            if (exact != null && exact.exception) {
+                suffixLabels = depth - 1;
+                break;
+            }
+            if (wildcard != null && wildcard.rule) suffixLabels = depth;
+            if (exact != null && exact.rule) suffixLabels = depth;
+            node = exact != null ? exact : wildcard;
+            if (node == null) break;
+        }
+        if (suffixLabels >= labels.length) return null;
+        int start = host.length();
+        for (int count = 0; count <= suffixLabels; count++) start = host.lastIndexOf('.', start - 1);
+        return host.substring(start + 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public static String hostOf(String url) {
+        if (url == null) return null;
+        String host = url.strip();
+        int scheme = host.indexOf("://");
+        if (scheme >= 0) host = host.substring(scheme + 3);
+        int pathStart = indexOfAny(host, "/?#");
+        if (pathStart >= 0) host = host.substring(0, pathStart);
+        host = host.substring(host.lastIndexOf('@') + 1);
+        if (host.startsWith("[")) {
+            int end = host.indexOf(']');
+            return end > 1 ? host.substring(0, end + 1).toLowerCase(Locale.ROOT) : null;
+        }
+        int port = host.indexOf(':');
+        if (port >= 0) host = host.substring(0, port);
+        if (host.endsWith(".")) host = host.substring(0, host.length() - 1);
+        if (host.isEmpty() || host.startsWith(".") || host.contains("..")) return null;
+        return toAscii(host);
+    }
+
+    private static String toAscii(String domain) {
+        try {
+            return IDN.toASCII(domain, IDN.ALLOW_UNASSIGNED).toLowerCase(Locale.ROOT);
+        } catch (IllegalArgumentException exception) {
+            return null;
+        }
+    }
+
+    private static boolean isIpAddress(String host) {
+        if (host.startsWith("[")) return true;
+        for (int index = 0; index < host.length(); index++) {
+            char character = host.charAt(index);
+            if (character != '.' && (character < '0' || character > '9')) return false;
+        }
+        return true;
+    }
+
+    private static int indexOfAny(String text, String characters) {
+        for (int index = 0; index < text.length(); index++) {
+            if (characters.indexOf(text.charAt(index)) >= 0) return index;
+        }
+        return -1;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>(4);
+        private boolean rule;
+        private boolean exception;
+    }
+}
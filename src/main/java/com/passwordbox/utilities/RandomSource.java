@@ -0,0 +1,54 @@
+package com.passwordbox.utilities;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+public final class RandomSource implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 512;
+
+    private static final InstancePool<RandomSource> RANDOM_SOURCES = new InstancePool<>(RandomSource::new);
+
+    private final SecureRandom drbg;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position = BUFFER_SIZE;
+
+    private RandomSource() {
+        try {
+            drbg = SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    public static RandomSource acquire() {
+        return RANDOM_SOURCES.acquire();
+    }
+
+    @Override
+    public void close() {
+        RANDOM_SOURCES.release(this);
+    }
+
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("Bound must be positive");
+        if (bound <= 256) {
+            int limit = 256 - 256 % bound;
+            int value;
+            do value = nextByte(); while (value >= limit);
+            return value % bound;
+        }
+        long limit = (1L << 31) - (1L << 31) % bound;
+        int value;
+        do value = nextByte() << 23 | nextByte() << 15 | nextByte() << 7 | nextByte() >>> 1; while (value >= limit);
+        return value % bound;
+    }
+
+    private int nextByte() {
+        if (position == BUFFER_SIZE) {
+            drbg.nextBytes(buffer);
+            position = 0;
+        }
+        return buffer[position++] & 0xFF;
+    }
+}
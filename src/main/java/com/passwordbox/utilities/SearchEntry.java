@@ -0,0 +1,6 @@
+package com.passwordbox.utilities;
+
+import com.passwordbox.data.models.VaultItemType;
+
+public record SearchEntry(VaultItemType itemType, String itemId, String title) {
+}
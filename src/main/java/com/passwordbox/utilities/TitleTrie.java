@@ -0,0 +1,110 @@
+package com.passwordbox.utilities;
+
+import java.util.*;
+
+public class TitleTrie {
+
+    private final Node root = new Node("");
+
+    public void add(String key, SearchEntry entry) {
+        Node node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node child = node.children.get(key.charAt(index));
+            if (child == null) {
+                child = new Node(key.substring(index));
+                node.children.put(key.charAt(index), child);
+                node = child;
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, index);
+            if (common < child.label.length()) {
+                Node middle = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.children.put(child.label.charAt(0), child);
+                node.children.put(middle.label.charAt(0), middle);
+                child = middle;
+            }
+            node = child;
+            index += common;
+        }
+        node.entries.add(entry);
+    }
+
+    public void remove(String key, SearchEntry entry) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        int index = 0;
+        while (index < key.length()) {
+            Node child = node.children.get(key.charAt(index));
+            if (child == null || !key.startsWith(child.label, index)) return;
+            path.push(node);
+            node = child;
+            index += child.label.length();
+        }
+        if (!node.entries.remove(entry)) return;
+        while (!path.isEmpty()) {
+            Node parent = path.pop();
+            if (node.entries.isEmpty() && node.children.isEmpty()) parent.children.remove(node.label.charAt(0));
+            else if (node.entries.isEmpty() && node.children.size() == 1) mergeWithOnlyChild(node);
+            if (parent == root || !parent.entries.isEmpty() || parent.children.size() > 1) return;
+            node = parent;
+        }
+    }
+
+    public List<SearchEntry> findByPrefix(String prefix, int limit) {
+        Node node = root;
+        int index = 0;
+        while (index < prefix.length()) {
+            Node child = node.children.get(prefix.charAt(index));
+            if (child == null) return List.of();
+            int remaining = prefix.length() - index;
+            if (remaining <= child.label.length()) {
+                if (!child.label.startsWith(prefix.substring(index))) return List.of();
+                node = child;
+                break;
+            }
+            if (!prefix.startsWith(child.label, index)) return List.of();
+            node = child;
+            index += child.label.length();
+        }
+        Set<SearchEntry> found = new LinkedHashSet<>();
+        collect(node, found, limit);
+        return new ArrayList<>(found);
+    }
+
+    private static void collect(Node node, Set<SearchEntry> found, int limit) {
+        for (SearchEntry entry : node.entries) {
+            if (found.size() >= limit) return;
+            found.add(entry);
+        }
+        for (Node child : node.children.values()) {
+            if (found.size() >= limit) return;
+            collect(child, found, limit);
+        }
+    }
+
+    private static void mergeWithOnlyChild(Node node) {
+        Node child = node.children.firstEntry().getValue();
+        node.label = node.label + child.label;
+        node.children = child.children;
+        node.entries = child.entries;
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = Math.min(label.length(), key.length() - offset);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(offset + common)) common++;
+        return common;
+    }
+
+    private static class Node {
+        private String label;
+        private TreeMap<Character, Node> children = new TreeMap<>();
+        private Set<SearchEntry> entries = new LinkedHashSet<>();
+
+        private Node(String label) {
+            this.label = label;
+        }
+    }
+}
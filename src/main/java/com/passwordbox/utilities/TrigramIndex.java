@@ -0,0 +1,96 @@
+package com.passwordbox.utilities;
+
+import java.util.*;
+
+public class TrigramIndex {
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<SearchEntry, Integer> slots = new HashMap<>();
+    private final List<SearchEntry> entries = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int[] trigramCounts = new int[16];
+    private int[] sharedTrigrams = new int[16];
+
+    public void add(String text, SearchEntry entry) {
+        if (slots.containsKey(entry)) return;
+        Set<String> trigrams = trigramsOf(text);
+        int slot = freeSlots.isEmpty() ? entries.size() : freeSlots.pop();
+        if (slot == entries.size()) entries.add(entry);
+        else entries.set(slot, entry);
+        if (slot >= trigramCounts.length) {
+            trigramCounts = Arrays.copyOf(trigramCounts, trigramCounts.length * 2);
+            sharedTrigrams = Arrays.copyOf(sharedTrigrams, sharedTrigrams.length * 2);
+        }
+        slots.put(entry, slot);
+        trigramCounts[slot] = trigrams.size();
+        for (String trigram : trigrams) postings.computeIfAbsent(trigram, key -> new Postings()).add(slot);
+    }
+
+    public void remove(String text, SearchEntry entry) {
+        Integer slot = slots.remove(entry);
+        if (slot == null) return;
+        for (String trigram : trigramsOf(text)) {
+            Postings trigramPostings = postings.get(trigram);
+            if (trigramPostings == null) continue;
+            trigramPostings.remove(slot);
+            if (trigramPostings.size == 0) postings.remove(trigram);
+        }
+        entries.set(slot, null);
+        trigramCounts[slot] = 0;
+        freeSlots.push(slot);
+    }
+
+    public List<SearchEntry> findSimilar(String text, double minimumSimilarity, int limit) {
+        Set<String> trigrams = trigramsOf(text);
+        if (trigrams.isEmpty()) return List.of();
+        int minimumShared = Math.max(1, (int) Math.ceil(minimumSimilarity * trigrams.size()));
+        Postings touched = new Postings();
+        for (String trigram : trigrams) {
+            Postings trigramPostings = postings.get(trigram);
+            if (trigramPostings == null) continue;
+            for (int index = 0; index < trigramPostings.size; index++) {
+                int slot = trigramPostings.slots[index];
+                if (sharedTrigrams[slot]++ == 0) touched.add(slot);
+            }
+        }
+        Comparator<Integer> byRelevance = Comparator.<Integer>comparingInt(slot -> sharedTrigrams[slot])
+                .thenComparing(Comparator.<Integer>comparingInt(slot -> trigramCounts[slot]).reversed());
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, byRelevance);
+        for (int index = 0; index < touched.size; index++) {
+            int slot = touched.slots[index];
+            if (sharedTrigrams[slot] < minimumShared) continue;
+            best.add(slot);
+            if (best.size() > limit) best.poll();
+        }
+        SearchEntry[] found = new SearchEntry[best.size()];
+        for (int index = found.length - 1; index >= 0; index--) found[index] = entries.get(best.poll());
+        for (int index = 0; index < touched.size; index++) sharedTrigrams[touched.slots[index]] = 0;
+        return Arrays.asList(found);
+    }
+
+    public static Set<String> trigramsOf(String text) {
+        if (text.isEmpty()) return Set.of();
+        String padded = "  " + text + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int index = 0; index + 3 <= padded.length(); index++) trigrams.add(padded.substring(index, index + 3));
+        return trigrams;
+    }
+
+    private static class Postings {
+        private int[] slots = new int[4];
+        private int size;
+
+        private void add(int slot) {
+            if (size == slots.length) slots = Arrays.copyOf(slots, size * 2);
+            slots[size++] = slot;
+        }
+
+        private void remove(int slot) {
+            for (int index = 0; index < size; index++) {
+                if (slots[index] != slot) continue;
+                slots[index] = slots[--size];
+                return;
+            }
+        }
+    }
+}
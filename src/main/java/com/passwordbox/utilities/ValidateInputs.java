@@ -1,68 +1,61 @@
 package com.passwordbox.utilities;
 
 import com.passwordbox.data.models.Vault;
+import com.passwordbox.data.repositories.VaultItemOperations;
+import com.passwordbox.exceptions.InvalidInputException;
 
 import static com.passwordbox.utilities.CreditCardValidator.isCreditCardInvalid;
+import static com.passwordbox.utilities.FindDetails.isVaultLoaded;
+import static com.passwordbox.utilities.FindDetails.vaultIdOf;
 
 public class ValidateInputs {
 
-    public static  void validateLoginInfoTitle(String title, Vault vault) {
+    public static void validateLoginInfoTitle(String title, Vault vault, VaultItemOperations vaultItemOperations) {
         validateTitleInput(title);
-        if (doesLoginInfoTitleExist(title, vault)) throw new IllegalArgumentException("Title already exists. Please enter a different title");
+        if (doesLoginInfoTitleExist(title, vault, vaultItemOperations)) throw new InvalidInputException("Title already exists. Please enter a different title");
     }
 
-    private static boolean doesLoginInfoTitleExist(String title, Vault vault) {
-        for(int count = 0; count < vault.getLoginInfos().size(); count++){
-            if (vault.getLoginInfos().get(count).getTitle().equals(title.toLowerCase()))
-                return true;
-        }
-        return false;
+    private static boolean doesLoginInfoTitleExist(String title, Vault vault, VaultItemOperations vaultItemOperations) {
+        if (!isVaultLoaded(vault)) return vaultItemOperations.existsLoginInfoTitle(vaultIdOf(vault), title.toLowerCase());
+        return vault.findLoginInfo(title.toLowerCase()) != null;
     }
 
-    public static void validateNoteTitle(String title, Vault vault) {
+    public static void validateNoteTitle(String title, Vault vault, VaultItemOperations vaultItemOperations) {
         validateTitleInput(title);
-        if (doesNoteTitleExist(title, vault)) throw new IllegalArgumentException("Title Already Exists. Please enter a different title");
+        if (doesNoteTitleExist(title, vault, vaultItemOperations)) throw new InvalidInputException("Title Already Exists. Please enter a different title");
     }
 
-    private static boolean doesNoteTitleExist(String title, Vault vault) {
-        for(int count = 0; count < vault.getNotes().size(); count++){
-            if (vault.getNotes().get(count).getTitle().equals(title.toLowerCase()))
-                return true;
-        }
-        return false;
+    private static boolean doesNoteTitleExist(String title, Vault vault, VaultItemOperations vaultItemOperations) {
+        if (!isVaultLoaded(vault)) return vaultItemOperations.existsNoteTitle(vaultIdOf(vault), title.toLowerCase());
+        return vault.findNote(title.toLowerCase()) != null;
     }
 
-    public static void validateCreditCardTitle(String title, Vault vault) {
+    public static void validateCreditCardTitle(String title, Vault vault, VaultItemOperations vaultItemOperations) {
         validateTitleInput(title);
-        if (doesCreditCardTitleExist(title, vault)) throw new IllegalArgumentException("Title Already Exists. Please enter a different title");
+        if (doesCreditCardTitleExist(title, vault, vaultItemOperations)) throw new InvalidInputException("Title Already Exists. Please enter a different title");
     }
 
-    private static boolean doesCreditCardTitleExist(String title, Vault vault) {
-        for(int count = 0; count < vault.getCreditCards().size(); count++){
-            if (vault.getCreditCards().get(count).getTitle().equals(title.toLowerCase()))
-                return true;
-        }
-        return false;
+    private static boolean doesCreditCardTitleExist(String title, Vault vault, VaultItemOperations vaultItemOperations) {
+        if (!isVaultLoaded(vault)) return vaultItemOperations.existsCreditCardTitle(vaultIdOf(vault), title.toLowerCase());
+        return vault.findCreditCard(title.toLowerCase()) != null;
     }
 
-    private static void validateTitleInput(String title) {
-        if (title == null) throw new IllegalArgumentException("Title field cannot be null. Please enter a valid title.");
-        if (title.isEmpty()) throw new IllegalArgumentException("Title field cannot be empty. Please enter a valid title.");
-        if (title.length() > 30) throw new IllegalArgumentException("Title cannot be more than 30 Characters. Please enter a valid title");
+    public static void validateTitleInput(String title) {
+        if (title == null) throw new InvalidInputException("Title field cannot be null. Please enter a valid title.");
+        if (title.isEmpty()) throw new InvalidInputException("Title field cannot be empty. Please enter a valid title.");
+        if (title.length() > 30) throw new InvalidInputException("Title cannot be more than 30 Characters. Please enter a valid title");
     }
 
     public static void validateCreditCardPin(String creditCardPin) {
-        if (creditCardPin!= null && !creditCardPin.matches("\\d+")) throw new IllegalArgumentException("Please enter a valid pin");
+        if (creditCardPin!= null && !creditCardPin.matches("\\d+")) throw new InvalidInputException("Please enter a valid pin");
     }
 
     public static void validateCreditCardCVV(String cVV) {
-        if (cVV != null && !cVV.matches("\\d+")) throw new IllegalArgumentException("Please enter a valid cvv");
+        if (cVV != null && !cVV.matches("\\d+")) throw new InvalidInputException("Please enter a valid cvv");
     }
 
     public static void validateCreditCardNumber(String cardNumber) {
-        if (cardNumber!= null && !cardNumber.matches("\\d+")) throw new IllegalArgumentException("Please enter a valid card number");
-        if (cardNumber != null && cardNumber.length() > 19) throw new IllegalArgumentException("Please enter a valid card number");
-        if (cardNumber != null && isCreditCardInvalid(cardNumber)) throw new IllegalArgumentException("Please enter a valid card number");
+        if (cardNumber != null && (cardNumber.length() > 19 || isCreditCardInvalid(cardNumber))) throw new InvalidInputException("Please enter a valid card number");
     }
 
 
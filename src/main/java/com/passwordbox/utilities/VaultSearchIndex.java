@@ -0,0 +1,79 @@
+package com.passwordbox.utilities;
+
+import com.passwordbox.data.models.CreditCard;
+import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.Note;
+import com.passwordbox.data.models.Vault;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public class VaultSearchIndex {
+
+    private static final double MINIMUM_SIMILARITY = 0.5;
+
+    private final TitleTrie titleTrie = new TitleTrie();
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+    private long changeSequence;
+
+    public static VaultSearchIndex of(Vault vault) {
+        VaultSearchIndex vaultSearchIndex = new VaultSearchIndex();
+        for (LoginInfo loginInfo : vault.getLoginInfos()) vaultSearchIndex.add(Mappers.searchEntryMap(loginInfo));
+        for (Note note : vault.getNotes()) vaultSearchIndex.add(Mappers.searchEntryMap(note));
+        for (CreditCard creditCard : vault.getCreditCards()) vaultSearchIndex.add(Mappers.searchEntryMap(creditCard));
+        vaultSearchIndex.changeSequence = vault.getChangeSequence();
+        return vaultSearchIndex;
+    }
+
+    public synchronized long getChangeSequence() {
+        return changeSequence;
+    }
+
+    public synchronized void apply(SearchEntry removed, SearchEntry added) {
+        if (removed != null) remove(removed);
+        if (added != null) add(added);
+        changeSequence++;
+    }
+
+    public synchronized List<SearchEntry> search(String query, int limit) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty()) return List.of();
+        Set<SearchEntry> found = new LinkedHashSet<>(titleTrie.findByPrefix(normalizedQuery, limit));
+        if (found.size() < limit) {
+            for (SearchEntry entry : trigramIndex.findSimilar(normalizedQuery, MINIMUM_SIMILARITY, limit)) {
+                if (found.size() >= limit) break;
+                found.add(entry);
+            }
+        }
+        return List.copyOf(found);
+    }
+
+    private void add(SearchEntry entry) {
+        if (entry.title() == null) return;
+        String title = normalize(entry.title());
+        for (String key : wordSuffixesOf(title)) titleTrie.add(key, entry);
+        trigramIndex.add(title, entry);
+    }
+
+    private void remove(SearchEntry entry) {
+        if (entry.title() == null) return;
+        String title = normalize(entry.title());
+        for (String key : wordSuffixesOf(title)) titleTrie.remove(key, entry);
+        trigramIndex.remove(title, entry);
+    }
+
+    private static Set<String> wordSuffixesOf(String title) {
+        Set<String> suffixes = new LinkedHashSet<>();
+        suffixes.add(title);
+        for (int index = 1; index < title.length(); index++) {
+            if (title.charAt(index - 1) == ' ' && title.charAt(index) != ' ') suffixes.add(title.substring(index));
+        }
+        return suffixes;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,98 @@
+package com.passwordbox.utilities;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+public final class Wordlist {
+
+    private final String name;
+    private final MappedByteBuffer words;
+    private final int[] starts;
+    private final int[] ends;
+    private final int size;
+
+    private Wordlist(String name, MappedByteBuffer words, int[] starts, int[] ends, int size) {
+        this.name = name;
+        this.words = words;
+        this.starts = starts;
+        this.ends = ends;
+        this.size = size;
+    }
+
+    public static Wordlist map(String name, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) throw new IOException(String.format("Wordlist %s is larger than 2 GB", path));
+            MappedByteBuffer words = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int[] starts = new int[1024];
+            int[] ends = new int[1024];
+            Set<ByteBuffer> seen = new HashSet<>();
+            int size = 0;
+            int limit = words.limit();
+            int lineStart = 0;
+            while (lineStart < limit) {
+                int lineEnd = lineStart;
+                while (lineEnd < limit && words.get(lineEnd) != '\n') lineEnd++;
+                int wordEnd = lineEnd;
+                while (wordEnd > lineStart && isWhitespace(words.get(wordEnd - 1))) wordEnd--;
+                int wordStart = wordEnd;
+                while (wordStart > lineStart && !isWhitespace(words.get(wordStart - 1))) wordStart--;
+                if (wordStart < wordEnd && seen.add(words.slice(wordStart, wordEnd - wordStart))) {
+                    if (size == starts.length) {
+                        starts = Arrays.copyOf(starts, size * 2);
+                        ends = Arrays.copyOf(ends, size * 2);
+                    }
+                    starts[size] = wordStart;
+                    ends[size] = wordEnd;
+                    size++;
+                }
+                lineStart = lineEnd + 1;
+            }
+            if (size < 2) throw new IOException(String.format("Wordlist %s must contain at least two distinct words", path));
+            return new Wordlist(name, words, starts, ends, size);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public double bitsPerWord() {
+        return Math.log(size) / Math.log(2);
+    }
+
+    public void appendWord(int index, StringBuilder passphrase) {
+        int start = starts[index];
+        int end = ends[index];
+        for (int position = start; position < end; position++) {
+            byte character = words.get(position);
+            if (character < 0) {
+                passphrase.setLength(passphrase.length() - (position - start));
+                appendEncodedWord(start, end, passphrase);
+                return;
+            }
+            passphrase.append((char) character);
+        }
+    }
+
+    private void appendEncodedWord(int start, int end, StringBuilder passphrase) {
+        byte[] word = new byte[end - start];
+        words.get(start, word);
+        passphrase.append(new String(word, StandardCharsets.UTF_8));
+    }
+
+    private static boolean isWhitespace(byte character) {
+        return character == ' ' || character == '\t' || character == '\r';
+    }
+}
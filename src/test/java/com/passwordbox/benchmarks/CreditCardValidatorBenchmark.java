@@ -0,0 +1,43 @@
+package com.passwordbox.benchmarks;
+
+import com.passwordbox.utilities.CreditCardValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreditCardValidatorBenchmark {
+
+    private final List<String> cardNumbers = List.of(
+            "4111111111111111", "5500005555555559", "378282246310005", "6011111111111117",
+            "5061190609476240365", "4012888888881881", "3530111333300000", "5105105105105100");
+
+    private final boolean[] validity = new boolean[cardNumbers.size()];
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (String cardNumber : cardNumbers) blackhole.consume(LegacyCreditCardValidator.isCreditCardInvalid(cardNumber));
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        for (String cardNumber : cardNumbers) blackhole.consume(CreditCardValidator.isCreditCardInvalid(cardNumber));
+    }
+
+    @Benchmark
+    public boolean[] batch() {
+        CreditCardValidator.areCreditCardsValid(cardNumbers, validity);
+        return validity;
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{CreditCardValidatorBenchmark.class.getSimpleName()});
+    }
+}
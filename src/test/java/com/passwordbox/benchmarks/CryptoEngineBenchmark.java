@@ -0,0 +1,80 @@
+package com.passwordbox.benchmarks;
+
+import com.passwordbox.utilities.CryptoEngine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CryptoEngineBenchmark {
+
+    private final String[] creditCardFields = {"4111111111111111", "Visa", "123", "Expires with the renewal in March"};
+
+    private LegacyEncryptDecryptPassword legacy;
+    private CryptoEngine cryptoEngine;
+    private String[] legacySealedFields;
+    private String[] sealedFields;
+    private ByteBuffer plaintext;
+    private ByteBuffer sealed;
+    private ByteBuffer opened;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(256);
+        SecretKey secretKey = keyGenerator.generateKey();
+        legacy = new LegacyEncryptDecryptPassword(secretKey);
+        cryptoEngine = new CryptoEngine(secretKey);
+        legacySealedFields = new String[creditCardFields.length];
+        for (int index = 0; index < creditCardFields.length; index++) legacySealedFields[index] = legacy.encrypt(creditCardFields[index]);
+        sealedFields = cryptoEngine.encryptAll(creditCardFields);
+        byte[] plaintextBytes = creditCardFields[0].getBytes(StandardCharsets.UTF_8);
+        plaintext = ByteBuffer.wrap(plaintextBytes);
+        sealed = ByteBuffer.allocate(CryptoEngine.sealedLength(plaintextBytes.length));
+        opened = ByteBuffer.allocate(plaintextBytes.length);
+    }
+
+    @Benchmark
+    public void legacyEncryptRecord(Blackhole blackhole) throws Exception {
+        for (String field : creditCardFields) blackhole.consume(legacy.encrypt(field));
+    }
+
+    @Benchmark
+    public void legacyDecryptRecord(Blackhole blackhole) throws Exception {
+        for (String field : legacySealedFields) blackhole.consume(legacy.decrypt(field));
+    }
+
+    @Benchmark
+    public String[] engineEncryptRecord() throws Exception {
+        return cryptoEngine.encryptAll(creditCardFields);
+    }
+
+    @Benchmark
+    public String[] engineDecryptRecord() throws Exception {
+        return cryptoEngine.decryptAll(sealedFields);
+    }
+
+    @Benchmark
+    public int engineRoundTripBuffers() throws Exception {
+        plaintext.rewind();
+        sealed.clear();
+        opened.clear();
+        cryptoEngine.encrypt(plaintext, sealed);
+        sealed.flip();
+        return cryptoEngine.decrypt(sealed, opened);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{CryptoEngineBenchmark.class.getSimpleName()});
+    }
+}
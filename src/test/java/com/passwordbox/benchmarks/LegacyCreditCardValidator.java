@@ -0,0 +1,44 @@
+package com.passwordbox.benchmarks;
+
+class LegacyCreditCardValidator {
+    private static String creditCardNumber;
+    private static long[] creditCardNumbersArray;
+    private static long doubleNumbersTotal;
+    private static long oddPlaceNumbersTotal;
+
+    static boolean isCreditCardInvalid(String creditCardNumber) {
+        LegacyCreditCardValidator.creditCardNumber = creditCardNumber;
+        setCreditCardNumberArray();
+        getDoubleDigitsTotal();
+        getOddPlaceNumbersTotal();
+        return (oddPlaceNumbersTotal + doubleNumbersTotal) % 10 != 0;
+    }
+
+    private static void setCreditCardNumberArray() {
+        long cardNumber = Long.parseLong(creditCardNumber);
+        creditCardNumbersArray = new long[creditCardNumber.length()];
+        for (int count = creditCardNumber.length() - 1; count >= 0 ; count--) {
+            creditCardNumbersArray[count] = cardNumber % 10;
+            cardNumber /= 10;
+        }
+    }
+
+    private static void getDoubleDigitsTotal() {
+        for (int count = creditCardNumbersArray.length - 2; count >= 0; count -= 2) {
+            if ((creditCardNumbersArray[count] * 2) > 9) {
+                long splitDigit1 = (creditCardNumbersArray[count] * 2) % 10;
+                long splitDigit2 = (creditCardNumbersArray[count] * 2) / 10;
+                doubleNumbersTotal += splitDigit1 + splitDigit2;
+            }
+            else {
+                doubleNumbersTotal += creditCardNumbersArray[count] * 2;
+            }
+        }
+    }
+
+    private static void getOddPlaceNumbersTotal() {
+        for (int count = creditCardNumbersArray.length - 1; count >= 0; count -=2) {
+            oddPlaceNumbersTotal += creditCardNumbersArray[count];
+        }
+    }
+}
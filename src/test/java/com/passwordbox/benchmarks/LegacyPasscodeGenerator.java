@@ -0,0 +1,17 @@
+package com.passwordbox.benchmarks;
+
+import java.security.SecureRandom;
+
+class LegacyPasscodeGenerator {
+    private static SecureRandom secureRandom = new SecureRandom();
+
+    static String generatePassword(int passwordLength){
+        String password = "";
+        String characters = "abcdefghijklmnopqrstuvwxyz0123456789~`!@#$%^&*()-=_+[{]};:',<.>/?ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        for (int count = 0; count < passwordLength; count++){
+            int randomIndex = secureRandom.nextInt(characters.length());
+            password += String.valueOf(characters.charAt(randomIndex));
+        }
+        return password;
+    }
+}
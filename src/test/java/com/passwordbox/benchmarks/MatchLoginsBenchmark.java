@@ -0,0 +1,67 @@
+package com.passwordbox.benchmarks;
+
+import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.utilities.PublicSuffixTrie;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchLoginsBenchmark {
+
+    private static final String[] SUFFIXES = {"com", "co.uk", "github.io", "de", "com.au", "io"};
+    private static final String URL = "https://login.site4217.co.uk/account/signin?next=%2Fhome";
+
+    @Param({"50000"})
+    private int items;
+
+    private PublicSuffixTrie publicSuffixTrie;
+    private Vault vault;
+
+    @Setup
+    public void setUp() throws Exception {
+        try (Reader reader = new InputStreamReader(getClass().getResourceAsStream("/publicsuffix/public_suffix_list.dat"), StandardCharsets.UTF_8)) {
+            publicSuffixTrie = PublicSuffixTrie.of(PublicSuffixTrie.parse(reader));
+        }
+        vault = new Vault();
+        for (int count = 0; count < items; count++) {
+            LoginInfo loginInfo = new LoginInfo();
+            loginInfo.setId(Integer.toString(count));
+            loginInfo.setTitle("login " + count);
+            loginInfo.setWebsite("https://www.site" + count + "." + SUFFIXES[count % SUFFIXES.length] + "/login");
+            loginInfo.setDomain(publicSuffixTrie.registrableDomainOf(loginInfo.getWebsite()));
+            vault.addLoginInfo(loginInfo);
+        }
+        vault.findLoginInfosByDomain("", publicSuffixTrie::registrableDomainOf);
+    }
+
+    @Benchmark
+    public List<LoginInfo> domainIndex() {
+        return vault.findLoginInfosByDomain(publicSuffixTrie.registrableDomainOf(URL), publicSuffixTrie::registrableDomainOf);
+    }
+
+    @Benchmark
+    public List<LoginInfo> scanWebsites() {
+        String domain = publicSuffixTrie.registrableDomainOf(URL);
+        List<LoginInfo> matches = new ArrayList<>();
+        for (LoginInfo loginInfo : vault.getLoginInfos()) {
+            if (domain.equals(publicSuffixTrie.registrableDomainOf(loginInfo.getWebsite()))) matches.add(loginInfo);
+        }
+        return matches;
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{MatchLoginsBenchmark.class.getSimpleName()});
+    }
+}
@@ -0,0 +1,50 @@
+package com.passwordbox.benchmarks;
+
+import com.passwordbox.utilities.PasscodeGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasscodeGeneratorBenchmark {
+
+    private static final int LENGTH = 16;
+
+    @Benchmark
+    public String legacyPassword() {
+        return LegacyPasscodeGenerator.generatePassword(LENGTH);
+    }
+
+    @Benchmark
+    public String password() {
+        return PasscodeGenerator.generatePassword(LENGTH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public List<String> passwordBatch() {
+        return PasscodeGenerator.generatePasswords(LENGTH, 100);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String legacyPasswordContended() {
+        return LegacyPasscodeGenerator.generatePassword(LENGTH);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String passwordContended() {
+        return PasscodeGenerator.generatePassword(LENGTH);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{PasscodeGeneratorBenchmark.class.getSimpleName()});
+    }
+}
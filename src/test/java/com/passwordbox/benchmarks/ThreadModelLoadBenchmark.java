@@ -0,0 +1,101 @@
+package com.passwordbox.benchmarks;
+
+import com.passwordbox.utilities.CryptoEngine;
+import com.passwordbox.utilities.CryptoPool;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.KeyGenerator;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ThreadModelLoadBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 2000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    private String threadModel;
+
+    @Param({"3"})
+    private int repositoryCalls;
+
+    @Param({"2"})
+    private long repositoryLatencyMillis;
+
+    private ExecutorService executor;
+    private CryptoPool cryptoPool;
+    private CryptoEngine cryptoEngine;
+    private String sealedPassword;
+    private long[] latencies;
+    private int recorded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        executor = threadModel.equals("virtual") ? Executors.newVirtualThreadPerTaskExecutor() : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        cryptoPool = new CryptoPool(0, 10000);
+        KeyGenerator keyGenerator = KeyGenerator.getInstance("AES");
+        keyGenerator.init(256);
+        cryptoEngine = new CryptoEngine(keyGenerator.generateKey());
+        sealedPassword = cryptoEngine.encrypt("correct horse battery staple");
+        latencies = new long[1 << 20];
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportLatencies() {
+        long[] sorted = Arrays.copyOf(latencies, Math.min(recorded, latencies.length));
+        Arrays.sort(sorted);
+        if (sorted.length > 0) {
+            System.out.printf("%n%s: %d requests, p50 %.2f ms, p99 %.2f ms%n", threadModel, recorded,
+                    sorted[sorted.length / 2] / 1e6, sorted[(int) (sorted.length * 0.99)] / 1e6);
+        }
+        recorded = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        cryptoPool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public void handleRequests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(CONCURRENT_REQUESTS);
+        long[] requestLatencies = new long[CONCURRENT_REQUESTS];
+        for (int request = 0; request < CONCURRENT_REQUESTS; request++) {
+            int index = request;
+            long submittedAt = System.nanoTime();
+            executor.execute(() -> {
+                try {
+                    handleRequest();
+                } catch (Exception exception) {
+                    throw new IllegalStateException(exception);
+                } finally {
+                    requestLatencies[index] = System.nanoTime() - submittedAt;
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        int copied = Math.min(CONCURRENT_REQUESTS, latencies.length - recorded);
+        if (copied > 0) System.arraycopy(requestLatencies, 0, latencies, recorded, copied);
+        recorded += copied;
+    }
+
+    private void handleRequest() throws Exception {
+        for (int call = 0; call < repositoryCalls; call++) Thread.sleep(repositoryLatencyMillis);
+        cryptoPool.call(() -> {
+            String password = cryptoEngine.decrypt(sealedPassword);
+            return cryptoEngine.encrypt(password) + cryptoEngine.fingerprint(password);
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package com.passwordbox.benchmarks;
+
+import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.utilities.VaultSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VaultSearchIndexBenchmark {
+
+    private static final String[] WORDS = {"gmail", "github", "bank", "netflix", "amazon", "work", "personal", "router",
+            "linkedin", "dropbox", "paypal", "steam", "slack", "jira", "aws", "azure", "school", "gym", "insurance", "utility"};
+
+    @Param({"50000"})
+    private int items;
+
+    private VaultSearchIndex vaultSearchIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Vault vault = new Vault();
+        for (int count = 0; count < items; count++) {
+            LoginInfo loginInfo = new LoginInfo();
+            loginInfo.setId(Integer.toString(count));
+            loginInfo.setTitle(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + count);
+            vault.addLoginInfo(loginInfo);
+        }
+        vaultSearchIndex = VaultSearchIndex.of(vault);
+    }
+
+    @Benchmark
+    public List<?> prefix() {
+        return vaultSearchIndex.search("githu", 20);
+    }
+
+    @Benchmark
+    public List<?> wordPrefix() {
+        return vaultSearchIndex.search("net", 20);
+    }
+
+    @Benchmark
+    public List<?> typo() {
+        return vaultSearchIndex.search("paypla bnak 4217", 20);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[]{VaultSearchIndexBenchmark.class.getSimpleName()});
+    }
+}
@@ -0,0 +1,61 @@
+package com.passwordbox.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.passwordbox.exceptions.InvalidInputException;
+import com.passwordbox.exceptions.InvalidPasscodeLengthException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.validation.BindException;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ApiExceptionHandlerTest {
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ApiExceptionHandler apiExceptionHandler;
+
+    private static String body(ResponseEntity<byte[]> response) {
+        return new String(response.getBody(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void domainExceptionsEchoTheirMessageTest() throws Exception {
+        ResponseEntity<byte[]> response = apiExceptionHandler.handleException(new InvalidInputException("Please Enter a Valid Count"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(body(response).contains("Please Enter a Valid Count"));
+        assertEquals(HttpStatus.BAD_REQUEST, apiExceptionHandler.handleException(new InvalidPasscodeLengthException("Too short")).getStatusCode());
+    }
+
+    @Test
+    public void bindingErrorsAreBadRequestsTest() throws Exception {
+        HttpMessageNotReadableException unreadable = new HttpMessageNotReadableException("Malformed JSON", new MockHttpInputMessage(new byte[0]));
+
+        assertEquals(HttpStatus.BAD_REQUEST, apiExceptionHandler.handleException(unreadable).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, apiExceptionHandler.handleException(new TypeMismatchException("abc", Integer.class)).getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, apiExceptionHandler.handleException(new BindException(new Object(), "request")).getStatusCode());
+    }
+
+    @Test
+    public void otherIllegalArgumentsAreInternalErrorsTest() throws Exception {
+        ResponseEntity<byte[]> response = apiExceptionHandler.handleException(new IllegalArgumentException("invalid hexadecimal representation of an ObjectId: [secret]"));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertFalse(body(response).contains("secret"));
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, apiExceptionHandler.handleException(new NumberFormatException("For input string: \"x\"")).getStatusCode());
+    }
+}
@@ -0,0 +1,134 @@
+package com.passwordbox.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.User;
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.data.repositories.UnitOfWork;
+import com.passwordbox.data.repositories.UserCache;
+import com.passwordbox.data.repositories.UserRepository;
+import com.passwordbox.dataTransferObjects.requests.EditLoginInfoRequest;
+import com.passwordbox.services.UserServiceImplementation;
+import com.passwordbox.services.VaultKeyService;
+import com.passwordbox.services.VaultService;
+import com.passwordbox.utilities.CryptoEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserControllerConditionalRequestTest {
+
+    private static final String EDIT_BODY = "{\"username\":\"ada\",\"title\":\"gmail\",\"editedWebsite\":\"https://mail.google.com\"}";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private VaultService vaultService;
+
+    @Mock
+    private VaultKeyService vaultKeyService;
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    private MockMvc mockMvc;
+
+    private final User user = new User();
+
+    private final LoginInfo loginInfo = new LoginInfo();
+
+    @BeforeEach
+    public void setUp() {
+        UnitOfWork unitOfWork = new UnitOfWork();
+        ReflectionTestUtils.setField(unitOfWork, "mongoTemplate", mongoTemplate);
+        UserServiceImplementation userService = new UserServiceImplementation();
+        ReflectionTestUtils.setField(userService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(userService, "userCache", userCache);
+        ReflectionTestUtils.setField(userService, "vaultService", vaultService);
+        ReflectionTestUtils.setField(userService, "vaultKeyService", vaultKeyService);
+        ReflectionTestUtils.setField(userService, "unitOfWork", unitOfWork);
+        UserController userController = new UserController();
+        ReflectionTestUtils.setField(userController, "userService", userService);
+        ApiExceptionHandler apiExceptionHandler = new ApiExceptionHandler();
+        ReflectionTestUtils.setField(apiExceptionHandler, "objectMapper", new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(userController).setControllerAdvice(apiExceptionHandler).build();
+
+        user.setUsername("ada");
+        user.setVault(new Vault());
+        loginInfo.setId("abc");
+        loginInfo.setTitle("gmail");
+        loginInfo.setVersion(3);
+    }
+
+    @Test
+    public void matchingIfNoneMatchIsNotModifiedWithoutDecryptingTest() throws Exception {
+        when(userCache.findByUsername("ada")).thenReturn(user);
+        when(vaultService.findLoginInfo("gmail", user.getVault())).thenReturn(loginInfo);
+
+        mockMvc.perform(get("/Users/ada/LoginInfos/gmail").header(HttpHeaders.IF_NONE_MATCH, "\"abc-2\", W/\"abc-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-3\""))
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(vaultKeyService);
+    }
+
+    @Test
+    public void staleIfNoneMatchReturnsTheDecryptedItemTest() throws Exception {
+        when(userCache.findByUsername("ada")).thenReturn(user);
+        when(vaultService.findLoginInfo("gmail", user.getVault())).thenReturn(loginInfo);
+        CryptoEngine cryptoEngine = new CryptoEngine(new SecretKeySpec(new byte[32], "AES"));
+        loginInfo.setPassword(cryptoEngine.encrypt("hunter2"));
+        when(vaultKeyService.cryptoEngineFor(user.getVault())).thenReturn(cryptoEngine);
+
+        mockMvc.perform(get("/Users/ada/LoginInfos/gmail").header(HttpHeaders.IF_NONE_MATCH, "\"abc-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-3\""))
+                .andExpect(jsonPath("$.response.password").value("hunter2"));
+    }
+
+    @Test
+    public void staleIfMatchIsPreconditionFailedTest() throws Exception {
+        when(userRepository.findByUsername("ada")).thenReturn(user);
+        when(vaultService.editLoginInfo(any(EditLoginInfoRequest.class), eq(user.getVault()))).thenReturn(loginInfo);
+
+        mockMvc.perform(patch("/EditLoginInfo").contentType(MediaType.APPLICATION_JSON).content(EDIT_BODY).header(HttpHeaders.IF_MATCH, "\"abc-1\""))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(patch("/EditLoginInfo").contentType(MediaType.APPLICATION_JSON).content(EDIT_BODY).header(HttpHeaders.IF_MATCH, "W/\"abc-2\""))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    public void currentIfMatchReturnsTheNewETagTest() throws Exception {
+        when(userRepository.findByUsername("ada")).thenReturn(user);
+        when(vaultService.editLoginInfo(any(EditLoginInfoRequest.class), eq(user.getVault()))).thenReturn(loginInfo);
+
+        mockMvc.perform(patch("/EditLoginInfo").contentType(MediaType.APPLICATION_JSON).content(EDIT_BODY).header(HttpHeaders.IF_MATCH, "\"abc-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc-3\""));
+    }
+}
@@ -1,15 +1,24 @@
 package com.passwordbox.controllers;
 
-import com.passwordbox.data.repositories.LoginInfoRepository;
-import com.passwordbox.data.repositories.NoteRepository;
+import com.passwordbox.data.repositories.NoteTokenRepository;
 import com.passwordbox.data.repositories.UserRepository;
 import com.passwordbox.data.repositories.VaultRepository;
 import com.passwordbox.dataTransferObjects.requests.*;
+import com.passwordbox.dataTransferObjects.responses.ApiResponse;
+import com.passwordbox.dataTransferObjects.responses.MatchLoginsResponse;
+import com.passwordbox.dataTransferObjects.responses.SearchNotesResponse;
+import com.passwordbox.dataTransferObjects.responses.SearchResponse;
+import com.passwordbox.dataTransferObjects.responses.SyncResponse;
+import com.passwordbox.dataTransferObjects.responses.VaultItemPageResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.Callable;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,16 +29,16 @@ public class UserControllerTest {
     private UserController userController;
 
     @Autowired
-    private UserRepository userRepository;
+    private ApiExceptionHandler apiExceptionHandler;
 
     @Autowired
-    private VaultRepository vaultRepository;
+    private UserRepository userRepository;
 
     @Autowired
-    private LoginInfoRepository loginInfoRepository;
+    private VaultRepository vaultRepository;
 
     @Autowired
-    private NoteRepository noteRepository;
+    private NoteTokenRepository noteTokenRepository;
 
     @BeforeEach
     public void setUp() {
@@ -37,28 +46,26 @@ public class UserControllerTest {
 
         vaultRepository.deleteAll();
 
-        loginInfoRepository.deleteAll();
-
-        noteRepository.deleteAll();
+        noteTokenRepository.deleteAll();
 
         RegisterRequest registerRequest = new RegisterRequest();
         registerRequest.setUsername("jack123");
         registerRequest.setMasterPassword("Password123.");
         registerRequest.setConfirmMasterPassword("Password123.");
-        userController.signUp(registerRequest);
+        handled(() -> userController.signUp(registerRequest));
 
         SaveNewLoginInfoRequest saveNewLoginInfoRequest = new SaveNewLoginInfoRequest();
         saveNewLoginInfoRequest.setUsername("jack123");
         saveNewLoginInfoRequest.setTitle("gmail login");
         saveNewLoginInfoRequest.setWebsite("www.gmail.com");
         saveNewLoginInfoRequest.setLoginId("jack123@gmail.com");
-        userController.saveNewLoginInfo(saveNewLoginInfoRequest);
+        handled(() -> userController.saveNewLoginInfo(saveNewLoginInfoRequest));
 
         CreateNoteRequest createNoteRequest = new CreateNoteRequest();
         createNoteRequest.setUsername("jack123");
         createNoteRequest.setTitle("ideas");
         createNoteRequest.setContent("Build an AI assistant for projects");
-        userController.createNote(createNoteRequest);
+        handled(() -> userController.createNote(createNoteRequest));
     }
 
     @Test
@@ -68,7 +75,7 @@ public class UserControllerTest {
         registerRequest.setMasterPassword("Password123.");
         registerRequest.setConfirmMasterPassword("Password123.");
 
-        var response = userController.signUp(registerRequest);
+        var response = handled(() -> userController.signUp(registerRequest));
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -79,7 +86,7 @@ public class UserControllerTest {
         registerRequest.setMasterPassword("Password123.");
         registerRequest.setConfirmMasterPassword("Password123.");
 
-        var response = userController.signUp(registerRequest);
+        var response = handled(() -> userController.signUp(registerRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -90,7 +97,7 @@ public class UserControllerTest {
         registerRequest.setMasterPassword("Password123.");
         registerRequest.setConfirmMasterPassword("Password123.");
 
-        var response = userController.signUp(registerRequest);
+        var response = handled(() -> userController.signUp(registerRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -101,7 +108,7 @@ public class UserControllerTest {
         registerRequest.setMasterPassword("Password123.");
         registerRequest.setConfirmMasterPassword("Password123.");
 
-        var response = userController.signUp(registerRequest);
+        var response = handled(() -> userController.signUp(registerRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -112,7 +119,7 @@ public class UserControllerTest {
         registerRequest.setMasterPassword("Password456.");
         registerRequest.setConfirmMasterPassword("DifferentPassword456.");
 
-        var response = userController.signUp(registerRequest);
+        var response = handled(() -> userController.signUp(registerRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -123,7 +130,7 @@ public class UserControllerTest {
         registerRequest.setMasterPassword(null);
         registerRequest.setConfirmMasterPassword(null);
 
-        var response = userController.signUp(registerRequest);
+        var response = handled(() -> userController.signUp(registerRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -134,7 +141,7 @@ public class UserControllerTest {
         registerRequest.setMasterPassword("");
         registerRequest.setConfirmMasterPassword("");
 
-        var response = userController.signUp(registerRequest);
+        var response = handled(() -> userController.signUp(registerRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -143,7 +150,7 @@ public class UserControllerTest {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jack123");
 
-        var response = userController.logout(logoutRequest);
+        var response = handled(() -> userController.logout(logoutRequest));
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -152,22 +159,22 @@ public class UserControllerTest {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jim456");
 
-        var response = userController.logout(logoutRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.logout(logoutRequest));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
     @Test
     public void userLogsInTest() {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jack123");
 
-        var response = userController.logout(logoutRequest);
+        var response = handled(() -> userController.logout(logoutRequest));
         assertEquals(HttpStatus.OK, response.getStatusCode());
 
         LoginRequest loginRequest = new LoginRequest();
         loginRequest.setUsername("jack123");
         loginRequest.setPassword("Password123.");
 
-        response = userController.login(loginRequest);
+        response = handled(() -> userController.login(loginRequest));
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -176,15 +183,15 @@ public class UserControllerTest {
         LogoutRequest logoutRequest = new LogoutRequest();
         logoutRequest.setUsername("jack123");
 
-        var response = userController.logout(logoutRequest);
+        var response = handled(() -> userController.logout(logoutRequest));
         assertEquals(HttpStatus.OK, response.getStatusCode());
 
         LoginRequest loginRequest = new LoginRequest();
         loginRequest.setUsername("jim456");
         loginRequest.setPassword("Password123.");
 
-        response = userController.login(loginRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        response = handled(() -> userController.login(loginRequest));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -195,7 +202,7 @@ public class UserControllerTest {
         saveNewLoginInfoRequest.setWebsite("www.yahoo.com");
         saveNewLoginInfoRequest.setLoginId("jack123@yahoo.com");
 
-        var response = userController.saveNewLoginInfo(saveNewLoginInfoRequest);
+        var response = handled(() -> userController.saveNewLoginInfo(saveNewLoginInfoRequest));
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
     }
 
@@ -207,7 +214,7 @@ public class UserControllerTest {
         saveNewLoginInfoRequest.setWebsite("www.gmail.com");
         saveNewLoginInfoRequest.setLoginId("jack123@gmail.com");
 
-        var response = userController.saveNewLoginInfo(saveNewLoginInfoRequest);
+        var response = handled(() -> userController.saveNewLoginInfo(saveNewLoginInfoRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -219,7 +226,7 @@ public class UserControllerTest {
         saveNewLoginInfoRequest.setWebsite("www.gmail.com");
         saveNewLoginInfoRequest.setLoginId("jack123@gmail.com");
 
-        var response = userController.saveNewLoginInfo(saveNewLoginInfoRequest);
+        var response = handled(() -> userController.saveNewLoginInfo(saveNewLoginInfoRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -231,7 +238,7 @@ public class UserControllerTest {
         saveNewLoginInfoRequest.setWebsite("www.gmail.com");
         saveNewLoginInfoRequest.setLoginId("jack123@gmail.com");
 
-        var response = userController.saveNewLoginInfo(saveNewLoginInfoRequest);
+        var response = handled(() -> userController.saveNewLoginInfo(saveNewLoginInfoRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -243,8 +250,8 @@ public class UserControllerTest {
         saveNewLoginInfoRequest.setWebsite("www.yahoo.com");
         saveNewLoginInfoRequest.setLoginId("jack123@yahoo.com");
 
-        var response = userController.saveNewLoginInfo(saveNewLoginInfoRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.saveNewLoginInfo(saveNewLoginInfoRequest));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -257,7 +264,7 @@ public class UserControllerTest {
         editLoginInfoRequest.setEditedLoginId("jack123@yahoo.com");
         editLoginInfoRequest.setEditedPassword("password");
 
-        var response = userController.editLoginInfo(editLoginInfoRequest);
+        var response = handled(() -> userController.editLoginInfo(editLoginInfoRequest, null));
         assertEquals(HttpStatus.OK, response.getStatusCode());
 
     }
@@ -272,8 +279,8 @@ public class UserControllerTest {
         editLoginInfoRequest.setEditedLoginId("jack123@yahoo.com");
         editLoginInfoRequest.setEditedPassword("password");
 
-        var response = userController.editLoginInfo(editLoginInfoRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.editLoginInfo(editLoginInfoRequest, null));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -286,8 +293,8 @@ public class UserControllerTest {
         editLoginInfoRequest.setEditedLoginId("jack123@yahoo.com");
         editLoginInfoRequest.setEditedPassword("password");
 
-        var response = userController.editLoginInfo(editLoginInfoRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.editLoginInfo(editLoginInfoRequest, null));
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
     @Test
@@ -296,7 +303,7 @@ public class UserControllerTest {
         viewLoginInfoRequest.setUsername("jack123");
         viewLoginInfoRequest.setTitle("gmail login");
 
-        var response = userController.viewLoginInfo(viewLoginInfoRequest);
+        var response = handled(() -> userController.viewLoginInfo(viewLoginInfoRequest));
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -306,8 +313,8 @@ public class UserControllerTest {
         viewLoginInfoRequest.setUsername("jim456");
         viewLoginInfoRequest.setTitle("gmail login");
 
-        var response = userController.viewLoginInfo(viewLoginInfoRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.viewLoginInfo(viewLoginInfoRequest));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -316,8 +323,8 @@ public class UserControllerTest {
         viewLoginInfoRequest.setUsername("jack123");
         viewLoginInfoRequest.setTitle("yahoo login");
 
-        var response = userController.viewLoginInfo(viewLoginInfoRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.viewLoginInfo(viewLoginInfoRequest));
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
     @Test
@@ -327,7 +334,7 @@ public class UserControllerTest {
         deleteLoginInfoRequest.setTitle("gmail login");
         deleteLoginInfoRequest.setMasterPassword("Password123.");
 
-        var response = userController.deleteLoginInfo(deleteLoginInfoRequest);
+        var response = handled(() -> userController.deleteLoginInfo(deleteLoginInfoRequest));
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -338,8 +345,8 @@ public class UserControllerTest {
         deleteLoginInfoRequest.setTitle("gmail login");
         deleteLoginInfoRequest.setMasterPassword("Password123.");
 
-        var response = userController.deleteLoginInfo(deleteLoginInfoRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.deleteLoginInfo(deleteLoginInfoRequest));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -349,8 +356,8 @@ public class UserControllerTest {
         deleteLoginInfoRequest.setTitle("yahoo login");
         deleteLoginInfoRequest.setMasterPassword("Password123.");
 
-        var response = userController.deleteLoginInfo(deleteLoginInfoRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.deleteLoginInfo(deleteLoginInfoRequest));
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
     @Test
@@ -360,8 +367,8 @@ public class UserControllerTest {
         deleteLoginInfoRequest.setTitle("yahoo login");
         deleteLoginInfoRequest.setMasterPassword("InvalidPassword123.");
 
-        var response = userController.deleteLoginInfo(deleteLoginInfoRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.deleteLoginInfo(deleteLoginInfoRequest));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -371,7 +378,7 @@ public class UserControllerTest {
         createNoteRequest.setTitle("designs");
         createNoteRequest.setContent("Minimalist design for my bedroom");
 
-        var response = userController.createNote(createNoteRequest);
+        var response = handled(() -> userController.createNote(createNoteRequest));
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
     }
 
@@ -382,8 +389,8 @@ public class UserControllerTest {
         createNoteRequest.setTitle("designs");
         createNoteRequest.setContent("Minimalist design for my bedroom");
 
-        var response = userController.createNote(createNoteRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.createNote(createNoteRequest));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -393,7 +400,7 @@ public class UserControllerTest {
         createNoteRequest.setTitle(null);
         createNoteRequest.setContent("Minimalist design for my bedroom");
 
-        var response = userController.createNote(createNoteRequest);
+        var response = handled(() -> userController.createNote(createNoteRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -404,7 +411,7 @@ public class UserControllerTest {
         createNoteRequest.setTitle("");
         createNoteRequest.setContent("Minimalist design for my bedroom");
 
-        var response = userController.createNote(createNoteRequest);
+        var response = handled(() -> userController.createNote(createNoteRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -415,7 +422,7 @@ public class UserControllerTest {
         createNoteRequest.setTitle("ideas");
         createNoteRequest.setContent("Build Robots for heart surgeries");
 
-        var response = userController.createNote(createNoteRequest);
+        var response = handled(() -> userController.createNote(createNoteRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -427,7 +434,7 @@ public class UserControllerTest {
         editNoteRequest.setEditedTitle("new ideas");
         editNoteRequest.setEditedContent("Build Robots for heart surgeries");
 
-        var response = userController.editNote(editNoteRequest);
+        var response = handled(() -> userController.editNote(editNoteRequest, null));
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -439,8 +446,8 @@ public class UserControllerTest {
         editNoteRequest.setEditedTitle("new ideas");
         editNoteRequest.setEditedContent("Build Robots for heart surgeries");
 
-        var response = userController.editNote(editNoteRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.editNote(editNoteRequest, null));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -451,8 +458,8 @@ public class UserControllerTest {
         editNoteRequest.setEditedTitle("new ideas");
         editNoteRequest.setEditedContent("Build Robots for heart surgeries");
 
-        var response = userController.editNote(editNoteRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.editNote(editNoteRequest, null));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -461,7 +468,7 @@ public class UserControllerTest {
         viewNoteRequest.setUsername("jack123");
         viewNoteRequest.setTitle("ideas");
 
-        var response = userController.viewNote(viewNoteRequest);
+        var response = handled(() -> userController.viewNote(viewNoteRequest));
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -471,8 +478,8 @@ public class UserControllerTest {
         viewNoteRequest.setUsername("jack123");
         viewNoteRequest.setTitle("new ideas");
 
-        var response = userController.viewNote(viewNoteRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.viewNote(viewNoteRequest));
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
     @Test
@@ -481,8 +488,8 @@ public class UserControllerTest {
         viewNoteRequest.setUsername("jim456");
         viewNoteRequest.setTitle("ideas");
 
-        var response = userController.viewNote(viewNoteRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.viewNote(viewNoteRequest));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -492,7 +499,7 @@ public class UserControllerTest {
         deleteNoteRequest.setTitle("ideas");
         deleteNoteRequest.setMasterPassword("Password123.");
 
-        var response = userController.deleteNote(deleteNoteRequest);
+        var response = handled(() -> userController.deleteNote(deleteNoteRequest));
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
@@ -503,8 +510,8 @@ public class UserControllerTest {
         deleteNoteRequest.setTitle("ideas");
         deleteNoteRequest.setMasterPassword("Password123.");
 
-        var response = userController.deleteNote(deleteNoteRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.deleteNote(deleteNoteRequest));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
     }
 
     @Test
@@ -514,8 +521,8 @@ public class UserControllerTest {
         deleteNoteRequest.setTitle("new ideas");
         deleteNoteRequest.setMasterPassword("Password123.");
 
-        var response = userController.deleteNote(deleteNoteRequest);
-        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        var response = handled(() -> userController.deleteNote(deleteNoteRequest));
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
     @Test
@@ -523,7 +530,7 @@ public class UserControllerTest {
         GeneratePasswordRequest generatePasswordRequest = new GeneratePasswordRequest();
         generatePasswordRequest.setLength("16");
 
-        var response = userController.generatePassword(generatePasswordRequest);
+        var response = handled(() -> userController.generatePassword(generatePasswordRequest));
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
     }
 
@@ -532,7 +539,7 @@ public class UserControllerTest {
         GeneratePasswordRequest generatePasswordRequest = new GeneratePasswordRequest();
         generatePasswordRequest.setLength("A");
 
-        var response = userController.generatePassword(generatePasswordRequest);
+        var response = handled(() -> userController.generatePassword(generatePasswordRequest));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
@@ -541,7 +548,7 @@ public class UserControllerTest {
         GeneratePinRequest generatePinRequest = new GeneratePinRequest();
         generatePinRequest.setLength("8");
 
-        var response = userController.generatePin(generatePinRequest);
+        var response = handled(() -> userController.generatePin(generatePinRequest));
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
     }
 
@@ -550,8 +557,133 @@ public class UserControllerTest {
         GeneratePinRequest generatePinRequest = new GeneratePinRequest();
         generatePinRequest.setLength("#");
 
-        var response = userController.generatePin(generatePinRequest);
+        var response = handled(() -> userController.generatePin(generatePinRequest));
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    public void userSyncsVaultTest() {
+        var response = handled(() -> userController.sync("jack123", 1));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        SyncResponse syncResponse = (SyncResponse) ((ApiResponse) response.getBody()).getResponse();
+        assertFalse(syncResponse.isResyncRequired());
+        assertEquals(2, syncResponse.getSequence());
+        assertEquals(1, syncResponse.getChanges().size());
+        assertEquals("ideas", syncResponse.getChanges().get(0).getTitle());
+    }
+
+    @Test
+    public void userSyncsVaultFromStartTest() {
+        var response = handled(() -> userController.sync("jack123", 0));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        SyncResponse syncResponse = (SyncResponse) ((ApiResponse) response.getBody()).getResponse();
+        assertTrue(syncResponse.isResyncRequired());
+        assertEquals(2, syncResponse.getChanges().size());
+    }
+
+    @Test
+    public void nonExistentUserSyncsVaultTest() {
+        var response = handled(() -> userController.sync("jim456", 0));
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    }
+
+    @Test
+    public void userListsLoginInfosTest() {
+        var response = handled(() -> userController.listLoginInfos("jack123", null, 50));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        VaultItemPageResponse<?> vaultItemPageResponse = (VaultItemPageResponse<?>) ((ApiResponse) response.getBody()).getResponse();
+        assertEquals(1, vaultItemPageResponse.getItems().size());
+        assertNull(vaultItemPageResponse.getNextCursor());
+    }
+
+    @Test
+    public void userListsNotes_LimitIsOutOfRangeTest() {
+        var response = handled(() -> userController.listNotes("jack123", null, 0));
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    public void userSearchesVaultTest() {
+        var response = handled(() -> userController.search("jack123", "gma", 20));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        SearchResponse searchResponse = (SearchResponse) ((ApiResponse) response.getBody()).getResponse();
+        assertEquals("gmail login", searchResponse.getResults().get(0).getTitle());
+    }
+
+    @Test
+    public void userSearchesVault_QueryHasTypoTest() {
+        var response = handled(() -> userController.search("jack123", "ideaz", 20));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        SearchResponse searchResponse = (SearchResponse) ((ApiResponse) response.getBody()).getResponse();
+        assertEquals("ideas", searchResponse.getResults().get(0).getTitle());
+    }
+
+    @Test
+    public void userSearchesNotesTest() {
+        CreateNoteRequest createNoteRequest = new CreateNoteRequest();
+        createNoteRequest.setUsername("jack123");
+        createNoteRequest.setTitle("designs");
+        createNoteRequest.setContent("Minimalist design for my bedroom");
+        createNoteRequest.setSearchable(true);
+        handled(() -> userController.createNote(createNoteRequest));
+        var response = handled(() -> userController.searchNotes("jack123", "Bedroom minimalist"));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        SearchNotesResponse searchNotesResponse = (SearchNotesResponse) ((ApiResponse) response.getBody()).getResponse();
+        assertEquals(1, searchNotesResponse.getNotes().size());
+        assertEquals("Minimalist design for my bedroom", searchNotesResponse.getNotes().get(0).getContent());
+    }
+
+    @Test
+    public void userSearchesNotes_NoteNotSearchableTest() {
+        var response = handled(() -> userController.searchNotes("jack123", "assistant"));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        SearchNotesResponse searchNotesResponse = (SearchNotesResponse) ((ApiResponse) response.getBody()).getResponse();
+        assertTrue(searchNotesResponse.getNotes().isEmpty());
+    }
+
+    @Test
+    public void userMatchesLoginsByUrlTest() {
+        SaveNewLoginInfoRequest saveNewLoginInfoRequest = new SaveNewLoginInfoRequest();
+        saveNewLoginInfoRequest.setUsername("jack123");
+        saveNewLoginInfoRequest.setTitle("bbc login");
+        saveNewLoginInfoRequest.setWebsite("https://account.bbc.co.uk/signin");
+        saveNewLoginInfoRequest.setLoginId("jack123@gmail.com");
+        handled(() -> userController.saveNewLoginInfo(saveNewLoginInfoRequest));
+        var response = handled(() -> userController.matchLogins("jack123", "https://www.bbc.co.uk/news"));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        MatchLoginsResponse matchLoginsResponse = (MatchLoginsResponse) ((ApiResponse) response.getBody()).getResponse();
+        assertEquals("bbc.co.uk", matchLoginsResponse.getDomain());
+        assertEquals("bbc login", matchLoginsResponse.getLoginInfos().get(0).getTitle());
+    }
+
+    @Test
+    public void userMatchesLogins_InvalidUrlTest() {
+        var response = handled(() -> userController.matchLogins("jack123", "https://co.uk/"));
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void unexpectedServerError_IsReportedWithoutDetailsTest() throws Exception {
+        var response = apiExceptionHandler.handleException(new IllegalStateException("Unable to unwrap vault key"));
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertFalse(new String(response.getBody()).contains("vault key"));
+    }
+
+    @Test
+    public void frameworkErrorResponse_KeepsItsStatusTest() throws Exception {
+        var response = apiExceptionHandler.handleException(new ResponseStatusException(HttpStatus.METHOD_NOT_ALLOWED));
+        assertEquals(HttpStatus.METHOD_NOT_ALLOWED, response.getStatusCode());
+    }
+
+    private ResponseEntity<?> handled(Callable<ResponseEntity<?>> call) {
+        try {
+            return call.call();
+        } catch (Exception exception) {
+            try {
+                return apiExceptionHandler.handleException(exception);
+            } catch (Exception serializationError) {
+                throw new IllegalStateException(serializationError);
+            }
+        }
+    }
+}
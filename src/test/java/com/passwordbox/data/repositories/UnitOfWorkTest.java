@@ -0,0 +1,188 @@
+package com.passwordbox.data.repositories;
+
+import com.mongodb.client.result.UpdateResult;
+import com.passwordbox.data.models.User;
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.exceptions.InvalidInputException;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@ExtendWith(MockitoExtension.class)
+public class UnitOfWorkTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private UnitOfWork unitOfWork;
+
+    private final ObjectId vaultId = new ObjectId();
+
+    private Query vaultQuery() {
+        return new Query(where("_id").is(vaultId));
+    }
+
+    private Query untitledQuery() {
+        return new Query(where("_id").is(vaultId).and("loginInfos.title").ne("gmail"));
+    }
+
+    private void matches(long matchedCount) {
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(Vault.class))).thenReturn(UpdateResult.acknowledged(matchedCount, matchedCount, null));
+    }
+
+    @Test
+    public void singleItemMutationIsOneConditionalUpdateTest() {
+        matches(1);
+
+        unitOfWork.execute(() -> {
+            unitOfWork.registerUpdate(Vault.class, vaultQuery(), new Update().inc("health.loginInfos", 1));
+            unitOfWork.registerGuardedUpdate(Vault.class, untitledQuery(), new Update().push("loginInfos", new Document("title", "gmail")).inc("version", 1),
+                    () -> new InvalidInputException("Title already exists"));
+            unitOfWork.registerUpdate(Vault.class, vaultQuery(), new Update().push("changes", "created").inc("changeSequence", 1).inc("version", 1));
+            return null;
+        });
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(Vault.class));
+        verify(mongoTemplate, never()).bulkOps(any(BulkMode.class), any(Class.class));
+        assertEquals(untitledQuery().getQueryObject(), query.getValue().getQueryObject());
+        Document updateObject = update.getValue().getUpdateObject();
+        assertEquals(new Document("health.loginInfos", 1).append("version", 2).append("changeSequence", 1), updateObject.get("$inc"));
+        assertEquals(new Document("loginInfos", new Document("title", "gmail")).append("changes", "created"), updateObject.get("$push"));
+    }
+
+    @Test
+    public void overlappingUpdatesAreNotMergedTest() {
+        when(mongoTemplate.bulkOps(BulkMode.ORDERED, Vault.class)).thenReturn(bulkOperations);
+
+        unitOfWork.execute(() -> {
+            unitOfWork.registerUpdate(Vault.class, vaultQuery(), new Update().set("loginInfos.$", "first"));
+            unitOfWork.registerUpdate(Vault.class, vaultQuery(), new Update().pull("loginInfos", "second"));
+            return null;
+        });
+
+        verify(bulkOperations, times(2)).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    public void conditionalUpdatesRunAfterTheMergedUpdateTest() {
+        when(mongoTemplate.bulkOps(BulkMode.ORDERED, Vault.class)).thenReturn(bulkOperations);
+        Query zeroedQuery = new Query(where("_id").is(vaultId).and("health.fingerprints.abc").lte(0));
+
+        unitOfWork.execute(() -> {
+            unitOfWork.registerUpdate(Vault.class, vaultQuery(), new Update().inc("health.fingerprints.abc", -1));
+            unitOfWork.registerUpdate(Vault.class, zeroedQuery, new Update().unset("health.fingerprints.abc"));
+            unitOfWork.registerUpdate(Vault.class, vaultQuery(), new Update().inc("version", 1));
+            return null;
+        });
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).updateOne(query.capture(), update.capture());
+        assertEquals(vaultQuery().getQueryObject(), query.getAllValues().get(0).getQueryObject());
+        assertEquals(new Document("health.fingerprints.abc", -1).append("version", 1), update.getAllValues().get(0).getUpdateObject().get("$inc"));
+        assertSame(zeroedQuery, query.getAllValues().get(1));
+    }
+
+    @Test
+    public void guardedUpdatesAreFlushedBeforeBulkWritesTest() {
+        matches(1);
+        when(mongoTemplate.bulkOps(BulkMode.ORDERED, User.class)).thenReturn(bulkOperations);
+        User user = new User();
+
+        unitOfWork.execute(() -> {
+            unitOfWork.registerNew(user);
+            unitOfWork.registerGuardedUpdate(Vault.class, untitledQuery(), new Update().inc("version", 1), () -> new InvalidInputException("Title already exists"));
+            return null;
+        });
+
+        InOrder inOrder = inOrder(mongoTemplate, bulkOperations);
+        inOrder.verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(Vault.class));
+        inOrder.verify(mongoTemplate).bulkOps(BulkMode.ORDERED, User.class);
+        inOrder.verify(bulkOperations).insert(user);
+        inOrder.verify(bulkOperations).execute();
+    }
+
+    @Test
+    public void guardMismatchAbortsBulkWritesAndAfterCommitTest() {
+        matches(0);
+        List<String> committed = new ArrayList<>();
+
+        assertThrows(InvalidInputException.class, () -> unitOfWork.execute(() -> {
+            unitOfWork.registerNew(new User());
+            unitOfWork.registerGuardedUpdate(Vault.class, untitledQuery(), new Update().inc("version", 1), () -> new InvalidInputException("Title already exists"));
+            unitOfWork.afterCommit(() -> committed.add("invalidate"));
+            return null;
+        }));
+
+        verify(mongoTemplate, never()).bulkOps(any(BulkMode.class), any(Class.class));
+        assertTrue(committed.isEmpty());
+    }
+
+    @Test
+    public void afterCommitRunsOnlyWhenTheWorkSucceedsTest() {
+        List<String> committed = new ArrayList<>();
+
+        assertThrows(IllegalStateException.class, () -> unitOfWork.execute(() -> {
+            unitOfWork.afterCommit(() -> committed.add("failed"));
+            throw new IllegalStateException("failed");
+        }));
+        unitOfWork.execute(() -> {
+            unitOfWork.afterCommit(() -> committed.add("succeeded"));
+            return null;
+        });
+
+        assertEquals(List.of("succeeded"), committed);
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    public void bulkFailureRemovesEntitiesInsertedByTheUnitTest() {
+        BulkOperations vaultBulkOperations = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkMode.ORDERED, User.class)).thenReturn(bulkOperations);
+        when(mongoTemplate.bulkOps(BulkMode.ORDERED, Vault.class)).thenReturn(vaultBulkOperations);
+        when(vaultBulkOperations.execute()).thenThrow(new DataAccessResourceFailureException("connection reset"));
+        User user = new User();
+        Vault vault = new Vault();
+        List<String> committed = new ArrayList<>();
+
+        assertThrows(DataAccessResourceFailureException.class, () -> unitOfWork.execute(() -> {
+            unitOfWork.registerNew(user);
+            unitOfWork.registerNew(vault);
+            unitOfWork.afterCommit(() -> committed.add("invalidate"));
+            return null;
+        }));
+
+        verify(bulkOperations).execute();
+        verify(mongoTemplate).remove(user);
+        verify(mongoTemplate).remove(vault);
+        assertTrue(committed.isEmpty());
+    }
+}
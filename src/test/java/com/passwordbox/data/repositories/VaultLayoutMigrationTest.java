@@ -0,0 +1,84 @@
+package com.passwordbox.data.repositories;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class VaultLayoutMigrationTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MongoCollection<Document> loginInfos;
+
+    @Mock
+    private FindIterable<Document> found;
+
+    @Mock
+    private MongoCursor<Document> cursor;
+
+    @InjectMocks
+    private VaultLayoutMigration vaultLayoutMigration;
+
+    private void legacyLoginInfos(Document... documents) {
+        when(mongoTemplate.getCollection("LoginInfos")).thenReturn(loginInfos);
+        when(loginInfos.find(any(Bson.class))).thenReturn(found);
+        when(found.iterator()).thenReturn(cursor);
+        Boolean[] more = new Boolean[documents.length];
+        for (int count = 0; count < documents.length; count++) more[count] = count < documents.length - 1 ? Boolean.TRUE : Boolean.FALSE;
+        if (documents.length == 0) when(cursor.hasNext()).thenReturn(false);
+        else {
+            when(cursor.hasNext()).thenReturn(true, more);
+            when(cursor.next()).thenReturn(documents[0], List.of(documents).subList(1, documents.length).toArray(Document[]::new));
+        }
+    }
+
+    @Test
+    public void replacesReferencesWithReferencedDocumentsInOrderTest() {
+        ObjectId gmail = new ObjectId();
+        ObjectId github = new ObjectId();
+        legacyLoginInfos(new Document("_id", github).append("_class", "com.passwordbox.data.models.LoginInfo").append("title", "github"),
+                new Document("_id", gmail).append("title", "gmail"));
+
+        List<Object> embedded = vaultLayoutMigration.embed(List.of(new DBRef("LoginInfos", gmail), new DBRef("LoginInfos", github)), "LoginInfos");
+
+        assertEquals(List.of(new Document("_id", gmail).append("title", "gmail"), new Document("_id", github).append("title", "github")), embedded);
+    }
+
+    @Test
+    public void readsReferencesDecodedAsDocumentsAndDropsDanglingOnesTest() {
+        ObjectId gmail = new ObjectId();
+        legacyLoginInfos(new Document("_id", gmail).append("title", "gmail"));
+
+        List<Object> embedded = vaultLayoutMigration.embed(List.of(new Document("$ref", "LoginInfos").append("$id", gmail),
+                new Document("$ref", "LoginInfos").append("$id", new ObjectId())), "LoginInfos");
+
+        assertEquals(List.of(new Document("_id", gmail).append("title", "gmail")), embedded);
+    }
+
+    @Test
+    public void leavesEmbeddedItemsUntouchedTest() {
+        List<Object> items = List.of(new Document("_id", new ObjectId()).append("title", "gmail"));
+
+        assertSame(items, vaultLayoutMigration.embed(items, "LoginInfos"));
+        verifyNoInteractions(mongoTemplate);
+    }
+}
@@ -0,0 +1,48 @@
+package com.passwordbox.services;
+
+import com.passwordbox.exceptions.WordlistNotFoundException;
+import com.passwordbox.exceptions.WordlistUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PassphraseServiceImplementationTest {
+
+    @TempDir
+    Path directory;
+
+    private final PassphraseServiceImplementation passphraseService = new PassphraseServiceImplementation();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(passphraseService, "wordlistDirectory", directory);
+        ReflectionTestUtils.setField(passphraseService, "defaultWordlist", "default");
+        ReflectionTestUtils.setField(passphraseService, "reloadInterval", Duration.ZERO);
+    }
+
+    @Test
+    public void startsWithoutTheDefaultWordlistTest() {
+        assertDoesNotThrow(passphraseService::loadWordlists);
+
+        assertThrows(WordlistUnavailableException.class, () -> passphraseService.findWordlist(null));
+        assertThrows(WordlistNotFoundException.class, () -> passphraseService.findWordlist("missing"));
+    }
+
+    @Test
+    public void picksUpTheDefaultWordlistOnceItAppearsTest() throws Exception {
+        passphraseService.loadWordlists();
+        assertThrows(WordlistUnavailableException.class, () -> passphraseService.findWordlist(""));
+
+        Files.writeString(directory.resolve("default.txt"), "apple\nbanana\ncherry\n");
+
+        assertEquals(3, passphraseService.findWordlist("").size());
+        assertEquals(3, passphraseService.findWordlist("default").size());
+    }
+}
@@ -0,0 +1,62 @@
+package com.passwordbox.services;
+
+import com.passwordbox.dataTransferObjects.requests.GeneratePasswordsRequest;
+import com.passwordbox.dataTransferObjects.requests.GeneratePinsRequest;
+import com.passwordbox.exceptions.InvalidInputException;
+import com.passwordbox.exceptions.InvalidPasscodeLengthException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserServiceImplementationPasscodeTest {
+
+    private final UserServiceImplementation userService = new UserServiceImplementation();
+
+    private static GeneratePinsRequest pinsRequest(String length, String count) {
+        GeneratePinsRequest generatePinsRequest = new GeneratePinsRequest();
+        generatePinsRequest.setLength(length);
+        generatePinsRequest.setCount(count);
+        return generatePinsRequest;
+    }
+
+    private static GeneratePasswordsRequest passwordsRequest(String length, String count, List<String> characterClasses) {
+        GeneratePasswordsRequest generatePasswordsRequest = new GeneratePasswordsRequest();
+        generatePasswordsRequest.setLength(length);
+        generatePasswordsRequest.setCount(count);
+        generatePasswordsRequest.setCharacterClasses(characterClasses);
+        return generatePasswordsRequest;
+    }
+
+    @Test
+    public void pinBatchesAcceptCountsUpToTheLimitTest() {
+        assertEquals(1, userService.generatePins(pinsRequest("4", "1")).getPins().size());
+        assertEquals(1000, userService.generatePins(pinsRequest("30", "1000")).getPins().size());
+    }
+
+    @Test
+    public void pinBatchesRejectCountsOutsideTheLimitTest() {
+        assertThrows(InvalidInputException.class, () -> userService.generatePins(pinsRequest("4", "0")));
+        assertThrows(InvalidInputException.class, () -> userService.generatePins(pinsRequest("4", "1001")));
+        assertThrows(InvalidInputException.class, () -> userService.generatePins(pinsRequest("4", "99999999999")));
+        assertThrows(InvalidInputException.class, () -> userService.generatePins(pinsRequest("4", "-1")));
+        assertThrows(InvalidInputException.class, () -> userService.generatePins(pinsRequest("4", null)));
+    }
+
+    @Test
+    public void batchesRejectLengthsOutsideTheLimitTest() {
+        assertThrows(InvalidPasscodeLengthException.class, () -> userService.generatePins(pinsRequest("0", "1")));
+        assertThrows(InvalidPasscodeLengthException.class, () -> userService.generatePins(pinsRequest("31", "1")));
+        assertThrows(InvalidPasscodeLengthException.class, () -> userService.generatePins(pinsRequest("99999999999", "1")));
+        assertThrows(InvalidPasscodeLengthException.class, () -> userService.generatePasswords(passwordsRequest("31", "1", null)));
+    }
+
+    @Test
+    public void passwordBatchesNeedRoomForEachCharacterClassTest() {
+        assertThrows(InvalidPasscodeLengthException.class, () -> userService.generatePasswords(passwordsRequest("3", "1", null)));
+        assertThrows(InvalidPasscodeLengthException.class, () -> userService.generatePasswords(passwordsRequest("1", "1", List.of("digits", "symbols"))));
+        assertThrows(InvalidInputException.class, () -> userService.generatePasswords(passwordsRequest("8", "1", List.of("emoji"))));
+        assertThrows(InvalidInputException.class, () -> userService.generatePasswords(passwordsRequest("8", "1001", null)));
+    }
+}
@@ -25,22 +25,10 @@ public class UserServiceImplementationTest {
     @Autowired
     private VaultRepository vaultRepository;
 
-    @Autowired
-    private LoginInfoRepository loginInfoRepository;
-
-    @Autowired
-    private NoteRepository noteRepository;
-
-    @Autowired
-    private CreditCardRepository creditCardRepository;
-
     @BeforeEach
     public void setUp() throws Exception {
         userRepository.deleteAll();
         vaultRepository.deleteAll();
-        loginInfoRepository.deleteAll();
-        noteRepository.deleteAll();
-        creditCardRepository.deleteAll();
 
         RegisterRequest registerRequest = new RegisterRequest();
         registerRequest.setUsername("jack123");
@@ -272,12 +260,12 @@ public class UserServiceImplementationTest {
         User jackSafeBox = userRepository.findByUsername("jack123");
 
         assertEquals(1, vaultRepository.count());
-        assertEquals(2, loginInfoRepository.count());
+        assertEquals(2, vaultRepository.findAll().getFirst().getLoginInfos().size());
         assertEquals(2, jackSafeBox.getVault().getLoginInfos().size());
         assertEquals("jack123@yahoo.com", jackSafeBox.getVault().getLoginInfos().get(1).getLoginId());
         assertEquals("yahoo login", saveNewLoginInfoResponse.getTitle());
         assertEquals("www.yahoo.com", saveNewLoginInfoResponse.getWebsite());
-        assertEquals("jack123@yahoo.com", loginInfoRepository.findAll().get(1).getLoginId());
+        assertEquals("jack123@yahoo.com", vaultRepository.findAll().getFirst().getLoginInfos().get(1).getLoginId());
     }
 
     @Test
@@ -359,11 +347,11 @@ public class UserServiceImplementationTest {
 
         User jackSafeBox = userRepository.findByUsername("jack123");
 
-        assertEquals(1, loginInfoRepository.count());
+        assertEquals(1, vaultRepository.findAll().getFirst().getLoginInfos().size());
         assertEquals(1, jackSafeBox.getVault().getLoginInfos().size());
         assertEquals("jack123@yahoo.com", jackSafeBox.getVault().getLoginInfos().getFirst().getLoginId());
         assertEquals("yahoo login", editLoginInfoResponse.getTitle());
-        assertEquals("jack123@yahoo.com", loginInfoRepository.findAll().getFirst().getLoginId());
+        assertEquals("jack123@yahoo.com", vaultRepository.findAll().getFirst().getLoginInfos().getFirst().getLoginId());
     }
 
     @Test
@@ -470,7 +458,7 @@ public class UserServiceImplementationTest {
 
         User jackSafeBox = userRepository.findByUsername("jack123");
 
-        assertEquals(0, loginInfoRepository.count());
+        assertEquals(0, vaultRepository.findAll().getFirst().getLoginInfos().size());
         assertEquals(0, jackSafeBox.getVault().getLoginInfos().size());
         assertEquals(0, vaultRepository.findAll().getFirst().getLoginInfos().size());
         assertEquals("gmail login", deleteLoginInfoResponse.getTitle());
@@ -536,11 +524,11 @@ public class UserServiceImplementationTest {
         User jackSafeBox = userRepository.findByUsername("jack123");
 
         assertEquals(1, vaultRepository.count());
-        assertEquals(2, noteRepository.count());
+        assertEquals(2, vaultRepository.findAll().getFirst().getNotes().size());
         assertEquals(2, jackSafeBox.getVault().getNotes().size());
         assertEquals("secrets", jackSafeBox.getVault().getNotes().get(1).getTitle());
         assertEquals("i cannot tell anyone.", createNoteResponse.getContent());
-        assertEquals("secrets", noteRepository.findAll().get(1).getTitle());
+        assertEquals("secrets", vaultRepository.findAll().getFirst().getNotes().get(1).getTitle());
     }
 
 
@@ -615,11 +603,11 @@ public class UserServiceImplementationTest {
         User jackSafeBox = userRepository.findByUsername("jack123");
 
         assertEquals(1, vaultRepository.count());
-        assertEquals(1, noteRepository.count());
+        assertEquals(1, vaultRepository.findAll().getFirst().getNotes().size());
         assertEquals(1, jackSafeBox.getVault().getNotes().size());
         assertEquals("new ideas", jackSafeBox.getVault().getNotes().getFirst().getTitle());
         assertEquals("Build Robots for heart surgeries", editNoteResponse.getContent());
-        assertEquals("new ideas", noteRepository.findAll().getFirst().getTitle());
+        assertEquals("new ideas", vaultRepository.findAll().getFirst().getNotes().getFirst().getTitle());
     }
 
     @Test
@@ -732,7 +720,7 @@ public class UserServiceImplementationTest {
 
         User jackSafeBox = userRepository.findByUsername("jack123");
 
-        assertEquals(0, noteRepository.count());
+        assertEquals(0, vaultRepository.findAll().getFirst().getNotes().size());
         assertEquals(0, jackSafeBox.getVault().getNotes().size());
         assertEquals(0, vaultRepository.findAll().getFirst().getNotes().size());
         assertEquals("ideas", deleteNoteResponse.getTitle());
@@ -860,7 +848,7 @@ public class UserServiceImplementationTest {
         User jackSafeBox = userRepository.findByUsername("jack123");
 
         assertEquals(2, jackSafeBox.getVault().getCreditCards().size());
-        assertEquals(2, creditCardRepository.count());
+        assertEquals(2, vaultRepository.findAll().getFirst().getCreditCards().size());
         assertEquals("zenith savings card", jackSafeBox.getVault().getCreditCards().get(1).getTitle());
         assertEquals("zenith savings card", jackSaveCreditCardResponse.getTitle());
     }
@@ -922,7 +910,7 @@ public class UserServiceImplementationTest {
 
         assertEquals(1, jackSafeBox.getVault().getCreditCards().size());
         assertEquals("gtb current card", jackSafeBox.getVault().getCreditCards().getFirst().getTitle());
-        assertEquals(1, creditCardRepository.count());
+        assertEquals(1, vaultRepository.findAll().getFirst().getCreditCards().size());
         assertEquals(jackSafeBox.getVault().getCreditCards().getFirst().getId(), jackEditCreditCardResponse.getId());
     }
 
@@ -958,7 +946,7 @@ public class UserServiceImplementationTest {
         viewCreditCardRequest.setTitle("gtb savings card");
 
         ViewCreditCardResponse jackViewCreditCardResponse = userService.viewCreditCard(viewCreditCardRequest);
-        assertEquals(1, creditCardRepository.count());
+        assertEquals(1, vaultRepository.findAll().getFirst().getCreditCards().size());
         assertEquals("gtb savings card", jackViewCreditCardResponse.getTitle());
     }
 
@@ -983,7 +971,7 @@ public class UserServiceImplementationTest {
 
         assertEquals(0, jackSafeBox.getVault().getCreditCards().size());
         assertEquals(0, vaultRepository.findAll().getFirst().getCreditCards().size());
-        assertEquals(0, creditCardRepository.count());
+        assertEquals(0, vaultRepository.findAll().getFirst().getCreditCards().size());
         assertEquals("gtb savings card", jackDeleteCreditCardResponse.getTitle());
     }
 
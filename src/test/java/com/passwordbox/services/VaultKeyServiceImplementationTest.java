@@ -0,0 +1,145 @@
+package com.passwordbox.services;
+
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.data.repositories.VaultRepository;
+import com.passwordbox.utilities.CryptoEngine;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class VaultKeyServiceImplementationTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private VaultRepository vaultRepository;
+
+    @InjectMocks
+    private VaultKeyServiceImplementation vaultKeyService;
+
+    private final String vaultId = new ObjectId().toHexString();
+
+    private VaultKeyServiceImplementation configure(VaultKeyServiceImplementation service, Duration timeToLive, int maximumSize) throws Exception {
+        ReflectionTestUtils.setField(service, "vaultRepository", vaultRepository);
+        ReflectionTestUtils.setField(service, "keyStorePath", directory.resolve("keystore.p12"));
+        ReflectionTestUtils.setField(service, "keyStorePassword", "changeit");
+        ReflectionTestUtils.setField(service, "bootstrap", true);
+        ReflectionTestUtils.setField(service, "timeToLive", timeToLive);
+        ReflectionTestUtils.setField(service, "maximumSize", maximumSize);
+        service.loadMasterKey();
+        return service;
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        configure(vaultKeyService, Duration.ofMinutes(15), 10000);
+    }
+
+    private Vault vault(String id) {
+        Vault vault = new Vault();
+        vault.setId(id);
+        return vault;
+    }
+
+    @Test
+    public void wrappedDataKeyUnwrapsToTheSameKeyTest() throws Exception {
+        Vault vault = vault(vaultId);
+        vaultKeyService.assignDataKey(vault);
+        String sealed = vaultKeyService.findCachedCryptoEngine(vaultId).encrypt("password");
+
+        VaultKeyServiceImplementation restarted = configure(new VaultKeyServiceImplementation(), Duration.ofMinutes(15), 10000);
+        assertNull(restarted.findCachedCryptoEngine(vaultId));
+        CryptoEngine unwrapped = restarted.cryptoEngineFor(vaultId, vault.getWrappedDataKey());
+
+        assertEquals("password", unwrapped.decrypt(sealed));
+        assertSame(unwrapped, restarted.findCachedCryptoEngine(vaultId));
+    }
+
+    @Test
+    public void wrappedDataKeyIsBoundToItsVaultTest() {
+        Vault vault = vault(vaultId);
+        vaultKeyService.assignDataKey(vault);
+
+        assertThrows(IllegalStateException.class, () -> vaultKeyService.cryptoEngineFor(new ObjectId().toHexString(), vault.getWrappedDataKey()));
+    }
+
+    @Test
+    public void unboundLegacyDataKeysAreRejectedAndRewrappedAtStartupTest() throws Exception {
+        CryptoEngine masterKey = (CryptoEngine) ReflectionTestUtils.getField(vaultKeyService, "masterKey");
+        byte[] dataKey = new byte[32];
+        String legacyWrappedDataKey = Base64.getEncoder().encodeToString(masterKey.encrypt(dataKey));
+        Vault legacyVault = vault(vaultId);
+        legacyVault.setWrappedDataKey(legacyWrappedDataKey);
+        when(vaultRepository.findWrappedDataKeysWithoutPrefix(anyString())).thenReturn(List.of(legacyVault));
+
+        assertThrows(IllegalStateException.class, () -> vaultKeyService.cryptoEngineFor(vaultId, legacyWrappedDataKey));
+        vaultKeyService.loadMasterKey();
+
+        ArgumentCaptor<String> rewrapped = ArgumentCaptor.forClass(String.class);
+        verify(vaultRepository).replaceWrappedDataKey(eq(vaultId), eq(legacyWrappedDataKey), rewrapped.capture());
+        CryptoEngine legacyEngine = new CryptoEngine(new SecretKeySpec(dataKey, "AES"));
+        assertEquals("password", vaultKeyService.cryptoEngineFor(vaultId, rewrapped.getValue()).decrypt(legacyEngine.encrypt("password")));
+    }
+
+    @Test
+    public void missingDataKeyUsesTheKeyThatWonTheRaceTest() throws Exception {
+        Vault winner = vault(vaultId);
+        VaultKeyServiceImplementation otherInstance = configure(new VaultKeyServiceImplementation(), Duration.ofMinutes(15), 10000);
+        otherInstance.assignDataKey(winner);
+        String sealed = otherInstance.findCachedCryptoEngine(vaultId).encrypt("password");
+        when(vaultRepository.findWrappedDataKey(vaultId)).thenReturn(winner.getWrappedDataKey());
+
+        CryptoEngine cryptoEngine = vaultKeyService.cryptoEngineFor(vaultId, null);
+
+        verify(vaultRepository).setWrappedDataKeyIfAbsent(eq(vaultId), argThat(wrappedDataKey -> !wrappedDataKey.equals(winner.getWrappedDataKey())));
+        assertEquals("password", cryptoEngine.decrypt(sealed));
+        assertSame(cryptoEngine, vaultKeyService.findCachedCryptoEngine(vaultId));
+    }
+
+    @Test
+    public void cachedKeysExpireAfterTheirTimeToLiveTest() throws Exception {
+        VaultKeyServiceImplementation expiring = configure(new VaultKeyServiceImplementation(), Duration.ofMillis(50), 10000);
+        expiring.assignDataKey(vault(vaultId));
+        assertNotNull(expiring.findCachedCryptoEngine(vaultId));
+
+        Thread.sleep(100);
+
+        assertNull(expiring.findCachedCryptoEngine(vaultId));
+    }
+
+    @Test
+    public void cacheEvictsLeastRecentlyUsedKeysBeyondMaximumSizeTest() throws Exception {
+        VaultKeyServiceImplementation bounded = configure(new VaultKeyServiceImplementation(), Duration.ofMinutes(15), 2);
+        String first = new ObjectId().toHexString();
+        String second = new ObjectId().toHexString();
+        String third = new ObjectId().toHexString();
+        bounded.assignDataKey(vault(first));
+        bounded.assignDataKey(vault(second));
+        bounded.findCachedCryptoEngine(first);
+        bounded.assignDataKey(vault(third));
+
+        assertNotNull(bounded.findCachedCryptoEngine(first));
+        assertNull(bounded.findCachedCryptoEngine(second));
+        assertNotNull(bounded.findCachedCryptoEngine(third));
+    }
+}
@@ -0,0 +1,123 @@
+package com.passwordbox.utilities;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BreachCorpusTest {
+
+    @TempDir
+    Path directory;
+
+    private static String sha1(String password) throws Exception {
+        return HexFormat.of().withUpperCase().formatHex(MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String hash(String prefix, char fill) {
+        return prefix + String.valueOf(fill).repeat(40 - prefix.length());
+    }
+
+    private BreachCorpus corpus(Map<String, Integer> counts) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        new TreeMap<>(counts).forEach((hash, count) -> lines.append(hash).append(':').append(count).append("\r\n"));
+        Path source = directory.resolve("hashes.txt");
+        Files.writeString(source, lines);
+        Path target = directory.resolve("corpus.bin");
+        assertEquals(counts.size(), BreachCorpusBuilder.build(source, target));
+        return BreachCorpus.map(target);
+    }
+
+    @Test
+    public void findsBreachedPasswordsTest() throws Exception {
+        BreachCorpus corpus = corpus(Map.of(sha1("password"), 9545824, sha1("123456"), 37359195, sha1("qwerty"), 10556095));
+
+        assertEquals(3, corpus.getRecordCount());
+        assertEquals(9545824, corpus.breachCount("password"));
+        assertEquals(37359195, corpus.breachCount("123456"));
+        assertEquals(10556095, corpus.breachCount("qwerty"));
+    }
+
+    @Test
+    public void missesPasswordsOutsideTheCorpusTest() throws Exception {
+        BreachCorpus corpus = corpus(Map.of(sha1("password"), 9545824));
+
+        assertEquals(0, corpus.breachCount("correct horse battery staple"));
+        assertEquals(0, corpus.breachCount("Password"));
+        assertEquals(0, corpus.breachCount((String) null));
+        assertEquals(0, BreachCorpus.empty().breachCount("password"));
+    }
+
+    @Test
+    public void findsRecordsOnBucketBoundariesTest() throws Exception {
+        BreachCorpus corpus = corpus(Map.of(hash("0000", '0'), 1, hash("00FF", 'F'), 2, hash("0100", '0'), 3, hash("7FFF", 'F'), 4, hash("8000", '0'), 5, hash("FFFF", 'F'), 6));
+
+        assertEquals(1, corpus.breachCount(HexFormat.of().parseHex(hash("0000", '0'))));
+        assertEquals(2, corpus.breachCount(HexFormat.of().parseHex(hash("00FF", 'F'))));
+        assertEquals(3, corpus.breachCount(HexFormat.of().parseHex(hash("0100", '0'))));
+        assertEquals(4, corpus.breachCount(HexFormat.of().parseHex(hash("7FFF", 'F'))));
+        assertEquals(5, corpus.breachCount(HexFormat.of().parseHex(hash("8000", '0'))));
+        assertEquals(6, corpus.breachCount(HexFormat.of().parseHex(hash("FFFF", 'F'))));
+        assertEquals(0, corpus.breachCount(HexFormat.of().parseHex(hash("00FF", 'E'))));
+        assertEquals(0, corpus.breachCount(HexFormat.of().parseHex(hash("0001", '0'))));
+        assertEquals(0, corpus.breachCount(HexFormat.of().parseHex(hash("FFFE", 'F'))));
+    }
+
+    @Test
+    public void buildsFromRangeDirectoryTest() throws Exception {
+        String password = sha1("password");
+        String letmein = sha1("letmein");
+        Path ranges = Files.createDirectory(directory.resolve("ranges"));
+        Files.writeString(ranges.resolve(password.substring(0, 5) + ".txt"), password.substring(5) + ":9545824\n");
+        Files.writeString(ranges.resolve(letmein.substring(0, 5)), letmein.substring(5) + ":1234\n");
+        Path target = directory.resolve("corpus.bin");
+
+        assertEquals(2, BreachCorpusBuilder.build(ranges, target));
+        BreachCorpus corpus = BreachCorpus.map(target);
+        assertEquals(9545824, corpus.breachCount("password"));
+        assertEquals(1234, corpus.breachCount("letmein"));
+    }
+
+    @Test
+    public void rejectsFilesWithWrongHeaderTest() throws Exception {
+        Path target = directory.resolve("corpus.bin");
+        Files.write(target, new byte[BreachCorpus.HEADER_LENGTH]);
+
+        assertThrows(IOException.class, () -> BreachCorpus.map(target));
+    }
+
+    @Test
+    public void rejectsTruncatedCorpusTest() throws Exception {
+        Path target = directory.resolve("corpus.bin");
+        ByteBuffer header = ByteBuffer.allocate(BreachCorpus.HEADER_LENGTH).putLong(BreachCorpus.MAGIC).putLong(2);
+        Files.write(target, header.array());
+
+        assertThrows(IOException.class, () -> BreachCorpus.map(target));
+    }
+
+    @Test
+    public void rejectsUnsortedOrShortHashesTest() throws Exception {
+        Path unsorted = Files.writeString(directory.resolve("unsorted.txt"), hash("FFFF", 'F') + ":1\n" + hash("0000", '0') + ":1\n");
+        Path duplicated = Files.writeString(directory.resolve("duplicated.txt"), hash("0000", '0') + ":1\n" + hash("0000", '0') + ":2\n");
+        Path shortHash = Files.writeString(directory.resolve("short.txt"), "ABCDEF:1\n");
+
+        assertThrows(IOException.class, () -> BreachCorpusBuilder.build(unsorted, directory.resolve("unsorted.bin")));
+        assertThrows(IOException.class, () -> BreachCorpusBuilder.build(duplicated, directory.resolve("duplicated.bin")));
+        assertThrows(IOException.class, () -> BreachCorpusBuilder.build(shortHash, directory.resolve("short.bin")));
+    }
+
+    @Test
+    public void rejectsHashesOfWrongLengthTest() {
+        assertThrows(IllegalArgumentException.class, () -> BreachCorpus.empty().breachCount(new byte[19]));
+    }
+}
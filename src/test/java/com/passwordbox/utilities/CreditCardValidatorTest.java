@@ -0,0 +1,51 @@
+package com.passwordbox.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CreditCardValidatorTest {
+
+    @Test
+    public void acceptsKnownValidNumbersTest() {
+        assertTrue(CreditCardValidator.isCreditCardValid("4111111111111111"));
+        assertTrue(CreditCardValidator.isCreditCardValid("5555555555554444"));
+        assertTrue(CreditCardValidator.isCreditCardValid("378282246310005"));
+        assertTrue(CreditCardValidator.isCreditCardValid("6011111111111117"));
+        assertTrue(CreditCardValidator.isCreditCardValid("79927398713"));
+        assertTrue(CreditCardValidator.isCreditCardValid(new StringBuilder("4012888888881881")));
+    }
+
+    @Test
+    public void rejectsNumbersFailingTheChecksumTest() {
+        assertFalse(CreditCardValidator.isCreditCardValid("4111111111111112"));
+        assertFalse(CreditCardValidator.isCreditCardValid("79927398710"));
+        assertFalse(CreditCardValidator.isCreditCardValid("5555555555554443"));
+        assertTrue(CreditCardValidator.isCreditCardInvalid("4111111111111112"));
+        assertFalse(CreditCardValidator.isCreditCardInvalid("4111111111111111"));
+    }
+
+    @Test
+    public void rejectsEmptyAndNonDigitInputTest() {
+        assertFalse(CreditCardValidator.isCreditCardValid(""));
+        assertFalse(CreditCardValidator.isCreditCardValid("4111 1111 1111 1111"));
+        assertFalse(CreditCardValidator.isCreditCardValid("4111-1111-1111-1111"));
+        assertFalse(CreditCardValidator.isCreditCardValid("411111111111111a"));
+        assertFalse(CreditCardValidator.isCreditCardValid("٤١١١١١١١١١١١١١١١"));
+    }
+
+    @Test
+    public void validatesBatchesInOrderTest() {
+        List<String> creditCardNumbers = List.of("4111111111111111", "4111111111111112", "", "378282246310005", "abc");
+
+        assertArrayEquals(new boolean[]{true, false, false, true, false}, CreditCardValidator.areCreditCardsValid(creditCardNumbers));
+        assertArrayEquals(new boolean[0], CreditCardValidator.areCreditCardsValid(List.of()));
+
+        boolean[] validity = new boolean[7];
+        CreditCardValidator.areCreditCardsValid(creditCardNumbers, validity);
+        assertArrayEquals(new boolean[]{true, false, false, true, false, false, false}, validity);
+        assertThrows(IllegalArgumentException.class, () -> CreditCardValidator.areCreditCardsValid(creditCardNumbers, new boolean[4]));
+    }
+}
@@ -0,0 +1,115 @@
+package com.passwordbox.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CryptoEngineTest {
+
+    private final CryptoEngine cryptoEngine = new CryptoEngine(key(1));
+
+    private static SecretKeySpec key(int seed) {
+        byte[] key = new byte[32];
+        for (int index = 0; index < key.length; index++) key[index] = (byte) (seed * 31 + index);
+        return new SecretKeySpec(key, "AES");
+    }
+
+    private static String tampered(String sealed, int index) {
+        byte[] bytes = Base64.getDecoder().decode(sealed);
+        bytes[index] ^= 1;
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    @Test
+    public void encryptDecryptRoundTripTest() throws Exception {
+        String sealed = cryptoEngine.encrypt("Build an AI assistant for projects");
+
+        assertNotEquals("Build an AI assistant for projects", sealed);
+        assertEquals("Build an AI assistant for projects", cryptoEngine.decrypt(sealed));
+        assertEquals("", cryptoEngine.decrypt(cryptoEngine.encrypt("")));
+        assertEquals("pässwörd ✓", cryptoEngine.decrypt(cryptoEngine.encrypt("pässwörd ✓")));
+        assertNull(cryptoEngine.encrypt((String) null));
+        assertNull(cryptoEngine.decrypt((String) null));
+    }
+
+    @Test
+    public void encryptionUsesFreshNoncesTest() throws Exception {
+        assertNotEquals(cryptoEngine.encrypt("password"), cryptoEngine.encrypt("password"));
+    }
+
+    @Test
+    public void tamperedCiphertextIsRejectedTest() throws Exception {
+        String sealed = cryptoEngine.encrypt("password");
+        int sealedLength = CryptoEngine.sealedLength("password".length());
+
+        assertThrows(AEADBadTagException.class, () -> cryptoEngine.decrypt(tampered(sealed, 0)));
+        assertThrows(AEADBadTagException.class, () -> cryptoEngine.decrypt(tampered(sealed, CryptoEngine.NONCE_LENGTH)));
+        assertThrows(AEADBadTagException.class, () -> cryptoEngine.decrypt(tampered(sealed, sealedLength - 1)));
+    }
+
+    @Test
+    public void otherKeysCannotDecryptTest() throws Exception {
+        String sealed = cryptoEngine.encrypt("password");
+
+        assertThrows(AEADBadTagException.class, () -> new CryptoEngine(key(2)).decrypt(sealed));
+    }
+
+    @Test
+    public void tooShortCiphertextIsRejectedTest() {
+        byte[] tooShort = new byte[CryptoEngine.NONCE_LENGTH + CryptoEngine.TAG_LENGTH - 1];
+
+        assertThrows(GeneralSecurityException.class, () -> cryptoEngine.decrypt(tooShort));
+        assertThrows(GeneralSecurityException.class, () -> cryptoEngine.decrypt(Base64.getEncoder().encodeToString(tooShort)));
+        assertThrows(GeneralSecurityException.class, () -> cryptoEngine.decrypt(ByteBuffer.wrap(tooShort), ByteBuffer.allocate(16)));
+    }
+
+    @Test
+    public void batchAndBufferApisAgreeWithStringApiTest() throws Exception {
+        String[] plaintexts = {"gmail", "", "pässwörd", null};
+
+        String[] sealed = cryptoEngine.encryptAll(plaintexts);
+        assertArrayEquals(plaintexts, cryptoEngine.decryptAll(sealed));
+        for (int index = 0; index < plaintexts.length; index++) {
+            if (plaintexts[index] != null) assertEquals(plaintexts[index], cryptoEngine.decrypt(sealed[index]));
+        }
+
+        byte[] plaintext = "pässwörd".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer sealedBuffer = ByteBuffer.allocate(CryptoEngine.sealedLength(plaintext.length));
+        assertEquals(sealedBuffer.capacity(), cryptoEngine.encrypt(ByteBuffer.wrap(plaintext), sealedBuffer));
+        String sealedString = Base64.getEncoder().encodeToString(sealedBuffer.array());
+        assertEquals("pässwörd", cryptoEngine.decrypt(sealedString));
+
+        byte[] sealedBytes = Base64.getDecoder().decode(cryptoEngine.encrypt("pässwörd"));
+        ByteBuffer opened = ByteBuffer.allocate(CryptoEngine.openedLength(sealedBytes.length));
+        assertEquals(plaintext.length, cryptoEngine.decrypt(ByteBuffer.wrap(sealedBytes), opened));
+        assertArrayEquals(plaintext, opened.array());
+        assertArrayEquals(plaintext, cryptoEngine.decrypt(cryptoEngine.encrypt(plaintext)));
+    }
+
+    @Test
+    public void isSealedRecognisesOnlyCiphertextShapedContentTest() throws Exception {
+        assertTrue(CryptoEngine.isSealed(cryptoEngine.encrypt("")));
+        assertTrue(CryptoEngine.isSealed(cryptoEngine.encrypt("Build an AI assistant for projects")));
+        assertTrue(CryptoEngine.isSealed(tampered(cryptoEngine.encrypt("password"), 0)));
+        assertFalse(CryptoEngine.isSealed(null));
+        assertFalse(CryptoEngine.isSealed("Build an AI assistant for projects"));
+        assertFalse(CryptoEngine.isSealed("abcd"));
+        assertFalse(CryptoEngine.isSealed(Base64.getEncoder().encodeToString(new byte[CryptoEngine.NONCE_LENGTH + CryptoEngine.TAG_LENGTH - 1])));
+        assertFalse(CryptoEngine.isSealed("not base64 at all!!!!!!!!!!!!!!!!!!!!!!!!"));
+    }
+
+    @Test
+    public void fingerprintsAreKeyedAndDeterministicTest() throws Exception {
+        assertEquals(cryptoEngine.fingerprint("password"), cryptoEngine.fingerprint("password"));
+        assertNotEquals(cryptoEngine.fingerprint("password"), cryptoEngine.fingerprint("Password"));
+        assertNotEquals(cryptoEngine.fingerprint("password"), new CryptoEngine(key(2)).fingerprint("password"));
+        assertNotEquals(cryptoEngine.fingerprint("password"), cryptoEngine.blindIndexToken("password"));
+    }
+}
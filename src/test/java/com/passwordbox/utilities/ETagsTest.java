@@ -0,0 +1,34 @@
+package com.passwordbox.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ETagsTest {
+
+    private final String eTag = ETags.of("abc", 3);
+
+    @Test
+    public void weakComparisonIgnoresTheWeakPrefixTest() {
+        assertTrue(ETags.weakMatches("\"abc-3\"", eTag));
+        assertTrue(ETags.weakMatches("W/\"abc-3\"", eTag));
+        assertTrue(ETags.weakMatches("\"abc-2\" , W/\"abc-3\"", eTag));
+        assertFalse(ETags.weakMatches("\"abc-2\"", eTag));
+        assertFalse(ETags.weakMatches(null, eTag));
+    }
+
+    @Test
+    public void strongComparisonRejectsWeakTagsTest() {
+        assertTrue(ETags.strongMatches("\"abc-3\"", eTag));
+        assertTrue(ETags.strongMatches("W/\"abc-3\", \"abc-3\"", eTag));
+        assertFalse(ETags.strongMatches("W/\"abc-3\"", eTag));
+        assertFalse(ETags.strongMatches("abc-3", eTag));
+        assertFalse(ETags.strongMatches(null, eTag));
+    }
+
+    @Test
+    public void wildcardMatchesAnyCurrentItemTest() {
+        assertTrue(ETags.weakMatches("*", eTag));
+        assertTrue(ETags.strongMatches("*", eTag));
+    }
+}
@@ -0,0 +1,83 @@
+package com.passwordbox.utilities;
+
+import com.passwordbox.utilities.IinRangeTable.IinRange;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IinRangeTableTest {
+
+    private static final CardBrand VISA = new CardBrand("Visa", "Visa");
+    private static final CardBrand VISA_ELECTRON = new CardBrand("Visa Electron", "Visa");
+    private static final CardBrand MASTERCARD = new CardBrand("Mastercard", "Mastercard");
+
+    @Test
+    public void narrowestOverlappingRangeWinsTest() {
+        IinRangeTable table = IinRangeTable.of(List.of(
+                IinRange.of("4", "4", VISA),
+                IinRange.of("4026", "4026", VISA_ELECTRON),
+                IinRange.of("51", "55", MASTERCARD)));
+
+        assertEquals(VISA, table.classify("4111111111111111"));
+        assertEquals(VISA_ELECTRON, table.classify("4026000000000002"));
+        assertEquals(VISA, table.classify("4027000000000001"));
+        assertEquals(VISA, table.classify("4025999999999999"));
+        assertEquals(MASTERCARD, table.classify("5555 5555 5555 4444"));
+    }
+
+    @Test
+    public void narrowestRangeWinsRegardlessOfOrderTest() {
+        IinRangeTable table = IinRangeTable.of(List.of(
+                IinRange.of("4026", "4026", VISA_ELECTRON),
+                IinRange.of("4", "4", VISA)));
+
+        assertEquals(VISA_ELECTRON, table.classify("4026000000000002"));
+        assertEquals(VISA, table.classify("4000000000000002"));
+    }
+
+    @Test
+    public void unknownPrefixesAreNotClassifiedTest() {
+        IinRangeTable table = IinRangeTable.of(List.of(IinRange.of("51", "55", MASTERCARD)));
+
+        assertNull(table.classify("6011000000000004"));
+        assertNull(table.classify("5000000000000000"));
+        assertNull(table.classify("5611-0000"));
+        assertNull(table.classify("51a0"));
+        assertNull(table.classify(""));
+        assertNull(IinRangeTable.empty().classify("4111111111111111"));
+    }
+
+    @Test
+    public void adjacentRangesOfSameBrandAreMergedTest() {
+        IinRangeTable table = IinRangeTable.of(List.of(
+                IinRange.of("51", "52", MASTERCARD),
+                IinRange.of("53", "55", MASTERCARD)));
+
+        assertEquals(2, table.size());
+        assertEquals(MASTERCARD, table.classify("5300000000000000"));
+    }
+
+    @Test
+    public void parseReadsIssuerOrFallsBackToBrandTest() throws Exception {
+        List<IinRange> ranges = IinRangeTable.parse(new StringReader("""
+                # low prefix,high prefix,brand,issuer
+                2200,2204,Mir,National Card Payment System
+
+                51,55,Mastercard
+                """));
+
+        assertEquals(2, ranges.size());
+        assertEquals(new CardBrand("Mir", "National Card Payment System"), ranges.get(0).cardBrand());
+        assertEquals(MASTERCARD, ranges.get(1).cardBrand());
+    }
+
+    @Test
+    public void rejectsInvalidRangesTest() {
+        assertThrows(IllegalArgumentException.class, () -> IinRange.of("55", "51", MASTERCARD));
+        assertThrows(IllegalArgumentException.class, () -> IinRange.of("5a", "55", MASTERCARD));
+        assertThrows(IllegalArgumentException.class, () -> IinRangeTable.parse(new StringReader("51,Mastercard")));
+    }
+}
@@ -0,0 +1,68 @@
+package com.passwordbox.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InstancePoolTest {
+
+    @Test
+    public void reusesReleasedInstancesTest() {
+        AtomicInteger created = new AtomicInteger();
+        InstancePool<Object> pool = new InstancePool<>(2, () -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+
+        Object first = pool.acquire();
+        pool.release(first);
+
+        assertSame(first, pool.acquire());
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void createsInstancesWhenEmptyAndDropsWhenFullTest() {
+        InstancePool<Object> pool = new InstancePool<>(2, Object::new);
+
+        Object first = pool.acquire();
+        Object second = pool.acquire();
+        Object third = pool.acquire();
+        assertNotSame(first, second);
+        assertNotSame(second, third);
+
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+        assertEquals(2, pool.idleCount());
+    }
+
+    @Test
+    public void virtualThreadsShareInstancesTest() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        InstancePool<Object> pool = new InstancePool<>(4, () -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int task = 0; task < 1000; task++) {
+                executor.submit(() -> {
+                    Object instance = pool.acquire();
+                    pool.release(instance);
+                });
+            }
+        }
+
+        assertTrue(created.get() < 1000);
+        assertTrue(pool.idleCount() <= 4);
+    }
+
+    @Test
+    public void rejectsNonPositiveCapacityTest() {
+        assertThrows(IllegalArgumentException.class, () -> new InstancePool<>(0, Object::new));
+    }
+}
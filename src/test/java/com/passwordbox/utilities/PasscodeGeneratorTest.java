@@ -0,0 +1,87 @@
+package com.passwordbox.utilities;
+
+import com.passwordbox.utilities.PasscodeGenerator.CharacterClass;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasscodeGeneratorTest {
+
+    private static final String SYMBOLS = "~`!@#$%^&*()-=_+[{]};:',<.>/?";
+
+    private static Set<CharacterClass> classesOf(String passcode) {
+        Set<CharacterClass> characterClasses = EnumSet.noneOf(CharacterClass.class);
+        for (char character : passcode.toCharArray()) {
+            if (Character.isLowerCase(character)) characterClasses.add(CharacterClass.LOWERCASE);
+            else if (Character.isUpperCase(character)) characterClasses.add(CharacterClass.UPPERCASE);
+            else if (Character.isDigit(character)) characterClasses.add(CharacterClass.DIGITS);
+            else if (SYMBOLS.indexOf(character) >= 0) characterClasses.add(CharacterClass.SYMBOLS);
+            else fail("Unexpected character " + character);
+        }
+        return characterClasses;
+    }
+
+    @Test
+    public void passwordsContainOneOfEachClassTest() {
+        for (int attempt = 0; attempt < 2000; attempt++) {
+            assertEquals(EnumSet.allOf(CharacterClass.class), classesOf(PasscodeGenerator.generatePassword(4)));
+        }
+        for (String password : PasscodeGenerator.generatePasswords(6, 1000, CharacterClass.LOWERCASE, CharacterClass.DIGITS)) {
+            assertEquals(EnumSet.of(CharacterClass.LOWERCASE, CharacterClass.DIGITS), classesOf(password));
+        }
+    }
+
+    @Test
+    public void passcodesHaveTheRequestedLengthTest() {
+        for (int length = 1; length <= 30; length++) {
+            assertEquals(length, PasscodeGenerator.generatePassword(length).length());
+            assertEquals(length, PasscodeGenerator.generatePin(length).length());
+        }
+        assertEquals(0, PasscodeGenerator.generatePassword(0).length());
+        assertEquals(3, PasscodeGenerator.generatePassword(3).length());
+    }
+
+    @Test
+    public void pinsContainOnlyDigitsTest() {
+        for (String pin : PasscodeGenerator.generatePins(8, 1000)) {
+            assertTrue(pin.matches("\\d{8}"), pin);
+        }
+    }
+
+    @Test
+    public void batchesHaveTheRequestedCountTest() {
+        List<String> passwords = PasscodeGenerator.generatePasswords(20, 1000);
+
+        assertEquals(1000, passwords.size());
+        assertEquals(1000, new HashSet<>(passwords).size());
+        assertEquals(1, PasscodeGenerator.generatePins(4, 1).size());
+        assertTrue(PasscodeGenerator.generatePins(4, 0).isEmpty());
+    }
+
+    @Test
+    public void singleClassPasswordsUseOnlyThatClassTest() {
+        for (String password : PasscodeGenerator.generatePasswords(12, 200, CharacterClass.SYMBOLS)) {
+            assertEquals(EnumSet.of(CharacterClass.SYMBOLS), classesOf(password));
+        }
+    }
+
+    @Test
+    public void randomSourceStaysWithinBoundsTest() {
+        try (RandomSource randomSource = RandomSource.acquire()) {
+            int[] counts = new int[10];
+            for (int draw = 0; draw < 10000; draw++) counts[randomSource.nextInt(10)]++;
+            for (int count : counts) assertTrue(count > 800 && count < 1200, "Skewed count " + count);
+            for (int draw = 0; draw < 1000; draw++) {
+                int value = randomSource.nextInt(100000);
+                assertTrue(value >= 0 && value < 100000);
+            }
+            assertEquals(0, randomSource.nextInt(1));
+            assertThrows(IllegalArgumentException.class, () -> randomSource.nextInt(0));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.passwordbox.utilities;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PasswordStrengthEstimatorTest {
+
+    private final FrequencyDictionary passwords = FrequencyDictionary.of("passwords", List.of("password", "123456", "qwerty", "monkey", "dragon", "letmein"));
+    private final FrequencyDictionary english = FrequencyDictionary.of("english", List.of("the", "correct", "horse", "battery", "staple", "sparrow"));
+    private final PasswordStrengthEstimator estimator = new PasswordStrengthEstimator(List.of(passwords, english), List.of(KeyboardGraph.QWERTY, KeyboardGraph.KEYPAD));
+
+    @Test
+    public void commonPasswordsScoreZeroTest() {
+        assertEquals(0, estimator.estimate("password").score());
+        assertEquals(0, estimator.estimate("Password").score());
+        assertEquals(0, estimator.estimate("drowssap").score());
+        assertEquals(0, estimator.estimate("").score());
+        assertEquals(0, estimator.estimate(null).score());
+    }
+
+    @Test
+    public void keyboardWalksScoreLowTest() {
+        assertTrue(estimator.estimate("qwertyuiop").score() <= 1);
+        assertTrue(estimator.estimate("zxcvbnm").score() <= 1);
+        assertTrue(estimator.estimate("qwertyuiop").guessesLog10() < estimator.estimate("qpwoeirutyx").guessesLog10());
+    }
+
+    @Test
+    public void userInputsAreTreatedAsDictionaryWordsTest() {
+        PasswordStrength withoutInputs = estimator.estimate("jackdaniels");
+        PasswordStrength withInputs = estimator.estimate("jackdaniels", "jackdaniels", "jack@gmail.com");
+
+        assertTrue(withoutInputs.score() >= 3);
+        assertEquals(0, withInputs.score());
+        assertEquals(withoutInputs, estimator.estimate("jackdaniels", null, " "));
+    }
+
+    @Test
+    public void leetSubstitutionsAreSeenThroughTest() {
+        assertEquals(0, estimator.estimate("p@ssw0rd").score());
+        assertTrue(estimator.estimate("P@ssw0rd").score() <= 1);
+        assertTrue(estimator.estimate("l3tm31n").score() <= 1);
+        assertTrue(estimator.estimate("p@ssw0rd").guessesLog10() < estimator.estimate("p@xsw0qd").guessesLog10());
+    }
+
+    @Test
+    public void randomPasswordsScoreHighTest() {
+        assertEquals(4, estimator.estimate("x7#Kq!2vLp9@Zr").score());
+        assertTrue(estimator.estimate("correcthorsebatterystaple").guessesLog10() > estimator.estimate("correcthorse").guessesLog10());
+    }
+
+    @Test
+    public void charactersBeyondTheAnalysedLengthCountAsBruteForceTest() {
+        String analysed = "password".repeat(8);
+        PasswordStrength truncated = estimator.estimate(analysed);
+        PasswordStrength longer = estimator.estimate(analysed + "abcd");
+
+        assertEquals(truncated.guessesLog10() + 4, longer.guessesLog10(), 1e-9);
+    }
+
+    @Test
+    public void dictionariesKnowTheirLongestWordTest() {
+        assertEquals(8, passwords.getMaxWordLength());
+        assertEquals(7, english.getMaxWordLength());
+        assertEquals(0, FrequencyDictionary.of("empty", List.of()).getMaxWordLength());
+    }
+}
@@ -0,0 +1,85 @@
+package com.passwordbox.utilities;
+
+import com.passwordbox.data.models.VaultItemType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TitleTrieTest {
+
+    private static SearchEntry entry(String title) {
+        return new SearchEntry(VaultItemType.LOGIN_INFO, title, title);
+    }
+
+    @Test
+    public void findsEntriesByPrefixTest() {
+        TitleTrie titleTrie = new TitleTrie();
+        titleTrie.add("github", entry("github"));
+        titleTrie.add("gitlab", entry("gitlab"));
+        titleTrie.add("gmail", entry("gmail"));
+
+        assertEquals(List.of(entry("github"), entry("gitlab")), titleTrie.findByPrefix("git", 10));
+        assertEquals(List.of(entry("gitlab")), titleTrie.findByPrefix("gitl", 10));
+        assertEquals(3, titleTrie.findByPrefix("g", 10).size());
+        assertTrue(titleTrie.findByPrefix("gx", 10).isEmpty());
+        assertTrue(titleTrie.findByPrefix("githubs", 10).isEmpty());
+    }
+
+    @Test
+    public void findByPrefixRespectsLimitTest() {
+        TitleTrie titleTrie = new TitleTrie();
+        titleTrie.add("bank one", entry("bank one"));
+        titleTrie.add("bank two", entry("bank two"));
+        titleTrie.add("bank three", entry("bank three"));
+
+        assertEquals(2, titleTrie.findByPrefix("bank", 2).size());
+    }
+
+    @Test
+    public void removingSiblingMergesParentWithOnlyChildTest() {
+        TitleTrie titleTrie = new TitleTrie();
+        titleTrie.add("ab", entry("ab"));
+        titleTrie.add("abc", entry("abc"));
+        titleTrie.add("abd", entry("abd"));
+
+        titleTrie.remove("ab", entry("ab"));
+        titleTrie.remove("abd", entry("abd"));
+
+        assertEquals(List.of(entry("abc")), titleTrie.findByPrefix("a", 10));
+        assertEquals(List.of(entry("abc")), titleTrie.findByPrefix("ab", 10));
+        assertEquals(List.of(entry("abc")), titleTrie.findByPrefix("abc", 10));
+        assertTrue(titleTrie.findByPrefix("abd", 10).isEmpty());
+
+        titleTrie.add("abx", entry("abx"));
+        assertEquals(List.of(entry("abc"), entry("abx")), titleTrie.findByPrefix("ab", 10));
+        assertEquals(List.of(entry("abx")), titleTrie.findByPrefix("abx", 10));
+    }
+
+    @Test
+    public void removingLastEntryPrunesBranchTest() {
+        TitleTrie titleTrie = new TitleTrie();
+        titleTrie.add("netflix", entry("netflix"));
+        titleTrie.add("network", entry("network"));
+
+        titleTrie.remove("network", entry("network"));
+        titleTrie.remove("netflix", entry("netflix"));
+
+        assertTrue(titleTrie.findByPrefix("n", 10).isEmpty());
+        titleTrie.add("net", entry("net"));
+        assertEquals(List.of(entry("net")), titleTrie.findByPrefix("ne", 10));
+    }
+
+    @Test
+    public void removingUnknownEntryIsIgnoredTest() {
+        TitleTrie titleTrie = new TitleTrie();
+        titleTrie.add("steam", entry("steam"));
+
+        titleTrie.remove("steam", entry("other"));
+        titleTrie.remove("stea", entry("steam"));
+        titleTrie.remove("steamy", entry("steam"));
+
+        assertEquals(List.of(entry("steam")), titleTrie.findByPrefix("st", 10));
+    }
+}
@@ -0,0 +1,71 @@
+package com.passwordbox.utilities;
+
+import com.passwordbox.data.models.VaultItemType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrigramIndexTest {
+
+    private static SearchEntry entry(String title) {
+        return new SearchEntry(VaultItemType.NOTE, title, title);
+    }
+
+    @Test
+    public void findsTitleWithTypoTest() {
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.add("paypal", entry("paypal"));
+        trigramIndex.add("dropbox", entry("dropbox"));
+
+        assertEquals(List.of(entry("paypal")), trigramIndex.findSimilar("paypla", 0.5, 10));
+    }
+
+    @Test
+    public void ignoresTitlesBelowThresholdTest() {
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.add("paypal", entry("paypal"));
+
+        assertTrue(trigramIndex.findSimilar("pinterest", 0.5, 10).isEmpty());
+        assertTrue(trigramIndex.findSimilar("", 0.5, 10).isEmpty());
+    }
+
+    @Test
+    public void ranksMoreSharedTrigramsFirstTest() {
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.add("bank of america", entry("bank of america"));
+        trigramIndex.add("bank", entry("bank"));
+        trigramIndex.add("banking app", entry("banking app"));
+
+        List<SearchEntry> found = trigramIndex.findSimilar("bank", 0.5, 10);
+        assertEquals(entry("bank"), found.get(0));
+        assertEquals(3, found.size());
+        assertEquals(1, trigramIndex.findSimilar("bank", 0.5, 1).size());
+    }
+
+    @Test
+    public void reusesSlotOfRemovedEntryTest() {
+        TrigramIndex trigramIndex = new TrigramIndex();
+        trigramIndex.add("github", entry("github"));
+        trigramIndex.add("gmail", entry("gmail"));
+
+        trigramIndex.remove("github", entry("github"));
+        trigramIndex.add("steam", entry("steam"));
+
+        assertTrue(trigramIndex.findSimilar("github", 0.5, 10).isEmpty());
+        assertEquals(List.of(entry("steam")), trigramIndex.findSimilar("steam", 0.5, 10));
+        assertEquals(List.of(entry("gmail")), trigramIndex.findSimilar("gmail", 0.5, 10));
+    }
+
+    @Test
+    public void repeatedSearchesReturnSameResultsTest() {
+        TrigramIndex trigramIndex = new TrigramIndex();
+        for (int count = 0; count < 40; count++) trigramIndex.add("account " + count, entry("account " + count));
+
+        List<SearchEntry> first = trigramIndex.findSimilar("acount 7", 0.5, 5);
+        List<SearchEntry> second = trigramIndex.findSimilar("acount 7", 0.5, 5);
+        assertEquals(first, second);
+        assertEquals(entry("account 7"), first.get(0));
+    }
+}
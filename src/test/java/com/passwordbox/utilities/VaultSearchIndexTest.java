@@ -0,0 +1,57 @@
+package com.passwordbox.utilities;
+
+import com.passwordbox.data.models.LoginInfo;
+import com.passwordbox.data.models.Vault;
+import com.passwordbox.data.models.VaultItemType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VaultSearchIndexTest {
+
+    private static Vault vaultOf(String... titles) {
+        Vault vault = new Vault();
+        for (String title : titles) {
+            LoginInfo loginInfo = new LoginInfo();
+            loginInfo.setId(title);
+            loginInfo.setTitle(title);
+            vault.addLoginInfo(loginInfo);
+        }
+        return vault;
+    }
+
+    @Test
+    public void findsTitleByPrefixTest() {
+        VaultSearchIndex vaultSearchIndex = VaultSearchIndex.of(vaultOf("gmail login", "github", "netflix"));
+
+        assertEquals("github", vaultSearchIndex.search("GitH", 10).get(0).title());
+    }
+
+    @Test
+    public void findsTitleByWordPrefixTest() {
+        VaultSearchIndex vaultSearchIndex = VaultSearchIndex.of(vaultOf("work email", "personal netflix"));
+
+        assertEquals("personal netflix", vaultSearchIndex.search("net", 10).get(0).title());
+        assertEquals("work email", vaultSearchIndex.search("  ema ", 10).get(0).title());
+    }
+
+    @Test
+    public void fallsBackToTypoSearchTest() {
+        VaultSearchIndex vaultSearchIndex = VaultSearchIndex.of(vaultOf("paypal", "dropbox"));
+
+        assertEquals("paypal", vaultSearchIndex.search("paypla", 10).get(0).title());
+        assertTrue(vaultSearchIndex.search("zzzz", 10).isEmpty());
+    }
+
+    @Test
+    public void applyReplacesRenamedEntryTest() {
+        Vault vault = vaultOf("github");
+        VaultSearchIndex vaultSearchIndex = VaultSearchIndex.of(vault);
+
+        vaultSearchIndex.apply(Mappers.searchEntryMap(vault.getLoginInfos().get(0)), new SearchEntry(VaultItemType.LOGIN_INFO, "github", "gitlab"));
+
+        assertEquals(1, vaultSearchIndex.getChangeSequence());
+        assertEquals("gitlab", vaultSearchIndex.search("gitl", 10).get(0).title());
+        assertTrue(vaultSearchIndex.search("gith", 10).stream().noneMatch(entry -> entry.title().equals("github")));
+    }
+}
@@ -0,0 +1,64 @@
+package com.passwordbox.utilities;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordlistTest {
+
+    @TempDir
+    Path directory;
+
+    private Wordlist wordlist(String contents) throws IOException {
+        Path file = directory.resolve("words.txt");
+        Files.writeString(file, contents, StandardCharsets.UTF_8);
+        return Wordlist.map("words", file);
+    }
+
+    private static Set<String> wordsOf(Wordlist wordlist) {
+        Set<String> words = new HashSet<>();
+        for (int index = 0; index < wordlist.size(); index++) {
+            StringBuilder word = new StringBuilder();
+            wordlist.appendWord(index, word);
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    @Test
+    public void takesLastColumnAndSkipsBlankLinesTest() throws Exception {
+        Wordlist wordlist = wordlist("11111\tabacus\r\n11112 abdomen\n\n   \nabide  \n");
+
+        assertEquals(3, wordlist.size());
+        assertEquals(Set.of("abacus", "abdomen", "abide"), wordsOf(wordlist));
+    }
+
+    @Test
+    public void dropsDuplicateWordsTest() throws Exception {
+        Wordlist wordlist = wordlist("apple\nbanana\napple\n11111\tbanana\ncherry\n");
+
+        assertEquals(3, wordlist.size());
+        assertEquals(Set.of("apple", "banana", "cherry"), wordsOf(wordlist));
+        assertEquals(Math.log(3) / Math.log(2), wordlist.bitsPerWord(), 1e-9);
+    }
+
+    @Test
+    public void keepsEncodedWordsTest() throws Exception {
+        Wordlist wordlist = wordlist("café\ncafe\nnaïve\n");
+
+        assertEquals(Set.of("café", "cafe", "naïve"), wordsOf(wordlist));
+    }
+
+    @Test
+    public void rejectsListWithFewerThanTwoDistinctWordsTest() {
+        assertThrows(IOException.class, () -> wordlist("apple\napple\n"));
+    }
+}